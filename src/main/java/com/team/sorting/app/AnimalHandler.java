@@ -10,7 +10,8 @@ import com.team.sorting.input.loader.LoaderFactory;
 import com.team.sorting.model.Animal;
 import com.team.sorting.search.BinarySearch;
 import com.team.sorting.search.FindElementsInCollection;
-import com.team.sorting.sort.InsertionSort;
+import com.team.sorting.sort.Sort;
+import com.team.sorting.sort.SortStrategySelector;
 
 import java.util.Comparator;
 import java.util.List;
@@ -22,13 +23,39 @@ import java.util.Scanner;
  * Provides functionality to:
  * <ul>
  *     <li>Load animals from file, generate them, or input manually.</li>
- *     <li>Sort animals using insertion sort and natural ordering.</li>
+ *     <li>Sort animals with the configured {@link Sort} strategy and natural ordering.</li>
  *     <li>Search for a specific animal using binary search.</li>
  *     <li>Perform a global search across the collection for any matching value.</li>
  * </ul>
  */
 public class AnimalHandler implements EntityHandler<Animal> {
 
+    /**
+     * Sorting strategy used to order animals before searching.
+     */
+    private final Sort<Animal> sorter;
+
+    /**
+     * Creates a handler that sorts animals with a {@link SortStrategySelector}, which picks the engine
+     * from the size and presortedness of the input.
+     */
+    public AnimalHandler() {
+        this(SortStrategySelector.forAnimals());
+    }
+
+    /**
+     * Creates a handler that sorts animals with the given strategy.
+     *
+     * @param sorter the sorting strategy to use; must not be {@code null}
+     * @throws IllegalArgumentException if {@code sorter} is {@code null}
+     */
+    public AnimalHandler(Sort<Animal> sorter) {
+        if (sorter == null) {
+            throw new IllegalArgumentException("Sorter must not be null");
+        }
+        this.sorter = sorter;
+    }
+
     /**
      * Loads a collection of animals depending on the input choice.
      *
@@ -68,7 +95,7 @@ public class AnimalHandler implements EntityHandler<Animal> {
      * The method:
      * <ol>
      *     <li>Prints the original collection of animals.</li>
-     *     <li>Sorts them with {@link InsertionSort} using natural ordering and prints the result.</li>
+     *     <li>Sorts them with the configured {@link Sort} strategy using natural ordering and prints the result.</li>
      *     <li>Prompts the user to enter a full animal specification (species, eye color, fur, eatsBun)
      *         and performs a binary search with {@link BinarySearch}.</li>
      *     <li>Prompts for a value to search across all fields of all animals using
@@ -85,7 +112,6 @@ public class AnimalHandler implements EntityHandler<Animal> {
         FileRecorder.writeCollectionToFile(animals, "output.txt");
 
         // Sorting
-        InsertionSort<Animal> sorter = new InsertionSort<>();
         List<Animal> sorted = sorter.sort(animals, Comparator.naturalOrder());
         System.out.println("\nSorted Animals:");
         sorted.forEach(System.out::println);
@@ -10,7 +10,9 @@ import com.team.sorting.input.loader.LoaderFactory;
 import com.team.sorting.model.Barrel;
 import com.team.sorting.search.BinarySearch;
 import com.team.sorting.search.FindElementsInCollection;
-import com.team.sorting.sort.InsertionSort;
+import com.team.sorting.sort.PartitionedFieldSort;
+import com.team.sorting.sort.Sort;
+import com.team.sorting.sort.SortStrategySelector;
 
 import java.util.Comparator;
 import java.util.List;
@@ -20,13 +22,39 @@ import java.util.Scanner;
  * Handles operations for {@link Barrel} entities:
  * <ul>
  *     <li>Loading barrels from file, generator, or user input</li>
- *     <li>Sorting barrels using {@link InsertionSort}</li>
+ *     <li>Sorting barrels using the configured {@link Sort} strategy ({@link SortStrategySelector} by default)</li>
  *     <li>Searching barrels with {@link BinarySearch}</li>
  *     <li>Performing global search with {@link FindElementsInCollection}</li>
  * </ul>
  */
 public class BarrelHandler implements EntityHandler<Barrel> {
 
+    /**
+     * Sorting strategy used to order barrels before searching.
+     */
+    private final Sort<Barrel> sorter;
+
+    /**
+     * Creates a handler that sorts barrels with a {@link SortStrategySelector}, which picks the engine
+     * from the size and presortedness of the input.
+     */
+    public BarrelHandler() {
+        this(SortStrategySelector.forBarrels());
+    }
+
+    /**
+     * Creates a handler that sorts barrels with the given strategy.
+     *
+     * @param sorter the sorting strategy to use; must not be {@code null}
+     * @throws IllegalArgumentException if {@code sorter} is {@code null}
+     */
+    public BarrelHandler(Sort<Barrel> sorter) {
+        if (sorter == null) {
+            throw new IllegalArgumentException("Sorter must not be null");
+        }
+        this.sorter = sorter;
+    }
+
     /**
      * Loads a list of {@link Barrel} entities based on the chosen input method.
      *
@@ -66,7 +94,8 @@ public class BarrelHandler implements EntityHandler<Barrel> {
      * Steps:
      * <ol>
      *     <li>Prints the original list of barrels</li>
-     *     <li>Sorts barrels with {@link InsertionSort}</li>
+     *     <li>Sorts barrels with the configured {@link Sort} strategy</li>
+     *     <li>Sorts barrels with an even volume by volume, leaving the others in place</li>
      *     <li>Prompts the user to enter a search key (volume, material, stored material)</li>
      *     <li>Performs {@link BinarySearch} for an exact match</li>
      *     <li>Asks for a value and performs global search across collections</li>
@@ -82,12 +111,18 @@ public class BarrelHandler implements EntityHandler<Barrel> {
         FileRecorder.writeCollectionToFile(barrels, "output.txt");
 
         // Sorting
-        InsertionSort<Barrel> sorter = new InsertionSort<>();
         List<Barrel> sorted = sorter.sort(barrels, Comparator.naturalOrder());
         System.out.println("\nSorted Barrels:");
         sorted.forEach(System.out::println);
         FileRecorder.writeCollectionToFile(sorted, "output.txt");
 
+        // Sorting by volume, even values only
+        List<Barrel> evenSorted = PartitionedFieldSort.evenValues(Barrel::getVolume)
+                .sort(barrels, Comparator.comparingInt(Barrel::getVolume));
+        System.out.println("\nSorted Barrels (even volumes only):");
+        evenSorted.forEach(System.out::println);
+        FileRecorder.writeCollectionToFile(evenSorted, "output.txt");
+
         // Searching
         System.out.println("\nEnter search key (exact values only):");
         System.out.println("Format: Volume Material StoredMaterial");
@@ -10,7 +10,9 @@ import com.team.sorting.input.loader.LoaderFactory;
 import com.team.sorting.model.Human;
 import com.team.sorting.search.BinarySearch;
 import com.team.sorting.search.FindElementsInCollection;
-import com.team.sorting.sort.InsertionSort;
+import com.team.sorting.sort.PartitionedFieldSort;
+import com.team.sorting.sort.Sort;
+import com.team.sorting.sort.SortStrategySelector;
 
 import java.util.Comparator;
 import java.util.List;
@@ -25,6 +27,32 @@ import java.util.Scanner;
  */
 public class HumanHandler implements EntityHandler<Human> {
 
+    /**
+     * Sorting strategy used to order humans before searching.
+     */
+    private final Sort<Human> sorter;
+
+    /**
+     * Creates a handler that sorts humans with a {@link SortStrategySelector}, which picks the engine
+     * from the size and presortedness of the input.
+     */
+    public HumanHandler() {
+        this(new SortStrategySelector<>());
+    }
+
+    /**
+     * Creates a handler that sorts humans with the given strategy.
+     *
+     * @param sorter the sorting strategy to use; must not be {@code null}
+     * @throws IllegalArgumentException if {@code sorter} is {@code null}
+     */
+    public HumanHandler(Sort<Human> sorter) {
+        if (sorter == null) {
+            throw new IllegalArgumentException("Sorter must not be null");
+        }
+        this.sorter = sorter;
+    }
+
     /**
      * Loads a list of humans based on the user's choice.
      *
@@ -60,7 +88,8 @@ public class HumanHandler implements EntityHandler<Human> {
      * Sorts the list of humans, allows the user to search for a specific human
      * by exact criteria using binary search, and performs a global search across all collections.
      * <p>
-     * Prints the original and sorted lists, search results, and counts of matching elements.
+     * Prints the original and sorted lists, the list with only even ages sorted by age,
+     * search results, and counts of matching elements.
      *
      * @param humans the list of humans to process
      * @param scanner the scanner used for reading user input
@@ -72,12 +101,18 @@ public class HumanHandler implements EntityHandler<Human> {
         FileRecorder.writeCollectionToFile(humans, "output.txt");
 
         // Sorting
-        InsertionSort<Human> sorter = new InsertionSort<>();
         List<Human> sorted = sorter.sort(humans, Comparator.naturalOrder());
         System.out.println("\nSorted Humans:");
         sorted.forEach(System.out::println);
         FileRecorder.writeCollectionToFile(sorted, "output.txt");
 
+        // Sorting by age, even values only
+        List<Human> evenSorted = PartitionedFieldSort.evenValues(Human::getAge)
+                .sort(humans, Comparator.comparingInt(Human::getAge));
+        System.out.println("\nSorted Humans (even ages only):");
+        evenSorted.forEach(System.out::println);
+        FileRecorder.writeCollectionToFile(evenSorted, "output.txt");
+
         // Searching
         System.out.println("\nEnter search key (exact values only):");
         System.out.println("Format: Gender Age LastName");
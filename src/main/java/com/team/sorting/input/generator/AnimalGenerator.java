@@ -1,13 +1,19 @@
 package com.team.sorting.input.generator;
 
 import com.team.sorting.model.Animal;
+import com.team.sorting.model.PackedAnimal;
 
 import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * A generator class responsible for creating random Animal objects.
  * Each Animal has a randomly selected species, eye color, fur type, and bun-eating preference.
+ * <p>
+ * Animals are immutable and there are only {@value PackedAnimal#CODES} different ones, so the generator
+ * returns the shared instances of {@link PackedAnimal} instead of allocating a new animal per element.
  */
 public class AnimalGenerator implements EntityGenerator<Animal> {
 
@@ -19,21 +25,26 @@ public class AnimalGenerator implements EntityGenerator<Animal> {
      */
     @Override
     public List<Animal> generate(int count) {
-        return java.util.stream.IntStream.range(0, count)
+        return stream(count).toList();
+    }
+
+    /**
+     * Generates random Animal objects lazily, one per consumed stream element.
+     *
+     * @param count The number of Animal objects to generate.
+     * @return A sequential stream of randomly generated Animal objects.
+     */
+    @Override
+    public Stream<Animal> stream(int count) {
+        return IntStream.range(0, count)
                 .mapToObj(i -> {
                     Animal.Species species = getRandomEnum(Animal.Species.class);
                     Animal.EyeColor eyeColor = getRandomEnum(Animal.EyeColor.class);
                     Animal.Fur fur = getRandomEnum(Animal.Fur.class);
                     boolean eatsBun = ThreadLocalRandom.current().nextBoolean();
 
-                    return new Animal.Builder()
-                            .species(species)
-                            .eyeColor(eyeColor)
-                            .fur(fur)
-                            .eatsBun(eatsBun)
-                            .build();
-                })
-                .toList();
+                    return PackedAnimal.of(species, eyeColor, fur, eatsBun);
+                });
     }
 
     /**
@@ -1,9 +1,12 @@
 package com.team.sorting.input.generator;
 
+import com.team.sorting.model.EntityInterner;
 import com.team.sorting.model.Barrel;
 
 import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * A generator class responsible for creating random Barrel objects.
@@ -11,6 +14,32 @@ import java.util.concurrent.ThreadLocalRandom;
  */
 public class BarrelGenerator implements EntityGenerator<Barrel> {
 
+    /**
+     * Interner of the generated Barrel objects, or {@code null} if every element is a new object.
+     */
+    private final EntityInterner<Barrel> interner;
+
+    /**
+     * Creates a generator returning a new Barrel object per element.
+     */
+    public BarrelGenerator() {
+        this.interner = null;
+    }
+
+    /**
+     * Creates a generator returning the canonical instances of the generated Barrel objects,
+     * so a large batch retains one object per distinct value.
+     *
+     * @param interner The interner of the generated Barrel objects; must not be {@code null}.
+     * @throws IllegalArgumentException if {@code interner} is {@code null}.
+     */
+    public BarrelGenerator(EntityInterner<Barrel> interner) {
+        if (interner == null) {
+            throw new IllegalArgumentException("Interner must not be null");
+        }
+        this.interner = interner;
+    }
+
     /**
      * Generates a list of random Barrel objects.
      *
@@ -19,7 +48,18 @@ public class BarrelGenerator implements EntityGenerator<Barrel> {
      */
     @Override
     public List<Barrel> generate(int count) {
-        return java.util.stream.IntStream.range(0, count)
+        return stream(count).toList();
+    }
+
+    /**
+     * Generates random Barrel objects lazily, one per consumed stream element.
+     *
+     * @param count The number of Barrel objects to generate.
+     * @return A sequential stream of randomly generated Barrel objects.
+     */
+    @Override
+    public Stream<Barrel> stream(int count) {
+        return IntStream.range(0, count)
                 .mapToObj(i -> {
                     int volume = 50 + ThreadLocalRandom.current().nextInt(951); // 50–1000
                     Barrel.StoredMaterial storedMaterial = getRandomEnum(Barrel.StoredMaterial.class);
@@ -31,7 +71,7 @@ public class BarrelGenerator implements EntityGenerator<Barrel> {
                             .material(material)
                             .build();
                 })
-                .toList();
+                .map(entity -> interner != null ? interner.intern(entity) : entity);
     }
 
     /**
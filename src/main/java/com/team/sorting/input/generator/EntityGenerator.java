@@ -1,10 +1,11 @@
 package com.team.sorting.input.generator;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * A generic interface for entity generators.
- * Defines a method for generating a list of objects of type T.
+ * Defines methods for generating a list or a lazy stream of objects of type T.
  *
  * @param <T> The type of entity to generate.
  */
@@ -17,4 +18,16 @@ public interface EntityGenerator<T> {
      * @return A list containing the generated entities.
      */
     List<T> generate(int count);
+
+    /**
+     * Generates entities lazily, one at a time as the stream is consumed, so they can be processed
+     * without materializing the whole list first.
+     * The default implementation streams the result of {@link #generate(int)}.
+     *
+     * @param count The number of entities to generate.
+     * @return A sequential stream of the generated entities.
+     */
+    default Stream<T> stream(int count) {
+        return generate(count).stream();
+    }
 }
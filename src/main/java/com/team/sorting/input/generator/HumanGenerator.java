@@ -1,9 +1,12 @@
 package com.team.sorting.input.generator;
 
+import com.team.sorting.model.EntityInterner;
 import com.team.sorting.model.Human;
 
 import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * A generator class responsible for creating random Human objects.
@@ -11,6 +14,32 @@ import java.util.concurrent.ThreadLocalRandom;
  */
 public class HumanGenerator implements EntityGenerator<Human> {
 
+    /**
+     * Interner of the generated Human objects, or {@code null} if every element is a new object.
+     */
+    private final EntityInterner<Human> interner;
+
+    /**
+     * Creates a generator returning a new Human object per element.
+     */
+    public HumanGenerator() {
+        this.interner = null;
+    }
+
+    /**
+     * Creates a generator returning the canonical instances of the generated Human objects,
+     * so a large batch retains one object per distinct value.
+     *
+     * @param interner The interner of the generated Human objects; must not be {@code null}.
+     * @throws IllegalArgumentException if {@code interner} is {@code null}.
+     */
+    public HumanGenerator(EntityInterner<Human> interner) {
+        if (interner == null) {
+            throw new IllegalArgumentException("Interner must not be null");
+        }
+        this.interner = interner;
+    }
+
     /**
      * Predefined set of last names used for generating random humans.
      */
@@ -24,7 +53,18 @@ public class HumanGenerator implements EntityGenerator<Human> {
      */
     @Override
     public List<Human> generate(int count) {
-        return java.util.stream.IntStream.range(0, count)
+        return stream(count).toList();
+    }
+
+    /**
+     * Generates random Human objects lazily, one per consumed stream element.
+     *
+     * @param count The number of Human objects to generate.
+     * @return A sequential stream of randomly generated Human objects.
+     */
+    @Override
+    public Stream<Human> stream(int count) {
+        return IntStream.range(0, count)
                 .mapToObj(i -> {
                     Human.Gender gender = getRandomEnum(Human.Gender.class);
                     int age = 18 + ThreadLocalRandom.current().nextInt(63); // 18–80
@@ -36,7 +76,7 @@ public class HumanGenerator implements EntityGenerator<Human> {
                             .lastName(lastName)
                             .build();
                 })
-                .toList();
+                .map(entity -> interner != null ? interner.intern(entity) : entity);
     }
 
     /**
@@ -1,13 +1,17 @@
 package com.team.sorting.input.loader;
 
+import com.team.sorting.model.EntityInterner;
+
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 /**
  * Base class for entity loaders. It removes code duplication for file reading.
@@ -17,9 +21,37 @@ import java.util.Objects;
  * returns a new BufferedReader, so separate threads should use their own reader
  * instances. Additionally, the thread-safety of {@link #parseLine(String)} depends
  * on its concrete implementation and any shared mutable state it may access.
+ * <p>
+ * A loader created with an {@link EntityInterner} replaces every parsed entity by its canonical instance,
+ * so a large file with repeated values retains one object per distinct value.
  */
 public abstract class AbstractLoader<T> implements EntityLoader<T> {
 
+    /**
+     * Interner of the parsed entities, or {@code null} if they are returned as parsed.
+     */
+    private final EntityInterner<T> interner;
+
+    /**
+     * Creates a loader returning the entities as parsed.
+     */
+    protected AbstractLoader() {
+        this.interner = null;
+    }
+
+    /**
+     * Creates a loader returning the canonical instances of the parsed entities.
+     *
+     * @param interner The interner of the parsed entities; must not be {@code null}.
+     * @throws IllegalArgumentException if {@code interner} is {@code null}.
+     */
+    protected AbstractLoader(EntityInterner<T> interner) {
+        if (interner == null) {
+            throw new IllegalArgumentException("Interner must not be null");
+        }
+        this.interner = interner;
+    }
+
     /**
      * Loads entities from the given resource path using a stream-based pipeline.
      * Invalid lines are skipped with an error message to stderr.
@@ -29,21 +61,46 @@ public abstract class AbstractLoader<T> implements EntityLoader<T> {
      */
     @Override
     public List<T> load(String resourcePath) {
-        try (BufferedReader bufferedReader = getBufferedReader(resourcePath)) {
-            return bufferedReader.lines()
-                    .map(line -> {
-                        try {
-                            return parseLine(line);
-                        } catch (Exception e) {
-                            System.err.println("Skipping an invalid line: " + line);
-                            return null;
-                        }
-                    })
-                    .filter(Objects::nonNull)
-                    .toList();
+        try (Stream<T> entities = stream(resourcePath)) {
+            return entities.toList();
+        }
+    }
+
+    /**
+     * Lazily parses entities from the given resource path: lines are read and parsed only as the
+     * stream is consumed, so the whole file never has to fit in memory.
+     * Invalid lines are skipped with an error message to stderr.
+     * The stream must be closed after use to release the underlying reader.
+     *
+     * @param resourcePath The path to the input resource or file.
+     * @return Stream of parsed entities.
+     */
+    @Override
+    public Stream<T> stream(String resourcePath) {
+        BufferedReader bufferedReader;
+        try {
+            bufferedReader = getBufferedReader(resourcePath);
         } catch (IOException e) {
             throw new RuntimeException("Error reading the file: " + resourcePath, e);
         }
+        return bufferedReader.lines()
+                .map(line -> {
+                    try {
+                        return parseLine(line);
+                    } catch (Exception e) {
+                        System.err.println("Skipping an invalid line: " + line);
+                        return null;
+                    }
+                })
+                .filter(Objects::nonNull)
+                .map(entity -> interner != null ? interner.intern(entity) : entity)
+                .onClose(() -> {
+                    try {
+                        bufferedReader.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Error closing the file: " + resourcePath, e);
+                    }
+                });
     }
 
     /**
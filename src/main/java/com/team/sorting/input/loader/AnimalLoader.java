@@ -1,6 +1,7 @@
 package com.team.sorting.input.loader;
 
 import com.team.sorting.model.Animal;
+import com.team.sorting.model.PackedAnimal;
 
 
 /**
@@ -11,6 +12,9 @@ import com.team.sorting.model.Animal;
  * Example:
  * DOG, BROWN, SHORT, true
  * CAT, GREEN, LONG, false
+ * <p>
+ * Parsed animals are the shared instances of {@link PackedAnimal}, so loading a large file retains no more
+ * than {@value PackedAnimal#CODES} animal objects.
  */
 public class AnimalLoader extends AbstractLoader<Animal> {
 
@@ -19,7 +23,7 @@ public class AnimalLoader extends AbstractLoader<Animal> {
      * The line is expected to contain four fields separated by non-alphanumeric characters.
      *
      * @param line The string line to be parsed.
-     * @return A new Animal object.
+     * @return The shared Animal object with the parsed fields.
      * @throws IllegalArgumentException if the line format is incorrect or contains invalid values.
      */
     @Override
@@ -32,12 +36,7 @@ public class AnimalLoader extends AbstractLoader<Animal> {
         Animal.Fur fur = parseEnum(tokens[2], Animal.Fur.class);
         boolean eatsBun = parseBooleanStrict(tokens[3]);
 
-        return new Animal.Builder()
-                .species(species)
-                .eyeColor(eyeColor)
-                .fur(fur)
-                .eatsBun(eatsBun)
-                .build();
+        return PackedAnimal.of(species, eyeColor, fur, eatsBun);
     }
 
     /**
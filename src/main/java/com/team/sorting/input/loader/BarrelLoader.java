@@ -1,5 +1,6 @@
 package com.team.sorting.input.loader;
 
+import com.team.sorting.model.EntityInterner;
 import com.team.sorting.model.Barrel;
 
 
@@ -14,6 +15,22 @@ import com.team.sorting.model.Barrel;
  */
 public class BarrelLoader extends AbstractLoader<Barrel> {
 
+    /**
+     * Creates a loader returning a new Barrel object per line.
+     */
+    public BarrelLoader() {
+    }
+
+    /**
+     * Creates a loader returning the canonical instances of the parsed Barrel objects.
+     *
+     * @param interner The interner of the parsed Barrel objects; must not be {@code null}.
+     * @throws IllegalArgumentException if {@code interner} is {@code null}.
+     */
+    public BarrelLoader(EntityInterner<Barrel> interner) {
+        super(interner);
+    }
+
     /**
      * Parses a single line of text into a Barrel object.
      * The line is expected to contain three fields separated by non-alphanumeric characters.
@@ -1,6 +1,7 @@
 package com.team.sorting.input.loader;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * A generic interface for classes that load and parse entities from a file.
@@ -17,4 +18,18 @@ public interface EntityLoader<T> {
      * @return A list of valid entities parsed from the file.
      */
     List<T> load(String filepath);
+
+    /**
+     * Returns the entities of the specified file as a stream.
+     * The stream must be closed after use to release the file.
+     * <p>
+     * The default implementation loads the whole file first; implementations that can parse
+     * lazily should override it, so that files larger than the heap can be processed.
+     *
+     * @param filepath The path to the file containing the entity data.
+     * @return A stream of valid entities parsed from the file.
+     */
+    default Stream<T> stream(String filepath) {
+        return load(filepath).stream();
+    }
 }
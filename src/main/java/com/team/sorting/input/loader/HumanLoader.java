@@ -1,5 +1,6 @@
 package com.team.sorting.input.loader;
 
+import com.team.sorting.model.EntityInterner;
 import com.team.sorting.model.Human;
 
 
@@ -14,6 +15,22 @@ import com.team.sorting.model.Human;
  */
 public class HumanLoader extends AbstractLoader<Human> {
 
+    /**
+     * Creates a loader returning a new Human object per line.
+     */
+    public HumanLoader() {
+    }
+
+    /**
+     * Creates a loader returning the canonical instances of the parsed Human objects.
+     *
+     * @param interner The interner of the parsed Human objects; must not be {@code null}.
+     * @throws IllegalArgumentException if {@code interner} is {@code null}.
+     */
+    public HumanLoader(EntityInterner<Human> interner) {
+        super(interner);
+    }
+
     /**
      * Parses a single line of text into a Human object.
      * The line is expected to contain three fields: gender, age, and last name.
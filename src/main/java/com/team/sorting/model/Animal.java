@@ -1,18 +1,17 @@
 package com.team.sorting.model;
 
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.Objects;
 
 /**
  * Represents an animal with species, eye color, fur type, and food preferences.
  * Implements {@link Comparable} to allow natural ordering by
  * species → eyeColor → fur.
+ * <p>
+ * Animals are immutable value objects: all fields are final, so instances can be shared between
+ * threads without locking and getters are plain field reads. Changing a field creates a copy
+ * through the {@code withX} methods. Two animals are equal if all their fields are equal.
  */
-public class Animal implements Comparable<Animal> {
-
-    /**
-     * Lock to ensure thread-safe access to fields.
-     */
-    private final ReentrantLock lock = new ReentrantLock();
+public final class Animal implements Comparable<Animal> {
 
     /**
      * Enumeration of animal species supported by the system.
@@ -38,33 +37,36 @@ public class Animal implements Comparable<Animal> {
     /**
      * The species of the animal.
      */
-    private Species species;
+    private final Species species;
 
     /**
      * The eye color of the animal.
      */
-    private EyeColor eyeColor;
+    private final EyeColor eyeColor;
 
     /**
      * The type of fur the animal has.
      */
-    private Fur fur;
+    private final Fur fur;
 
     /**
      * Indicates whether the animal eats buns (bread).
      */
-    private boolean eatsBun;
+    private final boolean eatsBun;
 
     /**
-     * Private constructor used by the {@link Builder} to create an Animal instance.
+     * Private constructor used by the {@link Builder} and the {@code withX} methods.
      *
-     * @param builder The Builder containing the configuration for this Animal.
+     * @param species The species of the animal.
+     * @param eyeColor The eye color of the animal.
+     * @param fur The fur type of the animal.
+     * @param eatsBun Whether the animal eats buns.
      */
-    private Animal(Builder builder) {
-        this.species = builder.species;
-        this.eyeColor = builder.eyeColor;
-        this.fur = builder.fur;
-        this.eatsBun = builder.eatsBun;
+    private Animal(Species species, EyeColor eyeColor, Fur fur, boolean eatsBun) {
+        this.species = species;
+        this.eyeColor = eyeColor;
+        this.fur = fur;
+        this.eatsBun = eatsBun;
     }
 
     /**
@@ -73,12 +75,7 @@ public class Animal implements Comparable<Animal> {
      * @return The species of the animal.
      */
     public Species getSpecies() {
-        lock.lock();
-        try {
-            return species;
-        } finally {
-            lock.unlock();
-        }
+        return species;
     }
 
     /**
@@ -87,12 +84,7 @@ public class Animal implements Comparable<Animal> {
      * @return The eye color of the animal.
      */
     public EyeColor getEyeColor() {
-        lock.lock();
-        try {
-            return eyeColor;
-        } finally {
-            lock.unlock();
-        }
+        return eyeColor;
     }
 
     /**
@@ -101,12 +93,7 @@ public class Animal implements Comparable<Animal> {
      * @return The fur type of the animal.
      */
     public Fur getFur() {
-        lock.lock();
-        try {
-            return fur;
-        } finally {
-            lock.unlock();
-        }
+        return fur;
     }
 
     /**
@@ -115,68 +102,47 @@ public class Animal implements Comparable<Animal> {
      * @return true if the animal eats buns, false otherwise.
      */
     public boolean getEatsBun() {
-        lock.lock();
-        try {
-            return eatsBun;
-        } finally {
-            lock.unlock();
-        }
+        return eatsBun;
     }
 
     /**
-     * Sets the species of the animal.
+     * Returns a copy of the animal with the given species.
      *
-     * @param species The species to set for the animal.
+     * @param species The species of the copy.
+     * @return A new Animal with the given species and the other fields of this one.
      */
-    public void setSpecies(Species species) {
-        lock.lock();
-        try {
-            this.species = species;
-        } finally {
-            lock.unlock();
-        }
+    public Animal withSpecies(Species species) {
+        return new Animal(species, eyeColor, fur, eatsBun);
     }
 
     /**
-     * Sets the eye color of the animal.
+     * Returns a copy of the animal with the given eye color.
      *
-     * @param eyeColor The eye color to set for the animal.
+     * @param eyeColor The eye color of the copy.
+     * @return A new Animal with the given eye color and the other fields of this one.
      */
-    public void setEyeColor(EyeColor eyeColor) {
-        lock.lock();
-        try {
-            this.eyeColor = eyeColor;
-        } finally {
-            lock.unlock();
-        }
+    public Animal withEyeColor(EyeColor eyeColor) {
+        return new Animal(species, eyeColor, fur, eatsBun);
     }
 
     /**
-     * Sets the fur type of the animal.
+     * Returns a copy of the animal with the given fur type.
      *
-     * @param fur The fur type to set for the animal.
+     * @param fur The fur type of the copy.
+     * @return A new Animal with the given fur type and the other fields of this one.
      */
-    public void setFur(Fur fur) {
-        lock.lock();
-        try {
-            this.fur = fur;
-        } finally {
-            lock.unlock();
-        }
+    public Animal withFur(Fur fur) {
+        return new Animal(species, eyeColor, fur, eatsBun);
     }
 
     /**
-     * Sets whether the animal eats buns.
+     * Returns a copy of the animal that does or does not eat buns.
      *
-     * @param eatsBun true if the animal eats buns, false otherwise.
+     * @param eatsBun true if the copy eats buns, false otherwise.
+     * @return A new Animal with the given preference and the other fields of this one.
      */
-    public void setEatsBun(boolean eatsBun) {
-        lock.lock();
-        try {
-            this.eatsBun = eatsBun;
-        } finally {
-            lock.unlock();
-        }
+    public Animal withEatsBun(boolean eatsBun) {
+        return new Animal(species, eyeColor, fur, eatsBun);
     }
 
     /**
@@ -218,6 +184,32 @@ public class Animal implements Comparable<Animal> {
         return Boolean.compare(this.eatsBun, other.eatsBun);
     }
 
+    /**
+     * Checks whether the other object is an animal with the same fields.
+     *
+     * @param other the object to compare with
+     * @return true if the object is an equal animal, false otherwise
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof Animal animal)) return false;
+        return species == animal.species
+                && eyeColor == animal.eyeColor
+                && fur == animal.fur
+                && eatsBun == animal.eatsBun;
+    }
+
+    /**
+     * Returns a hash code consistent with {@link #equals(Object)}.
+     *
+     * @return the hash code of the animal
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(species, eyeColor, fur, eatsBun);
+    }
+
     /**
      * Returns a string representation of the animal in Russian.
      * The format includes all the animal's characteristics in a readable format.
@@ -226,29 +218,20 @@ public class Animal implements Comparable<Animal> {
      */
     @Override
     public String toString() {
-        lock.lock();
-        try {
-            return "Animal: " +
-                    (species != null ? species + ", " : "") +
-                    (eyeColor != null ? "eyes " + eyeColor + ", " : "") +
-                    (fur != null ? "fur " + fur + ", " : "") +
-                    (eatsBun ? "likes buns, " : "does not like buns, ") +
-                    "ready for life!";
-        } finally {
-            lock.unlock();
-        }
+        return "Animal: " +
+                (species != null ? species + ", " : "") +
+                (eyeColor != null ? "eyes " + eyeColor + ", " : "") +
+                (fur != null ? "fur " + fur + ", " : "") +
+                (eatsBun ? "likes buns, " : "does not like buns, ") +
+                "ready for life!";
     }
 
     /**
-     * Thread-safe Builder Inner Class for creating Animal instances.
+     * Builder Inner Class for creating Animal instances.
+     * A builder is meant to be used by one thread; the animals it builds can be shared freely.
      */
     public static class Builder {
 
-        /**
-         * Lock to ensure thread-safe access to builder methods.
-         */
-        private final ReentrantLock lock = new ReentrantLock();
-
         /**
          * The species to be set in the Animal being built.
          */
@@ -276,13 +259,8 @@ public class Animal implements Comparable<Animal> {
          * @return This builder instance for method chaining.
          */
         public Builder species(Species species) {
-            lock.lock();
-            try {
-                this.species = species;
-                return this;
-            } finally {
-                lock.unlock();
-            }
+            this.species = species;
+            return this;
         }
 
         /**
@@ -292,13 +270,8 @@ public class Animal implements Comparable<Animal> {
          * @return This builder instance for method chaining.
          */
         public Builder eyeColor(EyeColor eyeColor) {
-            lock.lock();
-            try {
-                this.eyeColor = eyeColor;
-                return this;
-            } finally {
-                lock.unlock();
-            }
+            this.eyeColor = eyeColor;
+            return this;
         }
 
         /**
@@ -308,13 +281,8 @@ public class Animal implements Comparable<Animal> {
          * @return This builder instance for method chaining.
          */
         public Builder fur(Fur fur) {
-            lock.lock();
-            try {
-                this.fur = fur;
-                return this;
-            } finally {
-                lock.unlock();
-            }
+            this.fur = fur;
+            return this;
         }
 
         /**
@@ -324,13 +292,8 @@ public class Animal implements Comparable<Animal> {
          * @return This builder instance for method chaining.
          */
         public Builder eatsBun(boolean eatsBun) {
-            lock.lock();
-            try {
-                this.eatsBun = eatsBun;
-                return this;
-            } finally {
-                lock.unlock();
-            }
+            this.eatsBun = eatsBun;
+            return this;
         }
 
         /**
@@ -339,12 +302,7 @@ public class Animal implements Comparable<Animal> {
          * @return A new Animal object.
          */
         public Animal build() {
-            lock.lock();
-            try {
-                return new Animal(this);
-            } finally {
-                lock.unlock();
-            }
+            return new Animal(species, eyeColor, fur, eatsBun);
         }
     }
 }
@@ -1,18 +1,17 @@
 package com.team.sorting.model;
 
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.Objects;
 
 /**
  * Barrel with volume, stored material, and construction material.
  * Implements {@link Comparable} to allow natural ordering by
  * volume → storedMaterial → material.
+ * <p>
+ * Barrels are immutable value objects: all fields are final, so instances can be shared between
+ * threads without locking and getters are plain field reads. Changing a field creates a copy
+ * through the {@code withX} methods. Two barrels are equal if all their fields are equal.
  */
-public class Barrel implements Comparable<Barrel> {
-
-    /**
-     * Lock to ensure thread-safe access to fields.
-     */
-    private final ReentrantLock lock = new ReentrantLock();
+public final class Barrel implements Comparable<Barrel> {
 
     /**
      * Enumeration of materials that can be stored in barrels.
@@ -31,27 +30,29 @@ public class Barrel implements Comparable<Barrel> {
     /**
      * The volume of the barrel in liters.
      */
-    private int volume;
+    private final int volume;
 
     /**
      * The material stored inside the barrel.
      */
-    private StoredMaterial storedMaterial;
+    private final StoredMaterial storedMaterial;
 
     /**
      * The material used to construct the barrel.
      */
-    private Material material;
+    private final Material material;
 
     /**
-     * Private constructor used by the {@link Builder} to create a Barrel instance.
+     * Private constructor used by the {@link Builder} and the {@code withX} methods.
      *
-     * @param builder The Builder containing the configuration for this Barrel.
-     */
-    private Barrel(Builder builder) {
-        this.volume = builder.volume;
-        this.storedMaterial = builder.storedMaterial;
-        this.material = builder.material;
+     * @param volume The volume of the barrel in liters.
+     * @param storedMaterial The material stored inside the barrel.
+     * @param material The material used to construct the barrel.
+     */
+    private Barrel(int volume, StoredMaterial storedMaterial, Material material) {
+        this.volume = volume;
+        this.storedMaterial = storedMaterial;
+        this.material = material;
     }
 
     /**
@@ -60,12 +61,7 @@ public class Barrel implements Comparable<Barrel> {
      * @return The volume of the barrel in liters.
      */
     public int getVolume() {
-        lock.lock();
-        try {
-            return volume;
-        } finally {
-            lock.unlock();
-        }
+        return volume;
     }
 
     /**
@@ -74,12 +70,7 @@ public class Barrel implements Comparable<Barrel> {
      * @return The stored material in the barrel.
      */
     public StoredMaterial getStoredMaterial() {
-        lock.lock();
-        try {
-            return storedMaterial;
-        } finally {
-            lock.unlock();
-        }
+        return storedMaterial;
     }
 
     /**
@@ -88,54 +79,37 @@ public class Barrel implements Comparable<Barrel> {
      * @return The construction material of the barrel.
      */
     public Material getMaterial() {
-        lock.lock();
-        try {
-            return material;
-        } finally {
-            lock.unlock();
-        }
+        return material;
     }
 
     /**
-     * Sets the volume of the barrel.
+     * Returns a copy of the barrel with the given volume.
      *
-     * @param volume The volume to set for the barrel in liters.
+     * @param volume The volume of the copy in liters.
+     * @return A new Barrel with the given volume and the other fields of this one.
      */
-    public void setVolume(int volume) {
-        lock.lock();
-        try {
-            this.volume = volume;
-        } finally {
-            lock.unlock();
-        }
+    public Barrel withVolume(int volume) {
+        return new Barrel(volume, storedMaterial, material);
     }
 
     /**
-     * Sets the material stored inside the barrel.
+     * Returns a copy of the barrel with the given stored material.
      *
-     * @param storedMaterial The material to store in the barrel.
+     * @param storedMaterial The material stored in the copy.
+     * @return A new Barrel with the given stored material and the other fields of this one.
      */
-    public void setStoredMaterial(StoredMaterial storedMaterial) {
-        lock.lock();
-        try {
-            this.storedMaterial = storedMaterial;
-        } finally {
-            lock.unlock();
-        }
+    public Barrel withStoredMaterial(StoredMaterial storedMaterial) {
+        return new Barrel(volume, storedMaterial, material);
     }
 
     /**
-     * Sets the material used to construct the barrel.
+     * Returns a copy of the barrel with the given construction material.
      *
-     * @param material The construction material to set for the barrel.
+     * @param material The construction material of the copy.
+     * @return A new Barrel with the given construction material and the other fields of this one.
      */
-    public void setMaterial(Material material) {
-        lock.lock();
-        try {
-            this.material = material;
-        } finally {
-            lock.unlock();
-        }
+    public Barrel withMaterial(Material material) {
+        return new Barrel(volume, storedMaterial, material);
     }
 
     /**
@@ -162,6 +136,31 @@ public class Barrel implements Comparable<Barrel> {
         return this.material.compareTo(other.material);
     }
 
+    /**
+     * Checks whether the other object is a barrel with the same fields.
+     *
+     * @param other the object to compare with
+     * @return true if the object is an equal barrel, false otherwise
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof Barrel barrel)) return false;
+        return volume == barrel.volume
+                && storedMaterial == barrel.storedMaterial
+                && material == barrel.material;
+    }
+
+    /**
+     * Returns a hash code consistent with {@link #equals(Object)}.
+     *
+     * @return the hash code of the barrel
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(volume, storedMaterial, material);
+    }
+
     /**
      * Returns a string representation of the barrel in Russian.
      * The format includes volume, stored material, and construction material.
@@ -170,27 +169,18 @@ public class Barrel implements Comparable<Barrel> {
      */
     @Override
     public String toString() {
-        lock.lock();
-        try {
-            return "Barrel: " +
-                    "volume " + volume + "L, " +
-                    (storedMaterial != null ? "contains " + storedMaterial + ", " : "") +
-                    (material != null ? "made of " + material : "");
-        } finally {
-            lock.unlock();
-        }
+        return "Barrel: " +
+                "volume " + volume + "L, " +
+                (storedMaterial != null ? "contains " + storedMaterial + ", " : "") +
+                (material != null ? "made of " + material : "");
     }
 
     /**
-     * Thread-safe Builder Inner Class for creating Barrel instances.
+     * Builder Inner Class for creating Barrel instances.
+     * A builder is meant to be used by one thread; the barrels it builds can be shared freely.
      */
     public static class Builder {
 
-        /**
-         * Lock to ensure thread-safe access to builder methods.
-         */
-        private final ReentrantLock lock = new ReentrantLock();
-
         /**
          * The volume to be set in the Barrel being built.
          */
@@ -213,13 +203,8 @@ public class Barrel implements Comparable<Barrel> {
          * @return This builder instance for method chaining.
          */
         public Builder volume(int volume) {
-            lock.lock();
-            try {
-                this.volume = volume;
-                return this;
-            } finally {
-                lock.unlock();
-            }
+            this.volume = volume;
+            return this;
         }
 
         /**
@@ -229,13 +214,8 @@ public class Barrel implements Comparable<Barrel> {
          * @return This builder instance for method chaining.
          */
         public Builder storedMaterial(StoredMaterial storedMaterial) {
-            lock.lock();
-            try {
-                this.storedMaterial = storedMaterial;
-                return this;
-            } finally {
-                lock.unlock();
-            }
+            this.storedMaterial = storedMaterial;
+            return this;
         }
 
         /**
@@ -245,13 +225,8 @@ public class Barrel implements Comparable<Barrel> {
          * @return This builder instance for method chaining.
          */
         public Builder material(Material material) {
-            lock.lock();
-            try {
-                this.material = material;
-                return this;
-            } finally {
-                lock.unlock();
-            }
+            this.material = material;
+            return this;
         }
 
         /**
@@ -260,12 +235,7 @@ public class Barrel implements Comparable<Barrel> {
          * @return A new Barrel object.
          */
         public Barrel build() {
-            lock.lock();
-            try {
-                return new Barrel(this);
-            } finally {
-                lock.unlock();
-            }
+            return new Barrel(volume, storedMaterial, material);
         }
     }
 }
@@ -0,0 +1,89 @@
+package com.team.sorting.model;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cache of canonical instances of immutable entities.
+ * <p>
+ * Generated and loaded batches repeat the same few values over and over: there are only
+ * {@value PackedAnimal#CODES} different animals, and barrels and humans are drawn from small ranges too.
+ * Since the models are immutable value objects, every entity can be replaced by the first instance seen
+ * with the same value, so a large batch only retains one object per distinct value.
+ * <p>
+ * The cache is bounded: once it holds {@code maxSize} entities, new values are returned as they are
+ * instead of being cached, so a stream of all-distinct values cannot exhaust the heap. Interning is
+ * lock-free for values already cached, and one interner can be shared between threads.
+ *
+ * @param <E> the type of entities; must implement {@code equals} and {@code hashCode} by value
+ */
+public final class EntityInterner<E> {
+
+    /** Maximum number of cached entities used when none is given. */
+    public static final int DEFAULT_MAX_SIZE = 1 << 16;
+
+    /** The canonical instance of every cached value. */
+    private final ConcurrentMap<E, E> canonical = new ConcurrentHashMap<>();
+
+    /** Maximum number of cached entities. */
+    private final int maxSize;
+
+    /**
+     * Creates an interner caching up to {@link #DEFAULT_MAX_SIZE} entities.
+     */
+    public EntityInterner() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates an interner caching up to the given number of entities.
+     *
+     * @param maxSize the maximum number of cached entities; must be positive
+     * @throws IllegalArgumentException if {@code maxSize} is not positive
+     */
+    public EntityInterner(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the canonical instance equal to the given entity, making the entity canonical if its value
+     * has not been seen yet and the cache is not full.
+     *
+     * @param entity the entity to intern; must not be {@code null}
+     * @return the canonical equal instance, or the entity itself if it is not cached
+     * @throws IllegalArgumentException if {@code entity} is {@code null}
+     */
+    public E intern(E entity) {
+        if (entity == null) {
+            throw new IllegalArgumentException("Entity must not be null");
+        }
+        E cached = canonical.get(entity);
+        if (cached != null) {
+            return cached;
+        }
+        if (canonical.size() >= maxSize) {
+            return entity;
+        }
+        cached = canonical.putIfAbsent(entity, entity);
+        return cached != null ? cached : entity;
+    }
+
+    /**
+     * Returns the number of cached entities.
+     *
+     * @return the number of distinct values cached
+     */
+    public int size() {
+        return canonical.size();
+    }
+
+    /**
+     * Removes all cached entities; later calls start a new set of canonical instances.
+     */
+    public void clear() {
+        canonical.clear();
+    }
+}
@@ -1,18 +1,17 @@
 package com.team.sorting.model;
 
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.Objects;
 
 /**
  * Human with gender, age, and last name.
  * Implements {@link Comparable} to allow natural ordering by
  * lastName → gender → age.
+ * <p>
+ * Humans are immutable value objects: all fields are final, so instances can be shared between
+ * threads without locking and getters are plain field reads. Changing a field creates a copy
+ * through the {@code withX} methods. Two humans are equal if all their fields are equal.
  */
-public class Human implements Comparable<Human> {
-
-    /**
-     * Lock to ensure thread-safe access to fields.
-     */
-    private final ReentrantLock lock = new ReentrantLock();
+public final class Human implements Comparable<Human> {
 
     /**
      * Enumeration of gender types for humans.
@@ -24,27 +23,29 @@ public class Human implements Comparable<Human> {
     /**
      * The gender of the human.
      */
-    private Gender gender;
+    private final Gender gender;
 
     /**
      * The age of the human in years.
      */
-    private int age;
+    private final int age;
 
     /**
      * The last name of the human.
      */
-    private String lastName;
+    private final String lastName;
 
     /**
-     * Private constructor used by the {@link Builder} to create a Human instance.
+     * Private constructor used by the {@link Builder} and the {@code withX} methods.
      *
-     * @param builder The Builder containing the configuration for this Human.
+     * @param gender The gender of the human.
+     * @param age The age of the human in years.
+     * @param lastName The last name of the human.
      */
-    private Human(Builder builder) {
-        this.gender = builder.gender;
-        this.age = builder.age;
-        this.lastName = builder.lastName;
+    private Human(Gender gender, int age, String lastName) {
+        this.gender = gender;
+        this.age = age;
+        this.lastName = lastName;
     }
 
     /**
@@ -53,12 +54,7 @@ public class Human implements Comparable<Human> {
      * @return The gender of the human.
      */
     public Gender getGender() {
-        lock.lock();
-        try {
-            return gender;
-        } finally {
-            lock.unlock();
-        }
+        return gender;
     }
 
     /**
@@ -67,12 +63,7 @@ public class Human implements Comparable<Human> {
      * @return The age of the human in years.
      */
     public int getAge() {
-        lock.lock();
-        try {
-            return age;
-        } finally {
-            lock.unlock();
-        }
+        return age;
     }
 
     /**
@@ -81,54 +72,37 @@ public class Human implements Comparable<Human> {
      * @return The last name of the human.
      */
     public String getLastName() {
-        lock.lock();
-        try {
-            return lastName;
-        } finally {
-            lock.unlock();
-        }
+        return lastName;
     }
 
     /**
-     * Sets the gender of the human.
+     * Returns a copy of the human with the given gender.
      *
-     * @param gender The gender to set for the human.
+     * @param gender The gender of the copy.
+     * @return A new Human with the given gender and the other fields of this one.
      */
-    public void setGender(Gender gender) {
-        lock.lock();
-        try {
-            this.gender = gender;
-        } finally {
-            lock.unlock();
-        }
+    public Human withGender(Gender gender) {
+        return new Human(gender, age, lastName);
     }
 
     /**
-     * Sets the age of the human.
+     * Returns a copy of the human with the given age.
      *
-     * @param age The age to set for the human in years.
+     * @param age The age of the copy in years.
+     * @return A new Human with the given age and the other fields of this one.
      */
-    public void setAge(int age) {
-        lock.lock();
-        try {
-            this.age = age;
-        } finally {
-            lock.unlock();
-        }
+    public Human withAge(int age) {
+        return new Human(gender, age, lastName);
     }
 
     /**
-     * Sets the last name of the human.
+     * Returns a copy of the human with the given last name.
      *
-     * @param lastName The last name to set for the human.
+     * @param lastName The last name of the copy.
+     * @return A new Human with the given last name and the other fields of this one.
      */
-    public void setLastName(String lastName) {
-        lock.lock();
-        try {
-            this.lastName = lastName;
-        } finally {
-            lock.unlock();
-        }
+    public Human withLastName(String lastName) {
+        return new Human(gender, age, lastName);
     }
 
     /**
@@ -161,6 +135,31 @@ public class Human implements Comparable<Human> {
         return Integer.compare(this.age, other.age);
     }
 
+    /**
+     * Checks whether the other object is a human with the same fields.
+     *
+     * @param other the object to compare with
+     * @return true if the object is an equal human, false otherwise
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof Human human)) return false;
+        return gender == human.gender
+                && age == human.age
+                && Objects.equals(lastName, human.lastName);
+    }
+
+    /**
+     * Returns a hash code consistent with {@link #equals(Object)}.
+     *
+     * @return the hash code of the human
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(gender, age, lastName);
+    }
+
     /**
      * Returns a string representation of the human in Russian.
      * The format includes gender, age, and last name.
@@ -169,27 +168,18 @@ public class Human implements Comparable<Human> {
      */
     @Override
     public String toString() {
-        lock.lock();
-        try {
-            return "Human: " +
-                    (gender != null ? gender + ", " : "") +
-                    "age " + age + ", " +
-                    (lastName != null ? "last name " + lastName : "");
-        } finally {
-            lock.unlock();
-        }
+        return "Human: " +
+                (gender != null ? gender + ", " : "") +
+                "age " + age + ", " +
+                (lastName != null ? "last name " + lastName : "");
     }
 
     /**
-     * Thread-safe Builder Inner Class for creating Human instances.
+     * Builder Inner Class for creating Human instances.
+     * A builder is meant to be used by one thread; the humans it builds can be shared freely.
      */
     public static class Builder {
 
-        /**
-         * Lock to ensure thread-safe access to builder methods.
-         */
-        private final ReentrantLock lock = new ReentrantLock();
-
         /**
          * The gender to be set in the Human being built.
          */
@@ -205,7 +195,6 @@ public class Human implements Comparable<Human> {
          */
         private String lastName;
 
-
         /**
          * Sets the gender of the human.
          *
@@ -213,13 +202,8 @@ public class Human implements Comparable<Human> {
          * @return This builder instance for method chaining.
          */
         public Builder gender(Gender gender) {
-            lock.lock();
-            try {
-                this.gender = gender;
-                return this;
-            } finally {
-                lock.unlock();
-            }
+            this.gender = gender;
+            return this;
         }
 
         /**
@@ -229,13 +213,8 @@ public class Human implements Comparable<Human> {
          * @return This builder instance for method chaining.
          */
         public Builder age(int age) {
-            lock.lock();
-            try {
-                this.age = age;
-                return this;
-            } finally {
-                lock.unlock();
-            }
+            this.age = age;
+            return this;
         }
 
         /**
@@ -245,13 +224,8 @@ public class Human implements Comparable<Human> {
          * @return This builder instance for method chaining.
          */
         public Builder lastName(String lastName) {
-            lock.lock();
-            try {
-                this.lastName = lastName;
-                return this;
-            } finally {
-                lock.unlock();
-            }
+            this.lastName = lastName;
+            return this;
         }
 
         /**
@@ -260,12 +234,7 @@ public class Human implements Comparable<Human> {
          * @return A new Human object.
          */
         public Human build() {
-            lock.lock();
-            try {
-                return new Human(this);
-            } finally {
-                lock.unlock();
-            }
+            return new Human(gender, age, lastName);
         }
     }
 }
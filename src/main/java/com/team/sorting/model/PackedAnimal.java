@@ -0,0 +1,180 @@
+package com.team.sorting.model;
+
+/**
+ * Codec packing an {@link Animal} into a 7-bit code.
+ * <p>
+ * An animal is three enums of four constants and a boolean, so it fits in seven bits:
+ * <pre>
+ *   bit  6 5 | 4 3      | 2 1 | 0
+ *   species  | eyeColor | fur | eatsBun
+ * </pre>
+ * Fields are stored as ordinals, the most significant first, so comparing codes as numbers gives the
+ * natural ordering of {@link Animal}, and equal codes mean equal animals. Animals with {@code null} fields
+ * cannot be packed.
+ * <p>
+ * There are only {@value #CODES} different animals, so {@link #unpack(int)} returns one shared instance per
+ * code instead of creating a new animal: immutable animals can be used as flyweights. Collections of packed
+ * animals, such as {@link PackedAnimalList}, store one byte per animal instead of a reference to an object.
+ */
+public final class PackedAnimal {
+
+    /** Number of different codes; every code is in {@code [0, CODES)}. */
+    public static final int CODES = 1 << 7;
+
+    private static final int SPECIES_SHIFT = 5;
+    private static final int EYE_COLOR_SHIFT = 3;
+    private static final int FUR_SHIFT = 1;
+    private static final int FIELD_MASK = 0b11;
+
+    private static final Animal.Species[] SPECIES = Animal.Species.values();
+    private static final Animal.EyeColor[] EYE_COLORS = Animal.EyeColor.values();
+    private static final Animal.Fur[] FURS = Animal.Fur.values();
+
+    /** The shared animal of every code. */
+    private static final Animal[] ANIMALS = new Animal[CODES];
+
+    static {
+        for (int code = 0; code < CODES; code++) {
+            ANIMALS[code] = new Animal.Builder()
+                    .species(species(code))
+                    .eyeColor(eyeColor(code))
+                    .fur(fur(code))
+                    .eatsBun(eatsBun(code))
+                    .build();
+        }
+    }
+
+    private PackedAnimal() {
+    }
+
+    /**
+     * Packs the animal into its code.
+     *
+     * @param animal the animal to pack; must not be {@code null} nor have {@code null} fields
+     * @return the code of the animal, in {@code [0, CODES)}
+     * @throws IllegalArgumentException if the animal or one of its fields is {@code null}
+     */
+    public static int pack(Animal animal) {
+        if (animal == null) {
+            throw new IllegalArgumentException("Animal must not be null");
+        }
+        if (animal.getSpecies() == null || animal.getEyeColor() == null || animal.getFur() == null) {
+            throw new IllegalArgumentException("Animal with null fields cannot be packed: " + animal);
+        }
+        return animal.getSpecies().ordinal() << SPECIES_SHIFT
+                | animal.getEyeColor().ordinal() << EYE_COLOR_SHIFT
+                | animal.getFur().ordinal() << FUR_SHIFT
+                | (animal.getEatsBun() ? 1 : 0);
+    }
+
+    /**
+     * Returns the shared animal of the given code.
+     *
+     * @param code the code of the animal
+     * @return the animal, equal to every animal packed into the code
+     * @throws IllegalArgumentException if the code is not in {@code [0, CODES)}
+     */
+    public static Animal unpack(int code) {
+        return ANIMALS[checkCode(code)];
+    }
+
+    /**
+     * Returns the shared animal with the given fields, without building a new one.
+     *
+     * @param species the species; must not be {@code null}
+     * @param eyeColor the eye color; must not be {@code null}
+     * @param fur the fur type; must not be {@code null}
+     * @param eatsBun whether the animal eats buns
+     * @return the shared animal with these fields
+     * @throws IllegalArgumentException if a field is {@code null}
+     */
+    public static Animal of(Animal.Species species, Animal.EyeColor eyeColor, Animal.Fur fur, boolean eatsBun) {
+        if (species == null || eyeColor == null || fur == null) {
+            throw new IllegalArgumentException("Animal with null fields cannot be packed");
+        }
+        return ANIMALS[value(species, eyeColor, fur, eatsBun)];
+    }
+
+    /**
+     * Returns the species stored in the code.
+     *
+     * @param code the code of an animal
+     * @return the species
+     */
+    public static Animal.Species species(int code) {
+        return SPECIES[code >>> SPECIES_SHIFT & FIELD_MASK];
+    }
+
+    /**
+     * Returns the eye color stored in the code.
+     *
+     * @param code the code of an animal
+     * @return the eye color
+     */
+    public static Animal.EyeColor eyeColor(int code) {
+        return EYE_COLORS[code >>> EYE_COLOR_SHIFT & FIELD_MASK];
+    }
+
+    /**
+     * Returns the fur type stored in the code.
+     *
+     * @param code the code of an animal
+     * @return the fur type
+     */
+    public static Animal.Fur fur(int code) {
+        return FURS[code >>> FUR_SHIFT & FIELD_MASK];
+    }
+
+    /**
+     * Returns whether the animal of the code eats buns.
+     *
+     * @param code the code of an animal
+     * @return true if the animal eats buns, false otherwise
+     */
+    public static boolean eatsBun(int code) {
+        return (code & 1) != 0;
+    }
+
+    /**
+     * Returns the bits of the code that hold the given fields; {@code null} fields are left out.
+     * A code matches a partially specified animal if {@code (code & mask) == value}, see {@link #value}.
+     *
+     * @param species the species to match, or {@code null} for any
+     * @param eyeColor the eye color to match, or {@code null} for any
+     * @param fur the fur type to match, or {@code null} for any
+     * @param eatsBun whether the animal eats buns, or {@code null} for any
+     * @return the mask of the given fields
+     */
+    public static int mask(Animal.Species species, Animal.EyeColor eyeColor, Animal.Fur fur, Boolean eatsBun) {
+        return (species != null ? FIELD_MASK << SPECIES_SHIFT : 0)
+                | (eyeColor != null ? FIELD_MASK << EYE_COLOR_SHIFT : 0)
+                | (fur != null ? FIELD_MASK << FUR_SHIFT : 0)
+                | (eatsBun != null ? 1 : 0);
+    }
+
+    /**
+     * Returns the bits of the given fields as they appear in a code; {@code null} fields are zero.
+     *
+     * @param species the species to match, or {@code null} for any
+     * @param eyeColor the eye color to match, or {@code null} for any
+     * @param fur the fur type to match, or {@code null} for any
+     * @param eatsBun whether the animal eats buns, or {@code null} for any
+     * @return the value the masked bits of a matching code have
+     */
+    public static int value(Animal.Species species, Animal.EyeColor eyeColor, Animal.Fur fur, Boolean eatsBun) {
+        return (species != null ? species.ordinal() << SPECIES_SHIFT : 0)
+                | (eyeColor != null ? eyeColor.ordinal() << EYE_COLOR_SHIFT : 0)
+                | (fur != null ? fur.ordinal() << FUR_SHIFT : 0)
+                | (Boolean.TRUE.equals(eatsBun) ? 1 : 0);
+    }
+
+    /**
+     * Checks that the code is in {@code [0, CODES)}.
+     */
+    static int checkCode(int code) {
+        if (code < 0 || code >= CODES) {
+            throw new IllegalArgumentException("Invalid animal code: " + code);
+        }
+        return code;
+    }
+}
@@ -0,0 +1,267 @@
+package com.team.sorting.model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * List of animals stored as {@link PackedAnimal} codes, eight per {@code long}.
+ * <p>
+ * Every animal takes one byte instead of a reference to an object, and the list holds no animal objects at
+ * all: {@link #get(int)} returns the shared instance of the code. Sorting, searching and counting work on the
+ * codes directly:
+ * <ul>
+ *     <li>{@link #sort()} is a counting sort over the {@value PackedAnimal#CODES} codes, linear in the size;</li>
+ *     <li>{@link #binarySearch(Animal)} compares codes as numbers, which is the natural ordering;</li>
+ *     <li>{@link #count(Animal)} and {@link #countMatching} compare all eight codes of a word at once
+ *         (SIMD within a register) and count the matches with {@link Long#bitCount(long)}.</li>
+ * </ul>
+ * Only animals without {@code null} fields can be stored. Positional insertion and replacement are not
+ * supported. Instances are not thread-safe.
+ */
+public final class PackedAnimalList extends AbstractList<Animal> implements RandomAccess {
+
+    /** Codes per {@code long}. */
+    private static final int CODES_PER_WORD = Long.BYTES;
+
+    /** The lowest bit of every byte. */
+    private static final long LOW_BITS = 0x0101010101010101L;
+
+    /** All but the highest bit of every byte. */
+    private static final long LOW_SEVEN_BITS = 0x7F7F7F7F7F7F7F7FL;
+
+    /** Codes, little-endian: code {@code i} is byte {@code i % 8} of word {@code i / 8}. */
+    private long[] words;
+
+    /** Number of animals. */
+    private int size;
+
+    /**
+     * Creates an empty list.
+     */
+    public PackedAnimalList() {
+        this(16);
+    }
+
+    /**
+     * Creates an empty list with room for the given number of animals.
+     *
+     * @param capacity the initial number of animals; must not be negative
+     * @throws IllegalArgumentException if {@code capacity} is negative
+     */
+    public PackedAnimalList(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative: " + capacity);
+        }
+        words = new long[wordsFor(capacity)];
+    }
+
+    /**
+     * Creates a list of the given animals, in their order.
+     *
+     * @param animals the animals to pack; must not contain {@code null} or animals with {@code null} fields
+     * @return a new list
+     * @throws IllegalArgumentException if an animal or one of its fields is {@code null}
+     */
+    public static PackedAnimalList of(Collection<? extends Animal> animals) {
+        PackedAnimalList list = new PackedAnimalList(animals.size());
+        list.addAll(animals);
+        return list;
+    }
+
+    /**
+     * Appends the animal as its code.
+     *
+     * @param animal the animal to append; must not be {@code null} nor have {@code null} fields
+     * @return {@code true}
+     * @throws IllegalArgumentException if the animal or one of its fields is {@code null}
+     */
+    @Override
+    public boolean add(Animal animal) {
+        addCode(PackedAnimal.pack(animal));
+        return true;
+    }
+
+    /**
+     * Appends an animal given by its code.
+     *
+     * @param code the code of the animal
+     * @throws IllegalArgumentException if the code is invalid
+     */
+    public void addCode(int code) {
+        PackedAnimal.checkCode(code);
+        if (size == words.length * CODES_PER_WORD) {
+            words = Arrays.copyOf(words, Math.max(2, words.length * 2));
+        }
+        words[size / CODES_PER_WORD] |= (long) code << shift(size);
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Returns the shared animal at the given position.
+     *
+     * @param index the position of the animal
+     * @return the animal
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public Animal get(int index) {
+        return PackedAnimal.unpack(code(index));
+    }
+
+    /**
+     * Returns the code of the animal at the given position.
+     *
+     * @param index the position of the animal
+     * @return the code of the animal
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int code(int index) {
+        Objects.checkIndex(index, size);
+        return codeAt(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(words, 0L);
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Sorts the animals into their natural order in place, with a counting sort over the codes.
+     */
+    public void sort() {
+        int[] counts = new int[PackedAnimal.CODES];
+        for (int i = 0; i < size; i++) {
+            counts[codeAt(i)]++;
+        }
+        Arrays.fill(words, 0L);
+        int index = 0;
+        for (int code = 0; code < PackedAnimal.CODES; code++) {
+            for (int end = index + counts[code]; index < end; index++) {
+                words[index / CODES_PER_WORD] |= (long) code << shift(index);
+            }
+        }
+        modCount++;
+    }
+
+    /**
+     * Returns the position of the first animal equal to the given one in a list sorted by {@link #sort()}.
+     *
+     * @param animal the animal to look for; must not be {@code null} nor have {@code null} fields
+     * @return the position of the first equal animal, or {@code -1} if there is none
+     * @throws IllegalArgumentException if the animal or one of its fields is {@code null}
+     */
+    public int binarySearch(Animal animal) {
+        int code = PackedAnimal.pack(animal);
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (codeAt(mid) < code) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low < size && codeAt(low) == code ? low : -1;
+    }
+
+    /**
+     * Counts the animals equal to the given one.
+     *
+     * @param animal the animal to count; must not be {@code null} nor have {@code null} fields
+     * @return the number of equal animals
+     * @throws IllegalArgumentException if the animal or one of its fields is {@code null}
+     */
+    public int count(Animal animal) {
+        return countMasked(PackedAnimal.CODES - 1, PackedAnimal.pack(animal));
+    }
+
+    /**
+     * Counts the animals having all the given fields; {@code null} arguments match any value.
+     *
+     * @param species the species to match, or {@code null} for any
+     * @param eyeColor the eye color to match, or {@code null} for any
+     * @param fur the fur type to match, or {@code null} for any
+     * @param eatsBun whether the animals eat buns, or {@code null} for any
+     * @return the number of matching animals
+     */
+    public int countMatching(Animal.Species species, Animal.EyeColor eyeColor, Animal.Fur fur, Boolean eatsBun) {
+        return countMasked(PackedAnimal.mask(species, eyeColor, fur, eatsBun),
+                PackedAnimal.value(species, eyeColor, fur, eatsBun));
+    }
+
+    @Override
+    public int indexOf(Object object) {
+        if (!(object instanceof Animal animal) || !packable(animal)) {
+            return -1;
+        }
+        int code = PackedAnimal.pack(animal);
+        for (int i = 0; i < size; i++) {
+            if (codeAt(i) == code) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object object) {
+        return indexOf(object) >= 0;
+    }
+
+    /**
+     * Counts the codes with {@code (code & mask) == value}, eight codes per step.
+     * A byte of {@code (word & mask) ^ value} is zero exactly for matching codes; the zero bytes are turned
+     * into their high bit without carries between bytes and counted.
+     */
+    private int countMasked(int mask, int value) {
+        long masks = LOW_BITS * mask;
+        long values = LOW_BITS * value;
+        int count = 0;
+        int fullWords = size / CODES_PER_WORD;
+        for (int i = 0; i < fullWords; i++) {
+            count += Long.bitCount(zeroBytes((words[i] & masks) ^ values));
+        }
+        int rest = size % CODES_PER_WORD;
+        if (rest > 0) {
+            long used = (1L << shift(rest)) - 1;
+            count += Long.bitCount(zeroBytes((words[fullWords] & masks) ^ values) & used);
+        }
+        return count;
+    }
+
+    /**
+     * Returns a word with the high bit of every byte set if that byte of {@code x} is zero, and no other bits.
+     */
+    private static long zeroBytes(long x) {
+        long y = (x & LOW_SEVEN_BITS) + LOW_SEVEN_BITS;
+        return ~(y | x | LOW_SEVEN_BITS);
+    }
+
+    private int codeAt(int index) {
+        return (int) (words[index / CODES_PER_WORD] >>> shift(index)) & 0xFF;
+    }
+
+    private static int shift(int index) {
+        return (index % CODES_PER_WORD) * Byte.SIZE;
+    }
+
+    private static int wordsFor(int capacity) {
+        return (capacity + CODES_PER_WORD - 1) / CODES_PER_WORD;
+    }
+
+    private static boolean packable(Animal animal) {
+        return animal.getSpecies() != null && animal.getEyeColor() != null && animal.getFur() != null;
+    }
+}
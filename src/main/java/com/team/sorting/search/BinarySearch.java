@@ -1,5 +1,6 @@
 package com.team.sorting.search;
 
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -8,10 +9,20 @@ import java.util.List;
  * Works only on lists that are already sorted in ascending order
  * according to their natural ordering (defined by {@link Comparable}).
  * Returns the index of the searched element or {@code -1} if it is not found.
+ * <p>
+ * The range queries of {@link RangeSearch} narrow the range to the first element not less than
+ * (or greater than) the key, so they take {@code O(log n)} comparisons even with many duplicates.
+ * <p>
+ * {@link #searchAll(List, List)} looks up a whole batch of keys in one sweep over the list.
+ * These queries delegate to a {@link ComparatorSearch} using the natural ordering; lists sorted by another
+ * comparator are searched with a {@link ComparatorSearch} of that comparator.
  *
  * @param <T> the type of elements in the list; must implement {@link Comparable}
  */
-public class BinarySearch<T extends Comparable<T>> implements Search<T> {
+public class BinarySearch<T extends Comparable<T>> implements RangeSearch<T> {
+
+    /** Natural-order search the range and batch queries delegate to. */
+    private final ComparatorSearch<T> naturalOrder = new ComparatorSearch<>(Comparator.naturalOrder());
 
     /**
      * Searches for a given key in the sorted list using binary search.
@@ -40,4 +51,56 @@ public class BinarySearch<T extends Comparable<T>> implements Search<T> {
         }
         return -1;
     }
+
+    /**
+     * Finds the first element not less than the key using binary search.
+     *
+     * @param sortedList the list to search in (must be sorted in ascending order)
+     * @param key        the key to locate
+     * @return the number of elements less than the key
+     * @throws NullPointerException if {@code sortedList} or {@code key} is {@code null}
+     */
+    @Override
+    public int lowerBound(List<T> sortedList, T key) {
+        return naturalOrder.lowerBound(sortedList, key);
+    }
+
+    /**
+     * Finds the first element greater than the key using binary search.
+     *
+     * @param sortedList the list to search in (must be sorted in ascending order)
+     * @param key        the key to locate
+     * @return the number of elements less than or equal to the key
+     * @throws NullPointerException if {@code sortedList} or {@code key} is {@code null}
+     */
+    @Override
+    public int upperBound(List<T> sortedList, T key) {
+        return naturalOrder.upperBound(sortedList, key);
+    }
+
+    /**
+     * Searches for many keys in the same sorted list at once, in one sweep; see
+     * {@link ComparatorSearch#searchAll(List, List)}.
+     *
+     * @param sortedList the list to search in (must be sorted in ascending order)
+     * @param keys       the elements to find, in any order
+     * @return for every key, in the order of {@code keys}, the index of the first equal element in the list,
+     *         or {@code -1} if there is none
+     * @throws NullPointerException if {@code sortedList}, {@code keys} or a key is {@code null}
+     */
+    public int[] searchAll(List<T> sortedList, List<T> keys) {
+        return naturalOrder.searchAll(sortedList, keys);
+    }
+
+    /**
+     * Searches for many keys at once, splitting large batches into the given number of parallel sweeps.
+     *
+     * @param sortedList the list to search in (must be sorted in ascending order)
+     * @param keys       the elements to find, in any order
+     * @param processors the number of processors to use
+     * @return the index of the first element equal to every key, or {@code -1}
+     */
+    int[] searchAll(List<T> sortedList, List<T> keys, int processors) {
+        return naturalOrder.searchAll(sortedList, keys, processors);
+    }
 }
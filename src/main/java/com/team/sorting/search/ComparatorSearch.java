@@ -0,0 +1,234 @@
+package com.team.sorting.search;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Binary search over a list sorted by an arbitrary {@link Comparator}.
+ * <p>
+ * A {@link com.team.sorting.sort.Sort} accepts any comparator, so a list may be sorted by, say, barrel volume
+ * only. Searching such a list by natural ordering gives wrong answers; this search uses the same comparator
+ * the list was sorted with, so one sorted view can be searched without re-sorting it into natural order.
+ * {@link #byKey(Function)} builds the search from a key extractor, matching
+ * {@link Comparator#comparing(Function)}, and {@link #searchByKey} finds an element by its key value alone.
+ * <p>
+ * All searches narrow the range to the first element not less than the key, so {@link #search(List, Object)}
+ * returns the first match and the range queries of {@link RangeSearch} take {@code O(log n)} comparisons.
+ * {@link #searchAll(List, List)} answers a batch of keys in one sweep. The search holds no mutable state, so
+ * one instance can be shared between threads.
+ *
+ * @param <T> the type of elements in the list
+ */
+public class ComparatorSearch<T> implements RangeSearch<T> {
+
+    /** Batches with fewer keys than this are searched in a single sweep. */
+    static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    /** The order the searched lists are sorted in. */
+    private final Comparator<? super T> comparator;
+
+    /**
+     * Creates a search for lists sorted by the given comparator.
+     *
+     * @param comparator the order of the searched lists; must not be {@code null}
+     * @throws IllegalArgumentException if {@code comparator} is {@code null}
+     */
+    public ComparatorSearch(Comparator<? super T> comparator) {
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator must not be null");
+        }
+        this.comparator = comparator;
+    }
+
+    /**
+     * Creates a search for lists sorted by the given key, as with {@link Comparator#comparing(Function)}.
+     *
+     * @param keyExtractor the key the lists are sorted by; must not be {@code null}
+     * @param <T>          the type of elements in the list
+     * @param <U>          the type of the key
+     * @return a search comparing the keys of the elements
+     * @throws IllegalArgumentException if {@code keyExtractor} is {@code null}
+     */
+    public static <T, U extends Comparable<? super U>> ComparatorSearch<T> byKey(
+            Function<? super T, ? extends U> keyExtractor) {
+        if (keyExtractor == null) {
+            throw new IllegalArgumentException("Key extractor must not be null");
+        }
+        return new ComparatorSearch<>(Comparator.comparing(keyExtractor));
+    }
+
+    /**
+     * Finds the first element with the given key in a list sorted by that key, without building an element
+     * to compare with.
+     *
+     * @param sortedList   the list to search in (must be sorted by the key in ascending order)
+     * @param keyExtractor the key the list is sorted by
+     * @param key          the key to find
+     * @param <T>          the type of elements in the list
+     * @param <U>          the type of the key
+     * @return the index of the first element with the key, or {@code -1} if there is none
+     * @throws NullPointerException if an argument is {@code null}
+     */
+    public static <T, U extends Comparable<? super U>> int searchByKey(
+            List<T> sortedList, Function<? super T, ? extends U> keyExtractor, U key) {
+        int low = 0;
+        int high = sortedList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keyExtractor.apply(sortedList.get(mid)).compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low < sortedList.size() && keyExtractor.apply(sortedList.get(low)).compareTo(key) == 0 ? low : -1;
+    }
+
+    /**
+     * Searches for the first element equal to the key by the comparator.
+     *
+     * @param sortedList the list to search in (must be sorted by the comparator)
+     * @param key        the element to find
+     * @return the index of the first equal element if found, otherwise {@code -1}
+     * @throws NullPointerException if {@code sortedList} is {@code null}
+     */
+    @Override
+    public int search(List<T> sortedList, T key) {
+        int index = lowerBound(sortedList, key);
+        return index < sortedList.size() && comparator.compare(sortedList.get(index), key) == 0 ? index : -1;
+    }
+
+    /**
+     * Finds the first element not less than the key using binary search.
+     *
+     * @param sortedList the list to search in (must be sorted by the comparator)
+     * @param key        the key to locate
+     * @return the number of elements less than the key
+     * @throws NullPointerException if {@code sortedList} is {@code null}
+     */
+    @Override
+    public int lowerBound(List<T> sortedList, T key) {
+        return lowerBound(sortedList, key, 0, sortedList.size());
+    }
+
+    /**
+     * Finds the first element greater than the key using binary search.
+     *
+     * @param sortedList the list to search in (must be sorted by the comparator)
+     * @param key        the key to locate
+     * @return the number of elements less than or equal to the key
+     * @throws NullPointerException if {@code sortedList} is {@code null}
+     */
+    @Override
+    public int upperBound(List<T> sortedList, T key) {
+        int low = 0;
+        int high = sortedList.size();
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(sortedList.get(mid), key) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Searches for many keys in the same sorted list at once.
+     * <p>
+     * The keys are sorted first, then answered in ascending order in one sweep: each search starts where
+     * the previous key was found and gallops forward (1, 2, 4, ... elements) before a binary search within
+     * the last step. Nearby keys cost a few comparisons each and a batch of {@code m} keys takes
+     * {@code O(m log(n / m))} comparisons instead of {@code O(m log n)}. Batches of at least
+     * {@value #PARALLEL_THRESHOLD} keys are split into one sweep per processor, run in parallel.
+     *
+     * @param sortedList the list to search in (must be sorted by the comparator)
+     * @param keys       the elements to find, in any order
+     * @return for every key, in the order of {@code keys}, the index of the first equal element in the list,
+     *         or {@code -1} if there is none
+     * @throws NullPointerException if {@code sortedList} or {@code keys} is {@code null}
+     */
+    public int[] searchAll(List<T> sortedList, List<T> keys) {
+        return searchAll(sortedList, keys, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Searches for many keys at once, splitting large batches into the given number of parallel sweeps.
+     *
+     * @param sortedList the list to search in (must be sorted by the comparator)
+     * @param keys       the elements to find, in any order
+     * @param processors the number of processors to use
+     * @return the index of the first element equal to every key, or {@code -1}
+     */
+    int[] searchAll(List<T> sortedList, List<T> keys, int processors) {
+        @SuppressWarnings("unchecked")
+        T[] keyArray = (T[]) keys.toArray();
+        Integer[] order = new Integer[keyArray.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> comparator.compare(keyArray[a], keyArray[b]));
+
+        int[] results = new int[keyArray.length];
+        if (keyArray.length < PARALLEL_THRESHOLD || processors < 2) {
+            sweep(sortedList, keyArray, order, 0, order.length, results);
+            return results;
+        }
+        int chunk = (order.length + processors - 1) / processors;
+        IntStream.range(0, processors).parallel().forEach(c -> sweep(sortedList, keyArray, order,
+                Math.min(order.length, c * chunk), Math.min(order.length, (c + 1) * chunk), results));
+        return results;
+    }
+
+    /**
+     * Answers the keys at {@code order[from, to)}, which are in ascending order, narrowing the range of the
+     * list from one key to the next.
+     */
+    private void sweep(List<T> sortedList, T[] keys, Integer[] order, int from, int to, int[] results) {
+        int size = sortedList.size();
+        int low = 0;
+        for (int i = from; i < to; i++) {
+            T key = keys[order[i]];
+            low = gallopLowerBound(sortedList, key, low);
+            results[order[i]] = low < size && comparator.compare(sortedList.get(low), key) == 0 ? low : -1;
+        }
+    }
+
+    /**
+     * Finds the first element not less than the key at or after {@code from}, probing {@code from},
+     * {@code from + 1}, {@code from + 2}, {@code from + 4}, ... and finishing with a binary search.
+     * All elements before {@code from} must be less than the key.
+     */
+    private int gallopLowerBound(List<T> sortedList, T key, int from) {
+        int size = sortedList.size();
+        int low = from;
+        int high = from;
+        long step = 1;
+        while (high < size && comparator.compare(sortedList.get(high), key) < 0) {
+            low = high + 1;
+            high = (int) Math.min(size, from + step);
+            step <<= 1;
+        }
+        return lowerBound(sortedList, key, low, high);
+    }
+
+    /**
+     * Finds the first element not less than the key in {@code [low, high)}, or {@code high} if there is none.
+     */
+    private int lowerBound(List<T> sortedList, T key, int low, int high) {
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(sortedList.get(mid), key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,112 @@
+package com.team.sorting.search;
+
+import com.team.sorting.model.Barrel;
+
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Exponential (galloping) search over a list sorted by natural ordering, guided by a primitive {@code int} key.
+ * <p>
+ * The key must be consistent with the natural ordering: {@code a.compareTo(b) <= 0} implies
+ * {@code key(a) <= key(b)}, as {@link Barrel#getVolume()} is for barrels. The search probes positions
+ * {@code 0, 1, 3, 7, ...} comparing only keys until it passes the searched key, binary searches the last step
+ * for the first element with that key, and finally binary searches the elements sharing the key with
+ * {@link Comparable#compareTo}. It takes {@code O(log i)} probes for a match at position {@code i}, so it is
+ * fast for keys near the start and never much slower than {@link BinarySearch}, whatever the distribution
+ * of the keys.
+ *
+ * @param <T> the type of elements in the list; must implement {@link Comparable}
+ */
+public class ExponentialSearch<T extends Comparable<T>> implements Search<T> {
+
+    /** Reads the key of an element. */
+    private final ToIntFunction<? super T> key;
+
+    /**
+     * Creates a search guided by the given key.
+     *
+     * @param key the key of the elements, consistent with their natural ordering; must not be {@code null}
+     * @throws IllegalArgumentException if {@code key} is {@code null}
+     */
+    public ExponentialSearch(ToIntFunction<? super T> key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key must not be null");
+        }
+        this.key = key;
+    }
+
+    /**
+     * Creates a search for barrels guided by their volume.
+     *
+     * @return an exponential search for {@link Barrel} entities
+     */
+    public static ExponentialSearch<Barrel> forBarrels() {
+        return new ExponentialSearch<>(Barrel::getVolume);
+    }
+
+    /**
+     * Searches for a given element in the sorted list using exponential search on its key.
+     *
+     * @param sortedList the list to search in (must be sorted in ascending order)
+     * @param target     the element to find
+     * @return the index of the first equal element if found, otherwise {@code -1}
+     * @throws NullPointerException if {@code sortedList} or {@code target} is {@code null}
+     */
+    @Override
+    public int search(List<T> sortedList, T target) {
+        int targetKey = key.applyAsInt(target);
+        int from = lowerKeyBound(sortedList, key, targetKey, 0, sortedList.size());
+        return searchKeyBlock(sortedList, key, target, targetKey, from);
+    }
+
+    /**
+     * Returns the first position in {@code [from, to)} whose key is not less than {@code targetKey}, galloping
+     * from {@code from}. All keys before {@code from} must be less than {@code targetKey}.
+     */
+    static <T> int lowerKeyBound(List<T> list, ToIntFunction<? super T> key, int targetKey, int from, int to) {
+        int low = from;
+        int high = from;
+        long step = 1;
+        while (high < to && key.applyAsInt(list.get(high)) < targetKey) {
+            low = high + 1;
+            high = (int) Math.min(to, from + step);
+            step = step * 2 + 1;
+        }
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (key.applyAsInt(list.get(mid)) < targetKey) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the first element equal to the target among the elements starting at {@code from} whose key equals
+     * {@code targetKey}: gallops to the end of that block by key, then binary searches the block with
+     * {@code compareTo}.
+     */
+    static <T extends Comparable<T>> int searchKeyBlock(List<T> list, ToIntFunction<? super T> key, T target,
+                                                        int targetKey, int from) {
+        int size = list.size();
+        if (from >= size || key.applyAsInt(list.get(from)) != targetKey) {
+            return -1;
+        }
+        int to = targetKey == Integer.MAX_VALUE ? size : lowerKeyBound(list, key, targetKey + 1, from, size);
+
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (list.get(mid).compareTo(target) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low < to && list.get(low).compareTo(target) == 0 ? low : -1;
+    }
+}
@@ -0,0 +1,112 @@
+package com.team.sorting.search;
+
+import com.team.sorting.model.Barrel;
+
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Interpolation search over a list sorted by natural ordering, guided by a primitive {@code int} key.
+ * <p>
+ * The key must be consistent with the natural ordering: {@code a.compareTo(b) <= 0} implies
+ * {@code key(a) <= key(b)}, as {@link Barrel#getVolume()} is for barrels. Instead of halving the range, every
+ * probe estimates where the searched key lies from the keys at both ends of the range. On evenly spread keys,
+ * such as the volumes made by {@link com.team.sorting.input.generator.BarrelGenerator}, the first probe lands
+ * next to the match and the search takes about {@code O(log log n)} probes. Once a probe hits the key, the
+ * elements sharing it are searched with {@link Comparable#compareTo}.
+ * <p>
+ * On skewed keys interpolation can degrade towards a linear scan, so after {@code log2(n)} probes the
+ * search falls back to halving the range. {@link SearchStrategySelector} chooses between this search and
+ * {@link ExponentialSearch} by sampling how evenly the keys are spread.
+ *
+ * @param <T> the type of elements in the list; must implement {@link Comparable}
+ */
+public class InterpolationSearch<T extends Comparable<T>> implements Search<T> {
+
+    /** Reads the key of an element. */
+    private final ToIntFunction<? super T> key;
+
+    /**
+     * Creates a search guided by the given key.
+     *
+     * @param key the key of the elements, consistent with their natural ordering; must not be {@code null}
+     * @throws IllegalArgumentException if {@code key} is {@code null}
+     */
+    public InterpolationSearch(ToIntFunction<? super T> key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key must not be null");
+        }
+        this.key = key;
+    }
+
+    /**
+     * Creates a search for barrels guided by their volume.
+     *
+     * @return an interpolation search for {@link Barrel} entities
+     */
+    public static InterpolationSearch<Barrel> forBarrels() {
+        return new InterpolationSearch<>(Barrel::getVolume);
+    }
+
+    /**
+     * Searches for a given element in the sorted list using interpolation search on its key.
+     *
+     * @param sortedList the list to search in (must be sorted in ascending order)
+     * @param target     the element to find
+     * @return the index of the first equal element if found, otherwise {@code -1}
+     * @throws NullPointerException if {@code sortedList} or {@code target} is {@code null}
+     */
+    @Override
+    public int search(List<T> sortedList, T target) {
+        int targetKey = key.applyAsInt(target);
+        int low = 0;
+        int high = sortedList.size() - 1;
+        int interpolations = 32 - Integer.numberOfLeadingZeros(sortedList.size());
+
+        while (low <= high) {
+            int lowKey = key.applyAsInt(sortedList.get(low));
+            int highKey = key.applyAsInt(sortedList.get(high));
+            if (targetKey < lowKey || targetKey > highKey) {
+                return -1;
+            }
+            if (lowKey == targetKey) {
+                return ExponentialSearch.searchKeyBlock(sortedList, key, target, targetKey, low);
+            }
+
+            int probe;
+            if (interpolations-- > 0) {
+                // lowKey < targetKey <= highKey, so the probe lies in (low, high]
+                probe = low + (int) Math.max(1, ((long) targetKey - lowKey) * (high - low) / ((long) highKey - lowKey));
+            } else {
+                probe = (low + high + 1) >>> 1;
+            }
+            int probeKey = key.applyAsInt(sortedList.get(probe));
+            if (probeKey < targetKey) {
+                low = probe + 1;
+            } else if (probeKey > targetKey) {
+                high = probe - 1;
+            } else {
+                // Elements before the probe may share the key; gallop back to the first of them
+                int from = firstWithKey(sortedList, targetKey, low + 1, probe);
+                return ExponentialSearch.searchKeyBlock(sortedList, key, target, targetKey, from);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the first position in {@code [from, probe]} with the target key, galloping backwards from
+     * {@code probe}, whose key is the target key; the key at {@code from - 1} is less than the target key.
+     */
+    private int firstWithKey(List<T> list, int targetKey, int from, int probe) {
+        int high = probe;
+        int low = probe;
+        long step = 1;
+        while (low > from && key.applyAsInt(list.get(low - 1)) == targetKey) {
+            high = low - 1;
+            low = (int) Math.max(from, probe - step);
+            step = step * 2 + 1;
+        }
+        return ExponentialSearch.lowerKeyBound(list, key, targetKey, low, high);
+    }
+}
@@ -0,0 +1,76 @@
+package com.team.sorting.search;
+
+import java.util.List;
+
+/**
+ * Search that also locates ranges of elements in a sorted list.
+ * <p>
+ * {@link #search(List, Object)} finds one matching element. With duplicates, which are common since
+ * entities are drawn from a few values, the bounds find where all matching elements start and end, so the
+ * number or the range of matches costs two searches instead of a linear scan. All positions are insertion
+ * points in {@code [0, list.size()]}; the list must be sorted in the order of the implementation.
+ *
+ * @param <T> the type of elements to search
+ */
+public interface RangeSearch<T> extends Search<T> {
+
+    /**
+     * Returns the position of the first element not less than the key: where elements equal to the key
+     * start, or where the key would be inserted.
+     *
+     * @param sortedList the list to search in (must be sorted in ascending order)
+     * @param key        the key to locate
+     * @return the number of elements less than the key
+     */
+    int lowerBound(List<T> sortedList, T key);
+
+    /**
+     * Returns the position of the first element greater than the key: where elements equal to the key end.
+     *
+     * @param sortedList the list to search in (must be sorted in ascending order)
+     * @param key        the key to locate
+     * @return the number of elements less than or equal to the key
+     */
+    int upperBound(List<T> sortedList, T key);
+
+    /**
+     * Returns the range of elements equal to the key as {@code {lowerBound, upperBound}}.
+     * The range is empty, with both bounds at the insertion point, if there is no such element.
+     *
+     * @param sortedList the list to search in (must be sorted in ascending order)
+     * @param key        the key to locate
+     * @return the start (inclusive) and end (exclusive) of the equal elements
+     */
+    default int[] equalRange(List<T> sortedList, T key) {
+        int from = lowerBound(sortedList, key);
+        int to = upperBound(sortedList.subList(from, sortedList.size()), key) + from;
+        return new int[]{from, to};
+    }
+
+    /**
+     * Counts the elements equal to the key.
+     *
+     * @param sortedList the list to search in (must be sorted in ascending order)
+     * @param key        the key to count
+     * @return the number of elements equal to the key
+     */
+    default int count(List<T> sortedList, T key) {
+        int[] range = equalRange(sortedList, key);
+        return range[1] - range[0];
+    }
+
+    /**
+     * Returns the elements between {@code from} and {@code to}, both inclusive, as a view of the list.
+     *
+     * @param sortedList the list to search in (must be sorted in ascending order)
+     * @param from       the smallest element to include
+     * @param to         the greatest element to include
+     * @return a {@link List#subList(int, int) subList} view of the elements {@code e} with
+     *         {@code from <= e <= to}; empty if {@code from} is greater than {@code to}
+     */
+    default List<T> rangeQuery(List<T> sortedList, T from, T to) {
+        int start = lowerBound(sortedList, from);
+        int end = upperBound(sortedList.subList(start, sortedList.size()), to) + start;
+        return sortedList.subList(start, end);
+    }
+}
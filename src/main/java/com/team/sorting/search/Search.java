@@ -7,11 +7,13 @@ import java.util.List;
  * <p>
  * Defines a contract for searching a key in a list and
  * returning its index or {@code -1} if not found.
+ * Implementations define the order the list must be sorted in: natural ordering for
+ * {@link BinarySearch}, a given comparator for {@link ComparatorSearch}.
  *
- * @param <T> the type of elements to search, must implement {@link Comparable}
+ * @param <T> the type of elements to search
  */
 @FunctionalInterface
-public interface Search<T extends Comparable<T>> {
+public interface Search<T> {
 
     /**
      * Searches for the given key in the specified list.
@@ -0,0 +1,192 @@
+package com.team.sorting.search;
+
+import com.team.sorting.model.Animal;
+import com.team.sorting.model.Barrel;
+import com.team.sorting.sort.SortKey;
+
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Read-only search index over a sorted list, laid out for the memory hierarchy.
+ * <p>
+ * {@link BinarySearch} on a large list reads an element object, and then its fields, at positions far apart
+ * in memory, so nearly every probe is a cache miss. The index is built once from a list sorted by a primitive
+ * {@code long} key: the keys are copied into a {@code long[]} in Eytzinger (breadth-first) order, where the
+ * children of slot {@code k} are slots {@code 2k} and {@code 2k + 1}. The first levels of the implicit tree,
+ * visited by every search, share a few cache lines, and all candidates {@code d} levels below a slot are
+ * contiguous, so the hardware prefetcher can fetch them while the current level is compared. The search
+ * loop only computes the next slot arithmetically from the comparison, without a data-dependent branch,
+ * and never touches the entity objects.
+ * <p>
+ * Results are positions in the original sorted list, looked up through a parallel {@code int[]}. The index
+ * does not follow later changes to the list. Instances are immutable and can be shared between threads.
+ *
+ * @param <T> the type of elements in the indexed list
+ */
+public final class SearchIndex<T> {
+
+    /** Reads the key of an element. */
+    private final ToLongFunction<? super T> key;
+
+    /** Keys in Eytzinger order, in slots {@code [1, size]}; slot 0 is unused. */
+    private final long[] keys;
+
+    /** Position in the sorted list of the key in every slot. */
+    private final int[] positions;
+
+    /** Number of indexed elements. */
+    private final int size;
+
+    /**
+     * Builds an index over a list sorted by the given key.
+     *
+     * @param sortedList the list to index, sorted so that its keys are non-decreasing; must not be {@code null}
+     * @param key        the key of the elements; must not be {@code null}
+     * @throws IllegalArgumentException if an argument is {@code null} or the keys are not sorted
+     */
+    public SearchIndex(List<? extends T> sortedList, ToLongFunction<? super T> key) {
+        if (sortedList == null) {
+            throw new IllegalArgumentException("List must not be null");
+        }
+        if (key == null) {
+            throw new IllegalArgumentException("Key must not be null");
+        }
+        this.key = key;
+        this.size = sortedList.size();
+
+        long[] sortedKeys = new long[size];
+        int i = 0;
+        for (T element : sortedList) {
+            sortedKeys[i] = key.applyAsLong(element);
+            if (i > 0 && sortedKeys[i] < sortedKeys[i - 1]) {
+                throw new IllegalArgumentException("List must be sorted by the key; unsorted at index " + i);
+            }
+            i++;
+        }
+
+        keys = new long[size + 1];
+        positions = new int[size + 1];
+        layOut(sortedKeys, 0, 1);
+    }
+
+    /**
+     * Builds an index over barrels sorted by natural ordering, keyed by {@link SortKey#barrel()}, which
+     * distinguishes all fields.
+     *
+     * @param sortedBarrels the barrels, sorted by natural ordering
+     * @return the index
+     */
+    public static SearchIndex<Barrel> forBarrels(List<Barrel> sortedBarrels) {
+        return new SearchIndex<>(sortedBarrels, SortKey.barrel()::extract);
+    }
+
+    /**
+     * Builds an index over animals sorted by natural ordering, keyed by {@link SortKey#animal()}, which
+     * distinguishes all fields.
+     *
+     * @param sortedAnimals the animals, sorted by natural ordering
+     * @return the index
+     */
+    public static SearchIndex<Animal> forAnimals(List<Animal> sortedAnimals) {
+        return new SearchIndex<>(sortedAnimals, SortKey.animal()::extract);
+    }
+
+    /**
+     * Returns the number of indexed elements.
+     *
+     * @return the size of the indexed list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the position of the first element whose key is not less than the given key.
+     *
+     * @param searchKey the key to locate
+     * @return the number of elements with a smaller key
+     */
+    public int lowerBound(long searchKey) {
+        int k = 1;
+        while (k <= size) {
+            k = 2 * k + (keys[k] < searchKey ? 1 : 0);
+        }
+        return position(k);
+    }
+
+    /**
+     * Returns the position of the first element whose key is greater than the given key.
+     *
+     * @param searchKey the key to locate
+     * @return the number of elements with a smaller or equal key
+     */
+    public int upperBound(long searchKey) {
+        int k = 1;
+        while (k <= size) {
+            k = 2 * k + (keys[k] <= searchKey ? 1 : 0);
+        }
+        return position(k);
+    }
+
+    /**
+     * Returns the position of the first element with the given key.
+     *
+     * @param searchKey the key to find
+     * @return the position of the first element with the key, or {@code -1} if there is none
+     */
+    public int indexOf(long searchKey) {
+        int k = 1;
+        while (k <= size) {
+            k = 2 * k + (keys[k] < searchKey ? 1 : 0);
+        }
+        k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+        return k != 0 && keys[k] == searchKey ? positions[k] : -1;
+    }
+
+    /**
+     * Returns the position of the first element with the same key as the given element.
+     *
+     * @param element the element to find; must not be {@code null}
+     * @return the position of the first element with an equal key, or {@code -1} if there is none
+     */
+    public int indexOf(T element) {
+        return indexOf(key.applyAsLong(element));
+    }
+
+    /**
+     * Counts the elements with the given key.
+     *
+     * @param searchKey the key to count
+     * @return the number of elements with the key
+     */
+    public int count(long searchKey) {
+        return upperBound(searchKey) - lowerBound(searchKey);
+    }
+
+    /**
+     * Turns the slot where a search left the tree into a position in the sorted list.
+     * The path went right for every trailing one bit; dropping them and the last left turn gives the last
+     * slot whose key was not passed, or 0 if every key was passed.
+     */
+    private int position(int k) {
+        k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+        return k == 0 ? size : positions[k];
+    }
+
+    /**
+     * Fills the subtree rooted at slot {@code k} in order with the sorted keys starting at {@code next}.
+     *
+     * @return the index of the first sorted key not placed
+     */
+    private int layOut(long[] sortedKeys, int next, int k) {
+        if (k <= size) {
+            next = layOut(sortedKeys, next, 2 * k);
+            keys[k] = sortedKeys[next];
+            positions[k] = next;
+            next++;
+            next = layOut(sortedKeys, next, 2 * k + 1);
+        }
+        return next;
+    }
+}
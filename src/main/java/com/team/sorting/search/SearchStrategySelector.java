@@ -0,0 +1,123 @@
+package com.team.sorting.search;
+
+import com.team.sorting.model.Barrel;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * Search that picks between {@link InterpolationSearch} and {@link ExponentialSearch} by how evenly the keys
+ * of the list are spread.
+ * <p>
+ * The selector reads the keys at {@value #UNIFORMITY_SAMPLES} evenly spaced positions and compares each with
+ * the key a straight line from the first to the last key predicts there. If no sample is off by more than
+ * {@code 1/}{@value #UNIFORMITY_TOLERANCE} of the key range, the keys are spread evenly enough for
+ * interpolation to land next to the match; otherwise exponential search is used, which does not depend on
+ * the distribution. Sampling costs more than a single search, so callers searching one list many times
+ * should {@link #select(List)} once and keep using {@link #engine(Strategy)}.
+ * <p>
+ * The key must be consistent with the natural ordering, as required by both engines. The selector holds no
+ * mutable state, so one instance can be shared between threads.
+ *
+ * @param <T> the type of elements in the list; must implement {@link Comparable}
+ */
+public class SearchStrategySelector<T extends Comparable<T>> implements Search<T> {
+
+    /** Number of keys sampled; lists smaller than this are searched exponentially without sampling. */
+    static final int UNIFORMITY_SAMPLES = 64;
+
+    /** The keys are uniform if every sample is within this fraction of the key range of its prediction. */
+    static final int UNIFORMITY_TOLERANCE = 16;
+
+    /**
+     * Engines the selector can choose from.
+     */
+    public enum Strategy {
+        /** {@link InterpolationSearch}, for evenly spread keys. */
+        INTERPOLATION,
+        /** {@link ExponentialSearch}, for any distribution. */
+        EXPONENTIAL
+    }
+
+    /** Reads the key of an element. */
+    private final ToIntFunction<? super T> key;
+
+    /** Engine of every strategy. */
+    private final Map<Strategy, Search<T>> engines = new EnumMap<>(Strategy.class);
+
+    /**
+     * Creates a selector for lists sorted consistently with the given key.
+     *
+     * @param key the key of the elements, consistent with their natural ordering; must not be {@code null}
+     * @throws IllegalArgumentException if {@code key} is {@code null}
+     */
+    public SearchStrategySelector(ToIntFunction<? super T> key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key must not be null");
+        }
+        this.key = key;
+        engines.put(Strategy.INTERPOLATION, new InterpolationSearch<T>(key));
+        engines.put(Strategy.EXPONENTIAL, new ExponentialSearch<T>(key));
+    }
+
+    /**
+     * Creates a selector for barrels, keyed by volume.
+     *
+     * @return a selector for {@link Barrel} entities
+     */
+    public static SearchStrategySelector<Barrel> forBarrels() {
+        return new SearchStrategySelector<>(Barrel::getVolume);
+    }
+
+    /**
+     * Searches for the element with the engine chosen by {@link #select(List)}.
+     *
+     * @param sortedList the list to search in (must be sorted in ascending order)
+     * @param target     the element to find
+     * @return the index of the element if found, otherwise {@code -1}
+     * @throws NullPointerException if {@code sortedList} or {@code target} is {@code null}
+     */
+    @Override
+    public int search(List<T> sortedList, T target) {
+        return engine(select(sortedList)).search(sortedList, target);
+    }
+
+    /**
+     * Chooses the engine for searching the list by sampling its keys.
+     *
+     * @param sortedList the list to be searched (must be sorted in ascending order)
+     * @return the chosen strategy
+     */
+    public Strategy select(List<T> sortedList) {
+        int size = sortedList.size();
+        if (size < UNIFORMITY_SAMPLES) {
+            return Strategy.EXPONENTIAL;
+        }
+        long first = key.applyAsInt(sortedList.get(0));
+        long range = key.applyAsInt(sortedList.get(size - 1)) - first;
+        if (range <= 0) {
+            return Strategy.EXPONENTIAL;
+        }
+        for (int i = 1; i < UNIFORMITY_SAMPLES; i++) {
+            int position = (int) ((long) i * (size - 1) / UNIFORMITY_SAMPLES);
+            double predicted = first + (double) range * position / (size - 1);
+            double deviation = Math.abs(key.applyAsInt(sortedList.get(position)) - predicted);
+            if (deviation * UNIFORMITY_TOLERANCE > range) {
+                return Strategy.EXPONENTIAL;
+            }
+        }
+        return Strategy.INTERPOLATION;
+    }
+
+    /**
+     * Returns the engine of the given strategy.
+     *
+     * @param strategy the strategy
+     * @return the search engine implementing it
+     */
+    public Search<T> engine(Strategy strategy) {
+        return engines.get(strategy);
+    }
+}
@@ -0,0 +1,105 @@
+package com.team.sorting.sort;
+
+import com.team.sorting.model.Animal;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Columnar storage of {@link Animal} entities: species, eye color, fur and whether the animal eats buns
+ * as one byte each, four bytes per animal, all off-heap.
+ * <p>
+ * The natural key of a row is the one of {@link SortKey#animal()}, so {@link #sortedOrder()} orders the
+ * rows as {@link Animal#compareTo(Animal)} orders the animals.
+ */
+public final class AnimalColumns extends EntityColumns<Animal> {
+
+    private static final Animal.Species[] SPECIES = Animal.Species.values();
+    private static final Animal.EyeColor[] EYE_COLORS = Animal.EyeColor.values();
+    private static final Animal.Fur[] FURS = Animal.Fur.values();
+
+    /** Encoded species, one byte per row. */
+    private ByteBuffer species;
+
+    /** Encoded eye colors, one byte per row. */
+    private ByteBuffer eyeColors;
+
+    /** Encoded fur types, one byte per row. */
+    private ByteBuffer furs;
+
+    /** Whether the animal eats buns, {@code 1} or {@code 0}, one byte per row. */
+    private ByteBuffer eatsBuns;
+
+    /**
+     * Creates empty columns.
+     */
+    public AnimalColumns() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates empty columns with room for the given number of animals.
+     *
+     * @param capacity the initial number of rows; must be in {@code [0, MAX_CAPACITY]}
+     * @throws IllegalArgumentException if {@code capacity} is negative or greater than {@link #MAX_CAPACITY}
+     */
+    public AnimalColumns(int capacity) {
+        super(capacity);
+        species = allocate(capacity);
+        eyeColors = allocate(capacity);
+        furs = allocate(capacity);
+        eatsBuns = allocate(capacity);
+    }
+
+    @Override
+    public AnimalColumns permute(int[] order) {
+        AnimalColumns permuted = new AnimalColumns(order.length);
+        for (int i = 0; i < order.length; i++) {
+            int row = checkIndex(order[i]);
+            permuted.species.put(i, species.get(row));
+            permuted.eyeColors.put(i, eyeColors.get(row));
+            permuted.furs.put(i, furs.get(row));
+            permuted.eatsBuns.put(i, eatsBuns.get(row));
+        }
+        permuted.size = order.length;
+        return permuted;
+    }
+
+    @Override
+    public AnimalColumns sorted() {
+        return permute(sortedOrder());
+    }
+
+    @Override
+    void write(int index, Animal animal) {
+        species.put(index, encode(animal.getSpecies()));
+        eyeColors.put(index, encode(animal.getEyeColor()));
+        furs.put(index, encode(animal.getFur()));
+        eatsBuns.put(index, (byte) (animal.getEatsBun() ? 1 : 0));
+    }
+
+    @Override
+    Animal read(int index) {
+        return new Animal.Builder()
+                .species(decode(species.get(index), SPECIES))
+                .eyeColor(decode(eyeColors.get(index), EYE_COLORS))
+                .fur(decode(furs.get(index), FURS))
+                .eatsBun(eatsBuns.get(index) != 0)
+                .build();
+    }
+
+    @Override
+    long naturalKey(int index) {
+        return (long) species.get(index) << 7
+                | (long) eyeColors.get(index) << 4
+                | (long) furs.get(index) << 1
+                | eatsBuns.get(index);
+    }
+
+    @Override
+    void resize(int newCapacity) {
+        species = resize(species, size, newCapacity);
+        eyeColors = resize(eyeColors, size, newCapacity);
+        furs = resize(furs, size, newCapacity);
+        eatsBuns = resize(eatsBuns, size, newCapacity);
+    }
+}
@@ -0,0 +1,106 @@
+package com.team.sorting.sort;
+
+import com.team.sorting.model.Barrel;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Columnar storage of {@link Barrel} entities: the volume as an {@code int} column and the stored and
+ * construction materials as one byte each, nine bytes per barrel, all off-heap.
+ * <p>
+ * The natural key of a row is the one of {@link SortKey#barrel()}, so {@link #sortedOrder()} orders the
+ * rows as {@link Barrel#compareTo(Barrel)} orders the barrels.
+ */
+public final class BarrelColumns extends EntityColumns<Barrel> {
+
+    private static final Barrel.StoredMaterial[] STORED_MATERIALS = Barrel.StoredMaterial.values();
+    private static final Barrel.Material[] MATERIALS = Barrel.Material.values();
+
+    /** Volumes, {@link Integer#BYTES} per row. */
+    private ByteBuffer volumes;
+
+    /** Encoded stored materials, one byte per row. */
+    private ByteBuffer storedMaterials;
+
+    /** Encoded construction materials, one byte per row. */
+    private ByteBuffer materials;
+
+    /**
+     * Creates empty columns.
+     */
+    public BarrelColumns() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates empty columns with room for the given number of barrels.
+     *
+     * @param capacity the initial number of rows; must be in {@code [0, MAX_CAPACITY]}
+     * @throws IllegalArgumentException if {@code capacity} is negative or greater than {@link #MAX_CAPACITY}
+     */
+    public BarrelColumns(int capacity) {
+        super(capacity);
+        volumes = allocate(capacity * Integer.BYTES);
+        storedMaterials = allocate(capacity);
+        materials = allocate(capacity);
+    }
+
+    /**
+     * Returns the volume of the barrel in the given row without creating it.
+     *
+     * @param index the row
+     * @return the volume
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int volume(int index) {
+        return volumes.getInt(checkIndex(index) * Integer.BYTES);
+    }
+
+    @Override
+    public BarrelColumns permute(int[] order) {
+        BarrelColumns permuted = new BarrelColumns(order.length);
+        for (int i = 0; i < order.length; i++) {
+            int row = checkIndex(order[i]);
+            permuted.volumes.putInt(i * Integer.BYTES, volumes.getInt(row * Integer.BYTES));
+            permuted.storedMaterials.put(i, storedMaterials.get(row));
+            permuted.materials.put(i, materials.get(row));
+        }
+        permuted.size = order.length;
+        return permuted;
+    }
+
+    @Override
+    public BarrelColumns sorted() {
+        return permute(sortedOrder());
+    }
+
+    @Override
+    void write(int index, Barrel barrel) {
+        volumes.putInt(index * Integer.BYTES, barrel.getVolume());
+        storedMaterials.put(index, encode(barrel.getStoredMaterial()));
+        materials.put(index, encode(barrel.getMaterial()));
+    }
+
+    @Override
+    Barrel read(int index) {
+        return new Barrel.Builder()
+                .volume(volumes.getInt(index * Integer.BYTES))
+                .storedMaterial(decode(storedMaterials.get(index), STORED_MATERIALS))
+                .material(decode(materials.get(index), MATERIALS))
+                .build();
+    }
+
+    @Override
+    long naturalKey(int index) {
+        return ((long) volumes.getInt(index * Integer.BYTES) - Integer.MIN_VALUE) << 6
+                | (long) storedMaterials.get(index) << 3
+                | materials.get(index);
+    }
+
+    @Override
+    void resize(int newCapacity) {
+        volumes = resize(volumes, size * Integer.BYTES, newCapacity * Integer.BYTES);
+        storedMaterials = resize(storedMaterials, size, newCapacity);
+        materials = resize(materials, size, newCapacity);
+    }
+}
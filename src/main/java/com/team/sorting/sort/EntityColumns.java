@@ -0,0 +1,248 @@
+package com.team.sorting.sort;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Columnar storage of entities for sorting huge batches.
+ * <p>
+ * Instead of one object per entity, every field is stored in its own column: a direct (off-heap)
+ * {@link ByteBuffer} with enum constants as one byte ({@code ordinal() + 1}, {@code 0} for {@code null})
+ * and numbers as {@code int}s. A row takes a few bytes instead of an object header and references to
+ * shared enum constants and strings, and the garbage collector never has to trace the columns.
+ * <p>
+ * {@link #sortedOrder()} computes the natural order of the rows as an index permutation straight from
+ * the columns, and {@link #permute(int[])} reorders the columns by it, so a batch can be sorted without
+ * creating a single entity object. Entities are only materialized on request, by {@link #get(int)} and
+ * {@link #toList()}.
+ * <p>
+ * Columns grow by doubling as rows are added, up to {@link #MAX_CAPACITY} rows, so that the widest column
+ * still fits in one buffer. Instances are not thread-safe.
+ *
+ * @param <E> the type of entities stored
+ */
+public abstract class EntityColumns<E> {
+
+    /** Capacity used when none is given. */
+    static final int DEFAULT_CAPACITY = 16;
+
+    /** Maximum number of rows: byte offsets in the {@code int} columns must fit in an {@code int}. */
+    public static final int MAX_CAPACITY = (Integer.MAX_VALUE - 8) / Integer.BYTES;
+
+    /** Number of rows. */
+    int size;
+
+    /** Number of rows the columns can hold without growing. */
+    private int capacity;
+
+    /**
+     * Creates empty columns.
+     *
+     * @param capacity the initial number of rows; must be in {@code [0, MAX_CAPACITY]}
+     * @throws IllegalArgumentException if {@code capacity} is negative or greater than {@link #MAX_CAPACITY}
+     */
+    EntityColumns(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative: " + capacity);
+        }
+        if (capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must not exceed " + MAX_CAPACITY + " rows: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return the number of rows
+     */
+    public final int size() {
+        return size;
+    }
+
+    /**
+     * Appends the fields of an entity as a new row.
+     *
+     * @param entity the entity to store; must not be {@code null}
+     * @throws IllegalArgumentException if {@code entity} is {@code null}
+     * @throws IllegalStateException if the columns already hold {@link #MAX_CAPACITY} rows
+     */
+    public final void add(E entity) {
+        if (entity == null) {
+            throw new IllegalArgumentException("Entity must not be null");
+        }
+        ensureCapacity(size + 1L);
+        write(size, entity);
+        size++;
+    }
+
+    /**
+     * Appends the fields of all entities as new rows.
+     *
+     * @param entities the entities to store; must not contain {@code null}
+     * @throws IllegalArgumentException if an entity is {@code null}
+     * @throws IllegalStateException if the rows would exceed {@link #MAX_CAPACITY}
+     */
+    public final void addAll(Collection<? extends E> entities) {
+        ensureCapacity((long) size + entities.size());
+        for (E entity : entities) {
+            add(entity);
+        }
+    }
+
+    /**
+     * Creates an entity from the given row.
+     *
+     * @param index the row
+     * @return a new entity with the fields of the row
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public final E get(int index) {
+        return read(checkIndex(index));
+    }
+
+    /**
+     * Creates entities from all rows, in row order.
+     *
+     * @return a new list of entities
+     */
+    public final List<E> toList() {
+        List<E> entities = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            entities.add(read(i));
+        }
+        return entities;
+    }
+
+    /**
+     * Returns the permutation that orders the rows by the natural ordering of the entities.
+     * The rows are ordered by a numeric key of one or more words built from the columns, with
+     * {@link KeyPermutation}; equal rows keep their order. No entity objects are created.
+     *
+     * @return the row indices in natural order
+     */
+    public final int[] sortedOrder() {
+        int words = keyWords();
+        long[] keys = new long[size * words];
+        for (int i = 0; i < size; i++) {
+            naturalKey(i, keys, i * words);
+        }
+        return KeyPermutation.sortedOrder(keys, words);
+    }
+
+    /**
+     * Returns new columns holding the rows in the given order.
+     *
+     * @param order the row indices in the wanted order, such as the result of {@link #sortedOrder()}
+     * @return new columns with row {@code i} copied from row {@code order[i]}
+     * @throws IndexOutOfBoundsException if an index is out of range
+     */
+    public abstract EntityColumns<E> permute(int[] order);
+
+    /**
+     * Returns new columns holding the rows in natural order.
+     *
+     * @return the sorted columns
+     */
+    public EntityColumns<E> sorted() {
+        return permute(sortedOrder());
+    }
+
+    /**
+     * Writes the fields of the entity into the given row; capacity is already ensured.
+     */
+    abstract void write(int index, E entity);
+
+    /**
+     * Creates an entity from the given row.
+     */
+    abstract E read(int index);
+
+    /**
+     * Returns the key of the row whose numeric order matches the natural ordering of the entities.
+     */
+    abstract long naturalKey(int index);
+
+    /**
+     * Returns the number of words of the keys written by {@link #naturalKey(int, long[], int)}; one by default.
+     */
+    int keyWords() {
+        return 1;
+    }
+
+    /**
+     * Writes the {@link #keyWords()} words of the key of the row, most significant first, starting at
+     * {@code keys[offset]}. By default this is the single word {@link #naturalKey(int)}.
+     */
+    void naturalKey(int index, long[] keys, int offset) {
+        keys[offset] = naturalKey(index);
+    }
+
+    /**
+     * Moves the columns to buffers of the given number of rows, keeping the existing rows.
+     */
+    abstract void resize(int newCapacity);
+
+    /**
+     * Checks a row index against the number of rows.
+     */
+    final int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Row " + index + " out of bounds for size " + size);
+        }
+        return index;
+    }
+
+    private void ensureCapacity(long required) {
+        if (required > MAX_CAPACITY) {
+            throw new IllegalStateException("Columns cannot hold more than " + MAX_CAPACITY + " rows");
+        }
+        if (required > capacity) {
+            long grown = Math.max(DEFAULT_CAPACITY, capacity * 2L);
+            int newCapacity = (int) Math.min(MAX_CAPACITY, Math.max(required, grown));
+            resize(newCapacity);
+            capacity = newCapacity;
+        }
+    }
+
+    /**
+     * Allocates a direct buffer in native byte order.
+     *
+     * @param bytes the size of the buffer
+     * @return the new buffer
+     */
+    static ByteBuffer allocate(int bytes) {
+        return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Copies the first {@code usedBytes} of a buffer into a new direct buffer of the given size.
+     *
+     * @param buffer the buffer to copy
+     * @param usedBytes the number of bytes in use
+     * @param bytes the size of the new buffer
+     * @return the new buffer
+     */
+    static ByteBuffer resize(ByteBuffer buffer, int usedBytes, int bytes) {
+        ByteBuffer resized = allocate(bytes);
+        resized.put(0, buffer, 0, usedBytes);
+        return resized;
+    }
+
+    /**
+     * Encodes an enum constant as {@code ordinal() + 1}, or {@code 0} for {@code null}.
+     */
+    static byte encode(Enum<?> value) {
+        return (byte) (value == null ? 0 : value.ordinal() + 1);
+    }
+
+    /**
+     * Decodes an enum constant written by {@link #encode(Enum)}.
+     */
+    static <T extends Enum<T>> T decode(byte code, T[] values) {
+        return code == 0 ? null : values[code - 1];
+    }
+}
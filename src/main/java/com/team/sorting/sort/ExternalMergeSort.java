@@ -0,0 +1,293 @@
+package com.team.sorting.sort;
+
+import com.team.sorting.input.loader.EntityLoader;
+import com.team.sorting.writeToFile.FileRecorder;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+/**
+ * External merge sort for inputs larger than the heap.
+ * <p>
+ * Elements are consumed from an iterator in chunks of a configurable size. Each chunk is sorted in memory
+ * with a {@link Sort} and spilled to a temporary file as a sorted run, in the compact binary form of a
+ * {@link RecordCodec}. The runs are then merged with a heap-based k-way merge; when there are more than
+ * {@code MAX_MERGE_WIDTH} runs, consecutive groups are merged into longer runs first, so the number of
+ * open files stays bounded. At most one chunk (plus its sorted copy) and one element per open run are held
+ * in memory at any time.
+ * <p>
+ * With a stable chunk sort (such as the default {@link ParallelMergeSort}) the whole sort is stable.
+ *
+ * @param <E> the type of elements to be sorted
+ */
+public final class ExternalMergeSort<E> {
+
+    /** Default number of elements sorted in memory at once. */
+    public static final int DEFAULT_CHUNK_SIZE = 100_000;
+
+    /** Maximum number of runs merged at once. */
+    static final int MAX_MERGE_WIDTH = 64;
+
+    /** Size of the buffers of run readers and writers, in bytes. */
+    private static final int IO_BUFFER_SIZE = 1 << 16;
+
+    /** Binary form of the elements in run files. */
+    private final RecordCodec<E> codec;
+
+    /** Sorts each chunk in memory. */
+    private final Sort<E> chunkSorter;
+
+    /** Number of elements sorted in memory at once. */
+    private final int chunkSize;
+
+    /** Directory of the temporary run files, or {@code null} for the default temporary directory. */
+    private final Path tempDirectory;
+
+    /**
+     * Creates an external sort with the default chunk size, sorting chunks with {@link ParallelMergeSort}
+     * and spilling runs to the default temporary directory.
+     *
+     * @param codec the binary form of the elements; must not be {@code null}
+     * @throws IllegalArgumentException if {@code codec} is {@code null}
+     */
+    public ExternalMergeSort(RecordCodec<E> codec) {
+        this(codec, new ParallelMergeSort<>(), DEFAULT_CHUNK_SIZE, null);
+    }
+
+    /**
+     * Creates an external sort with the given configuration.
+     *
+     * @param codec the binary form of the elements; must not be {@code null}
+     * @param chunkSorter the sort applied to each chunk; must not be {@code null}
+     * @param chunkSize the number of elements sorted in memory at once; must be positive
+     * @param tempDirectory the directory of the run files, or {@code null} for the default temporary directory
+     * @throws IllegalArgumentException if {@code codec} or {@code chunkSorter} is {@code null},
+     *                                  or {@code chunkSize} is not positive
+     */
+    public ExternalMergeSort(RecordCodec<E> codec, Sort<E> chunkSorter, int chunkSize, Path tempDirectory) {
+        if (codec == null || chunkSorter == null) {
+            throw new IllegalArgumentException("Codec and chunk sorter must not be null");
+        }
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        this.codec = codec;
+        this.chunkSorter = chunkSorter;
+        this.chunkSize = chunkSize;
+        this.tempDirectory = tempDirectory;
+    }
+
+    /**
+     * Sorts the entities of a file and appends them to another file using {@link FileRecorder}.
+     * The input file is parsed lazily with {@link EntityLoader#stream(String)}.
+     *
+     * @param loader the loader parsing the input file
+     * @param inputPath the path of the input file
+     * @param comparator the comparator used for ordering; must not be {@code null}
+     * @param outputFile the path of the file to append the sorted entities to
+     * @throws IllegalArgumentException if comparator is {@code null}
+     * @throws UncheckedIOException if the run files cannot be written or read
+     */
+    public void sortFile(EntityLoader<E> loader, String inputPath, Comparator<? super E> comparator,
+                         String outputFile) {
+        try (Stream<E> entities = loader.stream(inputPath)) {
+            sortToFile(entities, comparator, outputFile);
+        }
+    }
+
+    /**
+     * Sorts the elements of a stream and appends them to a file using {@link FileRecorder}.
+     * The stream is consumed but not closed.
+     *
+     * @param input the elements to sort
+     * @param comparator the comparator used for ordering; must not be {@code null}
+     * @param outputFile the path of the file to append the sorted elements to
+     * @throws IllegalArgumentException if comparator is {@code null}
+     * @throws UncheckedIOException if the run files cannot be written or read
+     */
+    public void sortToFile(Stream<? extends E> input, Comparator<? super E> comparator, String outputFile) {
+        try (SortedRuns<E> sorted = sort(input.iterator(), comparator)) {
+            FileRecorder.writeIteratorToFile(sorted, outputFile);
+        }
+    }
+
+    /**
+     * Sorts the remaining elements of the iterator.
+     * The result must be closed to release and delete the run files.
+     *
+     * @param input the elements to sort
+     * @param comparator the comparator used for ordering; must not be {@code null}
+     * @return the sorted elements
+     * @throws IllegalArgumentException if comparator is {@code null}
+     * @throws UncheckedIOException if the run files cannot be written or read
+     */
+    public SortedRuns<E> sort(Iterator<? extends E> input, Comparator<? super E> comparator) {
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator must not be null");
+        }
+
+        List<Path> runs = new ArrayList<>();
+        List<RunReader> readers = new ArrayList<>();
+        try {
+            List<E> chunk = new ArrayList<>();
+            while (input.hasNext()) {
+                chunk.add(input.next());
+                if (chunk.size() == chunkSize) {
+                    runs.add(writeRun(sortChunk(chunk, comparator).iterator(), chunkSize));
+                    chunk.clear();
+                }
+            }
+            List<E> lastChunk = sortChunk(chunk, comparator);
+            if (runs.isEmpty()) {
+                // Everything fit into one chunk: no files needed
+                return new SortedRuns<>(lastChunk.iterator(), List.of(), List.of());
+            }
+            if (!lastChunk.isEmpty()) {
+                runs.add(writeRun(lastChunk.iterator(), lastChunk.size()));
+            }
+
+            while (runs.size() > MAX_MERGE_WIDTH) {
+                runs = mergePass(runs, comparator);
+            }
+            for (Path run : runs) {
+                readers.add(new RunReader(run));
+            }
+            return new SortedRuns<>(new MergingIterator<>(readers, comparator), readers, runs);
+        } catch (IOException e) {
+            release(readers, runs);
+            throw new UncheckedIOException("Error spilling sorted runs", e);
+        } catch (RuntimeException e) {
+            release(readers, runs);
+            throw e;
+        }
+    }
+
+    /**
+     * Sorts one chunk in memory.
+     */
+    private List<E> sortChunk(List<E> chunk, Comparator<? super E> comparator) {
+        List<E> sorted = chunkSorter.sort(chunk, comparator);
+        return sorted == null ? List.of() : sorted;
+    }
+
+    /**
+     * Merges consecutive groups of {@code MAX_MERGE_WIDTH} runs into single runs, keeping their order.
+     *
+     * @param runs the runs to merge; deleted once merged
+     * @param comparator the comparator the runs are sorted by
+     * @return the merged runs
+     * @throws IOException if an I/O error occurs
+     */
+    private List<Path> mergePass(List<Path> runs, Comparator<? super E> comparator) throws IOException {
+        List<Path> merged = new ArrayList<>();
+        try {
+            for (int from = 0; from < runs.size(); from += MAX_MERGE_WIDTH) {
+                List<Path> group = runs.subList(from, Math.min(runs.size(), from + MAX_MERGE_WIDTH));
+                List<RunReader> readers = new ArrayList<>(group.size());
+                try {
+                    long count = 0;
+                    for (Path run : group) {
+                        RunReader reader = new RunReader(run);
+                        readers.add(reader);
+                        count += reader.remaining;
+                    }
+                    merged.add(writeRun(new MergingIterator<>(readers, comparator), count));
+                } finally {
+                    release(readers, group);
+                }
+            }
+            return merged;
+        } catch (IOException | RuntimeException e) {
+            release(List.of(), merged);
+            throw e;
+        }
+    }
+
+    /**
+     * Writes a sorted run to a new temporary file: the number of elements followed by the encoded elements.
+     *
+     * @param elements the sorted elements
+     * @param count the number of elements
+     * @return the path of the run file
+     * @throws IOException if an I/O error occurs
+     */
+    private Path writeRun(Iterator<? extends E> elements, long count) throws IOException {
+        Path file = tempDirectory == null
+                ? Files.createTempFile("sort-run-", ".bin")
+                : Files.createTempFile(tempDirectory, "sort-run-", ".bin");
+        try (DataOutputStream output = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(file), IO_BUFFER_SIZE))) {
+            output.writeLong(count);
+            while (elements.hasNext()) {
+                codec.write(output, elements.next());
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return file;
+    }
+
+    /**
+     * Closes the readers and deletes the run files, as after a failure or a finished merge.
+     */
+    private static void release(List<? extends Closeable> readers, List<Path> files) {
+        new SortedRuns<>(Collections.emptyIterator(), readers, files).close();
+    }
+
+    /**
+     * Sequential reader of one run file.
+     */
+    private final class RunReader implements Iterator<E>, Closeable {
+
+        private final DataInputStream input;
+        private long remaining;
+
+        RunReader(Path file) throws IOException {
+            this.input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), IO_BUFFER_SIZE));
+            try {
+                this.remaining = input.readLong();
+            } catch (IOException e) {
+                input.close();
+                throw e;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public E next() {
+            if (remaining == 0) {
+                throw new NoSuchElementException();
+            }
+            remaining--;
+            try {
+                return codec.read(input);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Error reading sorted run", e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            input.close();
+        }
+    }
+}
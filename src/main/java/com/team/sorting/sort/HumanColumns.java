@@ -0,0 +1,239 @@
+package com.team.sorting.sort;
+
+import com.team.sorting.model.Human;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Columnar storage of {@link Human} entities: the gender as one byte, the age as an {@code int} and the
+ * last name as the {@code int} id of an entry in a dictionary of distinct names, nine bytes per human
+ * off-heap. Generated and loaded batches repeat the same few names, so each name is kept once on the heap.
+ * <p>
+ * Strings do not fit a numeric key, but their order does: {@link #sortedOrder()} sorts the distinct names
+ * once, replaces every name by its rank and orders the rows by rank → gender → age, the natural ordering of
+ * {@link Human}, with {@code null} names first. The key is one {@code long} while the ranks fit in its top
+ * 23 bits, and two words (rank, then gender and age) from {@value #SINGLE_WORD_NAMES} distinct names on.
+ */
+public final class HumanColumns extends EntityColumns<Human> {
+
+    private static final Human.Gender[] GENDERS = Human.Gender.values();
+
+    /** Number of distinct names from which the rank no longer fits in the top bits of a single-word key. */
+    static final int SINGLE_WORD_NAMES = 1 << 23;
+
+    /** Id of the {@code null} last name. */
+    private static final int NO_NAME = -1;
+
+    /** Encoded genders, one byte per row. */
+    private ByteBuffer genders;
+
+    /** Ages, {@link Integer#BYTES} per row. */
+    private ByteBuffer ages;
+
+    /** Dictionary ids of the last names, {@link Integer#BYTES} per row. */
+    private ByteBuffer lastNames;
+
+    /** Distinct last names, by id. */
+    private final List<String> names;
+
+    /** Id of every distinct last name. */
+    private final Map<String, Integer> ids;
+
+    /** Number of distinct names from which the two-word key is used; {@link #SINGLE_WORD_NAMES} but in tests. */
+    private final int singleWordNames;
+
+    /** Rank of every name id in sorted name order, or {@code null} if names were added since computing it. */
+    private int[] ranks;
+
+    /**
+     * Creates empty columns.
+     */
+    public HumanColumns() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates empty columns with room for the given number of humans.
+     *
+     * @param capacity the initial number of rows; must be in {@code [0, MAX_CAPACITY]}
+     * @throws IllegalArgumentException if {@code capacity} is negative or greater than {@link #MAX_CAPACITY}
+     */
+    public HumanColumns(int capacity) {
+        this(capacity, SINGLE_WORD_NAMES);
+    }
+
+    /**
+     * Creates empty columns switching to the two-word key from the given number of distinct names on, so the
+     * two-word key can be tested without millions of names.
+     */
+    HumanColumns(int capacity, int singleWordNames) {
+        this(capacity, new ArrayList<>(), new HashMap<>(), singleWordNames);
+    }
+
+    private HumanColumns(int capacity, List<String> names, Map<String, Integer> ids, int singleWordNames) {
+        super(capacity);
+        this.singleWordNames = singleWordNames;
+        genders = allocate(capacity);
+        ages = allocate(capacity * Integer.BYTES);
+        lastNames = allocate(capacity * Integer.BYTES);
+        this.names = names;
+        this.ids = ids;
+    }
+
+    /**
+     * Returns the number of distinct non-{@code null} last names stored.
+     *
+     * @return the size of the name dictionary
+     */
+    public int distinctLastNames() {
+        return names.size();
+    }
+
+    /**
+     * Returns the age of the human in the given row without creating it.
+     *
+     * @param index the row
+     * @return the age
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int age(int index) {
+        return ages.getInt(checkIndex(index) * Integer.BYTES);
+    }
+
+    /**
+     * Returns the last name of the human in the given row without creating it.
+     *
+     * @param index the row
+     * @return the last name, may be {@code null}
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public String lastName(int index) {
+        return name(lastNames.getInt(checkIndex(index) * Integer.BYTES));
+    }
+
+    /**
+     * Returns new columns holding the rows in the given order, with their own copy of the name dictionary.
+     */
+    @Override
+    public HumanColumns permute(int[] order) {
+        HumanColumns permuted = new HumanColumns(order.length, new ArrayList<>(names), new HashMap<>(ids),
+                singleWordNames);
+        for (int i = 0; i < order.length; i++) {
+            int row = checkIndex(order[i]);
+            permuted.genders.put(i, genders.get(row));
+            permuted.ages.putInt(i * Integer.BYTES, ages.getInt(row * Integer.BYTES));
+            permuted.lastNames.putInt(i * Integer.BYTES, lastNames.getInt(row * Integer.BYTES));
+        }
+        permuted.size = order.length;
+        permuted.ranks = ranks;
+        return permuted;
+    }
+
+    @Override
+    public HumanColumns sorted() {
+        return permute(sortedOrder());
+    }
+
+    @Override
+    void write(int index, Human human) {
+        genders.put(index, encode(human.getGender()));
+        ages.putInt(index * Integer.BYTES, human.getAge());
+        lastNames.putInt(index * Integer.BYTES, idOf(human.getLastName()));
+    }
+
+    @Override
+    Human read(int index) {
+        return new Human.Builder()
+                .gender(decode(genders.get(index), GENDERS))
+                .age(ages.getInt(index * Integer.BYTES))
+                .lastName(name(lastNames.getInt(index * Integer.BYTES)))
+                .build();
+    }
+
+    @Override
+    long naturalKey(int index) {
+        return rank(index) << 40 | genderAndAge(index);
+    }
+
+    @Override
+    int keyWords() {
+        return names.size() < singleWordNames ? 1 : 2;
+    }
+
+    @Override
+    void naturalKey(int index, long[] keys, int offset) {
+        if (keyWords() == 1) {
+            keys[offset] = naturalKey(index);
+        } else {
+            keys[offset] = rank(index);
+            keys[offset + 1] = genderAndAge(index);
+        }
+    }
+
+    @Override
+    void resize(int newCapacity) {
+        genders = resize(genders, size, newCapacity);
+        ages = resize(ages, size * Integer.BYTES, newCapacity * Integer.BYTES);
+        lastNames = resize(lastNames, size * Integer.BYTES, newCapacity * Integer.BYTES);
+    }
+
+    /**
+     * Returns the dictionary id of the name, adding the name if it is new.
+     */
+    private int idOf(String name) {
+        if (name == null) {
+            return NO_NAME;
+        }
+        Integer id = ids.get(name);
+        if (id == null) {
+            id = names.size();
+            names.add(name);
+            ids.put(name, id);
+            ranks = null;
+        }
+        return id;
+    }
+
+    /**
+     * Returns the rank of the last name of the row, {@code 0} for {@code null} and at most {@code 2^31}.
+     */
+    private long rank(int index) {
+        int id = lastNames.getInt(index * Integer.BYTES);
+        return id == NO_NAME ? 0 : ranks()[id] + 1L;
+    }
+
+    /**
+     * Returns the encoded gender in bits 32-39 and the age, offset to be non-negative, in the low 32 bits.
+     */
+    private long genderAndAge(int index) {
+        return (long) genders.get(index) << 32 | ((long) ages.getInt(index * Integer.BYTES) - Integer.MIN_VALUE);
+    }
+
+    private String name(int id) {
+        return id == NO_NAME ? null : names.get(id);
+    }
+
+    /**
+     * Returns the rank of every name id in {@link String#compareTo(String)} order, sorting the dictionary once.
+     */
+    private int[] ranks() {
+        if (ranks == null) {
+            Integer[] byName = new Integer[names.size()];
+            for (int i = 0; i < byName.length; i++) {
+                byName[i] = i;
+            }
+            Arrays.sort(byName, (a, b) -> names.get(a).compareTo(names.get(b)));
+            int[] computed = new int[byName.length];
+            for (int rank = 0; rank < byName.length; rank++) {
+                computed[byName[rank]] = rank;
+            }
+            ranks = computed;
+        }
+        return ranks;
+    }
+}
@@ -1,20 +1,19 @@
 package com.team.sorting.sort;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
-import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Generic insertion sort implementation.
  * Creates a new sorted copy of the input list using either natural ordering or a custom {@link Comparator}.
+ * <p>
+ * Elements are only shifted past strictly greater ones, so the sort is stable.
  *
  * @param <E> the type of elements to be sorted
  */
-public final class InsertionSort<E> implements Sort<E> {
-
-    /** Ensures thread safety for concurrent sorting calls. */
-    private final ReentrantLock lock = new ReentrantLock();
+public final class InsertionSort<E> implements StableSort<E> {
 
     /**
      * Sorts the given list using insertion sort with the provided comparator.
@@ -34,23 +33,50 @@ public final class InsertionSort<E> implements Sort<E> {
             throw new IllegalArgumentException("Comparator must not be null");
         }
 
-        lock.lock();
-        try {
-            List<E> result = new ArrayList<>(list);
+        @SuppressWarnings("unchecked")
+        E[] array = (E[]) list.toArray();
+        sortRange(array, 0, array.length, comparator);
 
-            for (int i = 1; i < result.size(); i++) {
-                E key = result.get(i);
-                int j = i - 1;
-                while (j >= 0 && comparator.compare(result.get(j), key) > 0) {
-                    result.set(j + 1, result.get(j));
-                    j--;
-                }
-                result.set(j + 1, key);
-            }
+        return new ArrayList<>(Arrays.asList(array));
+    }
+
+    /**
+     * Sorts the given array in place, without copying it into a list.
+     *
+     * @param array the array to sort; must not be {@code null}
+     * @param comparator the comparator used for ordering; must not be {@code null}
+     * @throws IllegalArgumentException if the array or the comparator is {@code null}
+     */
+    @Override
+    public void sortArray(E[] array, Comparator<? super E> comparator) {
+        if (array == null) {
+            throw new IllegalArgumentException("Array must not be null");
+        }
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator must not be null");
+        }
+        sortRange(array, 0, array.length, comparator);
+    }
 
-            return result;
-        } finally {
-            lock.unlock();
+    /**
+     * Sorts the range {@code [from, to)} of the given array in place using insertion sort.
+     * Used by other engines of this package as the leaf sort for small ranges.
+     *
+     * @param array the array holding the range to sort
+     * @param from the index of the first element, inclusive
+     * @param to the index of the last element, exclusive
+     * @param comparator the comparator used for ordering
+     * @param <E> the type of elements to be sorted
+     */
+    static <E> void sortRange(E[] array, int from, int to, Comparator<? super E> comparator) {
+        for (int i = from + 1; i < to; i++) {
+            E key = array[i];
+            int j = i - 1;
+            while (j >= from && comparator.compare(array[j], key) > 0) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            array[j + 1] = key;
         }
     }
 }
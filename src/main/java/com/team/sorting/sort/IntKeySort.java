@@ -0,0 +1,107 @@
+package com.team.sorting.sort;
+
+import com.team.sorting.model.Barrel;
+import com.team.sorting.model.Human;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Sort by a primitive {@code int} field, such as {@link Barrel#getVolume()} or {@link Human#getAge()}.
+ * Creates a new sorted copy of the input list.
+ * <p>
+ * The key of every element is read exactly once into an {@code int[]}; the keys are then ordered by
+ * {@link KeyPermutation#sortedOrder(int[])} into an {@code int[]} permutation, with a single counting pass
+ * when the keys span a small range and byte-wise LSD radix passes otherwise. No key is boxed, no
+ * comparator is called while ordering by key, and the result list is built once from the permutation.
+ * <p>
+ * The key defines the primary order. The comparator passed to {@link #sort(List, Comparator)} only
+ * orders elements whose keys are equal, as with {@link RadixSort}. The sort is stable.
+ *
+ * @param <E> the type of elements to be sorted
+ */
+public final class IntKeySort<E> implements StableSort<E> {
+
+    /** Reads the key of an element. */
+    private final ToIntFunction<? super E> key;
+
+    /**
+     * Creates a sort ordering elements by the given {@code int} key.
+     *
+     * @param key the key of the elements; must not be {@code null}
+     * @throws IllegalArgumentException if {@code key} is {@code null}
+     */
+    public IntKeySort(ToIntFunction<? super E> key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key must not be null");
+        }
+        this.key = key;
+    }
+
+    /**
+     * Creates a sort for barrels ordered by volume.
+     *
+     * @return an int key sort for {@link Barrel} entities
+     */
+    public static IntKeySort<Barrel> forBarrelsByVolume() {
+        return new IntKeySort<>(Barrel::getVolume);
+    }
+
+    /**
+     * Creates a sort for humans ordered by age.
+     *
+     * @return an int key sort for {@link Human} entities
+     */
+    public static IntKeySort<Human> forHumansByAge() {
+        return new IntKeySort<>(Human::getAge);
+    }
+
+    /**
+     * Sorts the given list by key, ordering elements with equal keys by the provided comparator.
+     * Returns a new sorted list without modifying the input.
+     *
+     * @param list the list to sort (may be {@code null} or empty)
+     * @param comparator the comparator used for elements with equal keys; must not be {@code null}
+     * @return a new sorted list, or the original list if null/size < 2
+     * @throws IllegalArgumentException if comparator is {@code null}
+     */
+    @Override
+    public List<E> sort(List<E> list, Comparator<? super E> comparator) {
+        if (list == null || list.size() < 2) {
+            return list;
+        }
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator must not be null");
+        }
+
+        Object[] source = list.toArray();
+        int[] keys = new int[source.length];
+        for (int i = 0; i < source.length; i++) {
+            @SuppressWarnings("unchecked")
+            E element = (E) source[i];
+            keys[i] = key.applyAsInt(element);
+        }
+        int[] order = KeyPermutation.sortedOrder(keys);
+
+        @SuppressWarnings("unchecked")
+        E[] sorted = (E[]) new Object[order.length];
+        int groupStart = 0;
+        for (int i = 0; i < order.length; i++) {
+            @SuppressWarnings("unchecked")
+            E element = (E) source[order[i]];
+            sorted[i] = element;
+
+            // Order the previous group of equal keys by the comparator once it is complete
+            if (keys[order[i]] != keys[order[groupStart]]) {
+                TimSort.sortRange(sorted, groupStart, i, comparator);
+                groupStart = i;
+            }
+        }
+        TimSort.sortRange(sorted, groupStart, order.length, comparator);
+
+        return new ArrayList<>(Arrays.asList(sorted));
+    }
+}
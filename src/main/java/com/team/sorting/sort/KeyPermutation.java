@@ -0,0 +1,238 @@
+package com.team.sorting.sort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Utility class ordering primitive sort keys by an index permutation.
+ * <p>
+ * Keys are sorted with LSD radix passes over their bytes, moving each key together with the
+ * index of the element it belongs to, so no comparisons are made and the elements themselves
+ * are never touched. The resulting permutation is stable: indices of equal keys stay ascending.
+ */
+public final class KeyPermutation {
+
+    /** Number of bits in one digit. */
+    private static final int RADIX_BITS = 8;
+
+    /** Number of buckets per digit. */
+    private static final int RADIX = 1 << RADIX_BITS;
+
+    /** Number of digits in a {@code long} word. */
+    private static final int DIGITS = Long.SIZE / RADIX_BITS;
+
+    /** Int keys spanning at most this many values (or at most as many as there are keys) are counting sorted. */
+    static final int COUNTING_RANGE = 1 << 16;
+
+    private KeyPermutation() {
+    }
+
+    /**
+     * Returns the permutation that orders single-word keys ascending.
+     *
+     * @param keys the keys to order; not modified
+     * @return the indices of the keys in ascending key order
+     */
+    public static int[] sortedOrder(long[] keys) {
+        return sortedOrder(keys, 1);
+    }
+
+    /**
+     * Returns the permutation that orders multi-word keys ascending.
+     * The words of key {@code i} occupy {@code [i * words, (i + 1) * words)}, most significant first,
+     * as produced by {@link SortKey#extractAll(List)}.
+     *
+     * @param keys the keys to order; not modified
+     * @param words the number of words per key; must be positive and divide {@code keys.length}
+     * @return the indices of the keys in ascending key order
+     * @throws IllegalArgumentException if {@code words} does not match the key array
+     */
+    public static int[] sortedOrder(long[] keys, int words) {
+        if (words < 1 || keys.length % words != 0) {
+            throw new IllegalArgumentException("Invalid key width " + words + " for " + keys.length + " words");
+        }
+        int size = keys.length / words;
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+
+        // Least significant word first; each pass is stable, so earlier passes decide ties
+        long[] wordKeys = new long[size];
+        for (int word = words - 1; word >= 0; word--) {
+            for (int i = 0; i < size; i++) {
+                wordKeys[i] = keys[order[i] * words + word];
+            }
+            sortWord(wordKeys, order);
+        }
+        return order;
+    }
+
+    /**
+     * Returns the permutation that orders {@code int} keys ascending.
+     * <p>
+     * If the keys span a small range of values, a single counting pass places every index directly.
+     * Otherwise the keys are sorted by their distance from the minimum with LSD radix passes, one per
+     * byte of the largest distance, so narrow ranges need fewer passes than the full 32 bits.
+     *
+     * @param keys the keys to order; not modified
+     * @return the indices of the keys in ascending key order
+     */
+    public static int[] sortedOrder(int[] keys) {
+        int size = keys.length;
+        int[] order = new int[size];
+        if (size == 0) {
+            return order;
+        }
+        int min = keys[0];
+        int max = keys[0];
+        for (int key : keys) {
+            min = Math.min(min, key);
+            max = Math.max(max, key);
+        }
+        long range = (long) max - min;
+
+        if (range < Math.max(COUNTING_RANGE, size)) {
+            int[] start = new int[(int) range + 2];
+            for (int key : keys) {
+                start[key - min + 1]++;
+            }
+            for (int bucket = 1; bucket < start.length; bucket++) {
+                start[bucket] += start[bucket - 1];
+            }
+            for (int i = 0; i < size; i++) {
+                order[start[keys[i] - min]++] = i;
+            }
+            return order;
+        }
+
+        // Distances from the minimum fit into 32 unsigned bits
+        int[] distances = new int[size];
+        for (int i = 0; i < size; i++) {
+            distances[i] = keys[i] - min;
+            order[i] = i;
+        }
+        int bits = Long.SIZE - Long.numberOfLeadingZeros(range);
+        int[] indices = order;
+        int[] distanceBuffer = new int[size];
+        int[] indexBuffer = new int[size];
+        int[] start = new int[RADIX + 1];
+        for (int shift = 0; shift < bits; shift += RADIX_BITS) {
+            Arrays.fill(start, 0);
+            for (int distance : distances) {
+                start[((distance >>> shift) & (RADIX - 1)) + 1]++;
+            }
+            for (int bucket = 1; bucket <= RADIX; bucket++) {
+                start[bucket] += start[bucket - 1];
+            }
+            for (int i = 0; i < size; i++) {
+                int target = start[(distances[i] >>> shift) & (RADIX - 1)]++;
+                distanceBuffer[target] = distances[i];
+                indexBuffer[target] = indices[i];
+            }
+
+            int[] swappedDistances = distances;
+            distances = distanceBuffer;
+            distanceBuffer = swappedDistances;
+            int[] swappedIndices = indices;
+            indices = indexBuffer;
+            indexBuffer = swappedIndices;
+        }
+        return indices;
+    }
+
+    /**
+     * Checks whether the keys at the two given indices are equal.
+     *
+     * @param keys the keys laid out row by row
+     * @param words the number of words per key
+     * @param first the index of the first key
+     * @param second the index of the second key
+     * @return {@code true} if all words of both keys are equal
+     */
+    public static boolean equalKeys(long[] keys, int words, int first, int second) {
+        int a = first * words;
+        int b = second * words;
+        for (int word = 0; word < words; word++) {
+            if (keys[a + word] != keys[b + word]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a new list holding the elements in the order given by the permutation.
+     *
+     * @param elements the elements to reorder; not modified
+     * @param order the permutation, as returned by {@link #sortedOrder(long[], int)}
+     * @param <E> the type of elements
+     * @return a new list with {@code result.get(i) == elements.get(order[i])}
+     */
+    public static <E> List<E> apply(List<E> elements, int[] order) {
+        Object[] source = elements.toArray();
+        List<E> result = new ArrayList<>(order.length);
+        for (int index : order) {
+            @SuppressWarnings("unchecked")
+            E element = (E) source[index];
+            result.add(element);
+        }
+        return result;
+    }
+
+    /**
+     * Stably sorts the word keys ascending (as signed numbers), applying the same moves to the indices.
+     * The indices are updated in place; the word keys are used as scratch space and left unspecified.
+     *
+     * @param wordKeys one key word per index
+     * @param order the indices travelling with the keys
+     */
+    private static void sortWord(long[] wordKeys, int[] order) {
+        int size = wordKeys.length;
+        int[][] counts = new int[DIGITS][RADIX];
+        for (int i = 0; i < size; i++) {
+            // Flipping the sign bit makes unsigned byte order match signed order
+            long key = wordKeys[i] ^ Long.MIN_VALUE;
+            wordKeys[i] = key;
+            for (int digit = 0; digit < DIGITS; digit++) {
+                counts[digit][(int) (key >>> (digit * RADIX_BITS)) & (RADIX - 1)]++;
+            }
+        }
+
+        long[] keys = wordKeys;
+        int[] indices = order;
+        long[] keyBuffer = new long[size];
+        int[] indexBuffer = new int[size];
+        for (int digit = 0; digit < DIGITS && size > 0; digit++) {
+            int[] count = counts[digit];
+            int shift = digit * RADIX_BITS;
+            if (count[(int) (keys[0] >>> shift) & (RADIX - 1)] == size) {
+                continue; // All keys share this byte
+            }
+
+            int offset = 0;
+            for (int bucket = 0; bucket < RADIX; bucket++) {
+                int bucketSize = count[bucket];
+                count[bucket] = offset;
+                offset += bucketSize;
+            }
+            for (int i = 0; i < size; i++) {
+                int target = count[(int) (keys[i] >>> shift) & (RADIX - 1)]++;
+                keyBuffer[target] = keys[i];
+                indexBuffer[target] = indices[i];
+            }
+
+            long[] swappedKeys = keys;
+            keys = keyBuffer;
+            keyBuffer = swappedKeys;
+            int[] swappedIndices = indices;
+            indices = indexBuffer;
+            indexBuffer = swappedIndices;
+        }
+
+        if (indices != order) {
+            System.arraycopy(indices, 0, order, 0, size);
+        }
+    }
+}
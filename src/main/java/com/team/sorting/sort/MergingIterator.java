@@ -0,0 +1,76 @@
+package com.team.sorting.sort;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Iterator performing a lazy k-way merge of sorted iterators with a binary heap.
+ * Every {@link #next()} costs {@code O(log k)} comparisons; only the current head of each source is held.
+ * On ties the element of the earlier source comes first, so merging stably sorted runs that were cut
+ * from the input in order gives a stable result.
+ *
+ * @param <E> the type of elements
+ */
+final class MergingIterator<E> implements Iterator<E> {
+
+    /** Heads of the non-exhausted sources, smallest first. */
+    private final PriorityQueue<Head<E>> heads;
+
+    /**
+     * Creates an iterator merging the given sources, each of which must be sorted by the comparator.
+     *
+     * @param sources the sorted sources, in input order
+     * @param comparator the comparator the sources are sorted by
+     */
+    MergingIterator(List<? extends Iterator<? extends E>> sources, Comparator<? super E> comparator) {
+        Comparator<Head<E>> byValue = (first, second) -> comparator.compare(first.value, second.value);
+        this.heads = new PriorityQueue<>(Math.max(1, sources.size()),
+                byValue.thenComparingInt(head -> head.source));
+        for (int i = 0; i < sources.size(); i++) {
+            Iterator<? extends E> source = sources.get(i);
+            if (source.hasNext()) {
+                heads.add(new Head<>(source, i, source.next()));
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !heads.isEmpty();
+    }
+
+    @Override
+    public E next() {
+        Head<E> head = heads.poll();
+        if (head == null) {
+            throw new NoSuchElementException();
+        }
+        E value = head.value;
+        if (head.iterator.hasNext()) {
+            head.value = head.iterator.next();
+            heads.add(head);
+        }
+        return value;
+    }
+
+    /**
+     * Current element of one source.
+     *
+     * @param <E> the type of elements
+     */
+    private static final class Head<E> {
+
+        private final Iterator<? extends E> iterator;
+        private final int source;
+        private E value;
+
+        Head(Iterator<? extends E> iterator, int source, E value) {
+            this.iterator = iterator;
+            this.source = source;
+            this.value = value;
+        }
+    }
+}
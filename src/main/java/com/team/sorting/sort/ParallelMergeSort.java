@@ -0,0 +1,233 @@
+package com.team.sorting.sort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Generic parallel merge sort implementation based on the fork/join framework.
+ * Creates a new sorted copy of the input list using the provided {@link Comparator}.
+ * <p>
+ * The copy is split into halves by {@link RecursiveAction} tasks executed on a {@link ForkJoinPool}.
+ * Ranges smaller than the configured threshold are sorted with insertion sort, and sorted halves
+ * are merged back together. The sort is stable: equal elements keep their input order.
+ *
+ * @param <E> the type of elements to be sorted
+ */
+public final class ParallelMergeSort<E> implements StableSort<E> {
+
+    /** Default size of the ranges that are sorted with insertion sort instead of being split further. */
+    public static final int DEFAULT_THRESHOLD = 32;
+
+    /**
+     * Shared pool used by the parallel engines of this package when no pool is specified;
+     * always runs at least two worker threads.
+     */
+    static final ForkJoinPool DEFAULT_POOL =
+            new ForkJoinPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
+
+    /** The pool executing the sorting tasks. */
+    private final ForkJoinPool pool;
+
+    /** Size of the ranges that are sorted with insertion sort. */
+    private final int threshold;
+
+    /**
+     * Creates a sorter running on the shared default pool with the default threshold.
+     */
+    public ParallelMergeSort() {
+        this(DEFAULT_POOL, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Creates a sorter running on the given pool with the default threshold.
+     *
+     * @param pool the pool executing the sorting tasks; must not be {@code null}
+     * @throws IllegalArgumentException if {@code pool} is {@code null}
+     */
+    public ParallelMergeSort(ForkJoinPool pool) {
+        this(pool, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Creates a sorter running on the given pool with the given insertion sort threshold.
+     *
+     * @param pool the pool executing the sorting tasks; must not be {@code null}
+     * @param threshold the range size below which insertion sort is used; must be positive
+     * @throws IllegalArgumentException if {@code pool} is {@code null} or {@code threshold} is not positive
+     */
+    public ParallelMergeSort(ForkJoinPool pool, int threshold) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool must not be null");
+        }
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Threshold must be positive: " + threshold);
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Sorts the given list using parallel merge sort with the provided comparator.
+     * Returns a new sorted list without modifying the input.
+     *
+     * @param list the list to sort (may be {@code null} or empty)
+     * @param comparator the comparator used for ordering; must not be {@code null}
+     * @return a new sorted list, or the original list if null/size < 2
+     * @throws IllegalArgumentException if comparator is {@code null}
+     */
+    @Override
+    public List<E> sort(List<E> list, Comparator<? super E> comparator) {
+        if (list == null || list.size() < 2) {
+            return list;
+        }
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator must not be null");
+        }
+
+        @SuppressWarnings("unchecked")
+        E[] array = (E[]) list.toArray();
+        sortArray(array, comparator);
+        return new ArrayList<>(Arrays.asList(array));
+    }
+
+    /**
+     * Sorts the given array in place on this sorter's pool, without copying it into a list.
+     *
+     * @param array the array to sort; must not be {@code null}
+     * @param comparator the comparator used for ordering; must not be {@code null}
+     * @throws IllegalArgumentException if the array or the comparator is {@code null}
+     */
+    @Override
+    public void sortArray(E[] array, Comparator<? super E> comparator) {
+        if (array == null) {
+            throw new IllegalArgumentException("Array must not be null");
+        }
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator must not be null");
+        }
+        @SuppressWarnings("unchecked")
+        E[] buffer = (E[]) new Object[array.length];
+
+        // Ranges below this size are not worth forking: a few tasks per worker keep all threads busy
+        int sequentialCutoff = Math.max(threshold, array.length / (pool.getParallelism() << 2));
+        pool.invoke(new MergeTask<>(array, buffer, 0, array.length, comparator, threshold, sequentialCutoff));
+    }
+
+    /**
+     * Selects the {@code k} smallest elements with bounded heaps over ranges of the list, scanned in parallel
+     * on this sorter's pool, see {@link PartialSort#smallestParallel(List, int, Comparator, ForkJoinPool)}.
+     *
+     * @param list the list to select from (may be {@code null})
+     * @param k the number of elements to select; must not be negative
+     * @param comparator the comparator used for ordering; must not be {@code null}
+     * @return a new list of the {@code min(k, list.size())} smallest elements, or {@code null} if list is {@code null}
+     * @throws IllegalArgumentException if {@code k} is negative or comparator is {@code null}
+     */
+    @Override
+    public List<E> partialSort(List<E> list, int k, Comparator<? super E> comparator) {
+        return PartialSort.smallestParallel(list, k, comparator, pool);
+    }
+
+    /**
+     * Sorts the range {@code [from, to)} of the given array in the calling thread.
+     *
+     * @param array the array holding the range to sort
+     * @param buffer scratch array of at least the same length as {@code array}
+     * @param from the index of the first element, inclusive
+     * @param to the index of the last element, exclusive
+     * @param comparator the comparator used for ordering
+     * @param threshold the range size below which insertion sort is used
+     * @param <E> the type of elements to be sorted
+     */
+    static <E> void sortRange(E[] array, E[] buffer, int from, int to,
+                              Comparator<? super E> comparator, int threshold) {
+        if (to - from <= threshold) {
+            InsertionSort.sortRange(array, from, to, comparator);
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        sortRange(array, buffer, from, mid, comparator, threshold);
+        sortRange(array, buffer, mid, to, comparator, threshold);
+        merge(array, buffer, from, mid, to, comparator);
+    }
+
+    /**
+     * Merges the adjacent sorted ranges {@code [from, mid)} and {@code [mid, to)} of the array.
+     * Only the left range is copied to the buffer; on ties the left element wins, which keeps the merge stable.
+     *
+     * @param array the array holding both ranges
+     * @param buffer scratch array of at least the same length as {@code array}
+     * @param from the index of the first element of the left range
+     * @param mid the index of the first element of the right range
+     * @param to the index after the last element of the right range
+     * @param comparator the comparator used for ordering
+     * @param <E> the type of elements to be merged
+     */
+    static <E> void merge(E[] array, E[] buffer, int from, int mid, int to, Comparator<? super E> comparator) {
+        if (comparator.compare(array[mid - 1], array[mid]) <= 0) {
+            return; // Already in order
+        }
+        System.arraycopy(array, from, buffer, from, mid - from);
+
+        int i = from;
+        int j = mid;
+        int k = from;
+        while (i < mid && j < to) {
+            if (comparator.compare(array[j], buffer[i]) < 0) {
+                array[k++] = array[j++];
+            } else {
+                array[k++] = buffer[i++];
+            }
+        }
+        while (i < mid) {
+            array[k++] = buffer[i++];
+        }
+    }
+
+    /**
+     * Fork/join task sorting one range of the array.
+     *
+     * @param <E> the type of elements to be sorted
+     */
+    private static final class MergeTask<E> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final E[] array;
+        private final E[] buffer;
+        private final int from;
+        private final int to;
+        private final Comparator<? super E> comparator;
+        private final int threshold;
+        private final int sequentialCutoff;
+
+        MergeTask(E[] array, E[] buffer, int from, int to,
+                  Comparator<? super E> comparator, int threshold, int sequentialCutoff) {
+            this.array = array;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.comparator = comparator;
+            this.threshold = threshold;
+            this.sequentialCutoff = sequentialCutoff;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= sequentialCutoff) {
+                sortRange(array, buffer, from, to, comparator, threshold);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                    new MergeTask<>(array, buffer, from, mid, comparator, threshold, sequentialCutoff),
+                    new MergeTask<>(array, buffer, mid, to, comparator, threshold, sequentialCutoff)
+            );
+            merge(array, buffer, from, mid, to, comparator);
+        }
+    }
+}
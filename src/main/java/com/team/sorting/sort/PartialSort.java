@@ -0,0 +1,314 @@
+package com.team.sorting.sort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Utility class selecting the {@code k} smallest elements of a list in sorted order without sorting the whole list.
+ * <p>
+ * The input is scanned once while a bounded max-heap keeps the {@code k} smallest elements seen so far; an
+ * element only enters the heap if it is smaller than the current maximum. This takes {@code O(n log k)}
+ * comparisons and {@code O(k)} extra memory, against {@code O(n log n)} time and {@code O(n)} memory for a
+ * full sort. The parallel version splits the input into ranges, selects the {@code k} smallest of every
+ * range with its own heap and merges the partial results, keeping at most {@code k} elements per task.
+ * <p>
+ * Ties are broken by input position: of several equal elements the earlier ones are selected first and
+ * appear first in the result, so the result equals the first {@code k} elements of a stable full sort.
+ * The input list is never modified.
+ */
+public final class PartialSort {
+
+    /** Inputs smaller than this are scanned by a single task. */
+    static final int SEQUENTIAL_THRESHOLD = 1 << 14;
+
+    private PartialSort() {
+    }
+
+    /**
+     * Returns the {@code k} smallest elements of the list in ascending order, scanning it in the calling thread.
+     *
+     * @param list the list to select from (may be {@code null})
+     * @param k the number of elements to select; must not be negative
+     * @param comparator the comparator used for ordering; must not be {@code null}
+     * @param <E> the type of elements
+     * @return a new list of the {@code min(k, list.size())} smallest elements, or {@code null} if list is {@code null}
+     * @throws IllegalArgumentException if {@code k} is negative or comparator is {@code null}
+     */
+    public static <E> List<E> smallest(List<E> list, int k, Comparator<? super E> comparator) {
+        validate(k, comparator);
+        if (list == null) {
+            return null;
+        }
+        if (k == 0 || list.isEmpty()) {
+            return new ArrayList<>();
+        }
+        BoundedHeap<E> heap = new BoundedHeap<>(Math.min(k, list.size()), comparator);
+        int index = 0;
+        for (E element : list) {
+            heap.offer(element, index++);
+        }
+        return heap.toSortedList();
+    }
+
+    /**
+     * Returns the {@code k} smallest elements of the list in ascending order, scanning ranges of it in
+     * parallel on the given pool. Lists without random access are copied to an array first.
+     *
+     * @param list the list to select from (may be {@code null})
+     * @param k the number of elements to select; must not be negative
+     * @param comparator the comparator used for ordering; must not be {@code null}
+     * @param pool the pool executing the scanning tasks; must not be {@code null}
+     * @param <E> the type of elements
+     * @return a new list of the {@code min(k, list.size())} smallest elements, or {@code null} if list is {@code null}
+     * @throws IllegalArgumentException if {@code k} is negative, or comparator or pool is {@code null}
+     */
+    public static <E> List<E> smallestParallel(List<E> list, int k, Comparator<? super E> comparator,
+                                               ForkJoinPool pool) {
+        validate(k, comparator);
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool must not be null");
+        }
+        if (list == null || list.size() < SEQUENTIAL_THRESHOLD || k == 0 || pool.getParallelism() < 2) {
+            return smallest(list, k, comparator);
+        }
+        List<E> source = list instanceof RandomAccess ? list : Arrays.asList(list.toArray(elementArray(list)));
+        int cutoff = Math.max(SEQUENTIAL_THRESHOLD / 4, source.size() / (pool.getParallelism() << 2));
+        return pool.invoke(new SelectTask<>(source, 0, source.size(), Math.min(k, source.size()), comparator, cutoff))
+                .toList();
+    }
+
+    /**
+     * Returns the {@code k} largest elements of the list in descending order, scanning it in the calling thread.
+     *
+     * @param list the list to select from (may be {@code null})
+     * @param k the number of elements to select; must not be negative
+     * @param comparator the comparator used for ordering; must not be {@code null}
+     * @param <E> the type of elements
+     * @return a new list of the {@code min(k, list.size())} largest elements, or {@code null} if list is {@code null}
+     * @throws IllegalArgumentException if {@code k} is negative or comparator is {@code null}
+     */
+    public static <E> List<E> largest(List<E> list, int k, Comparator<? super E> comparator) {
+        validate(k, comparator);
+        return smallest(list, k, comparator.reversed());
+    }
+
+    /**
+     * Returns the {@code k} largest elements of the list in descending order, scanning ranges of it in
+     * parallel on the given pool.
+     *
+     * @param list the list to select from (may be {@code null})
+     * @param k the number of elements to select; must not be negative
+     * @param comparator the comparator used for ordering; must not be {@code null}
+     * @param pool the pool executing the scanning tasks; must not be {@code null}
+     * @param <E> the type of elements
+     * @return a new list of the {@code min(k, list.size())} largest elements, or {@code null} if list is {@code null}
+     * @throws IllegalArgumentException if {@code k} is negative, or comparator or pool is {@code null}
+     */
+    public static <E> List<E> largestParallel(List<E> list, int k, Comparator<? super E> comparator,
+                                              ForkJoinPool pool) {
+        validate(k, comparator);
+        return smallestParallel(list, k, comparator.reversed(), pool);
+    }
+
+    private static void validate(int k, Comparator<?> comparator) {
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator must not be null");
+        }
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative: " + k);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> E[] elementArray(List<E> list) {
+        return (E[]) new Object[list.size()];
+    }
+
+    /**
+     * Selects the smallest elements of a range of the list, splitting the range while it is above the cutoff.
+     *
+     * @param <E> the type of elements
+     */
+    private static final class SelectTask<E> extends RecursiveTask<Selection<E>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<E> list;
+        private final int from;
+        private final int to;
+        private final int k;
+        private final Comparator<? super E> comparator;
+        private final int cutoff;
+
+        SelectTask(List<E> list, int from, int to, int k, Comparator<? super E> comparator, int cutoff) {
+            this.list = list;
+            this.from = from;
+            this.to = to;
+            this.k = k;
+            this.comparator = comparator;
+            this.cutoff = cutoff;
+        }
+
+        @Override
+        protected Selection<E> compute() {
+            if (to - from <= cutoff) {
+                BoundedHeap<E> heap = new BoundedHeap<>(Math.min(k, to - from), comparator);
+                for (int i = from; i < to; i++) {
+                    heap.offer(list.get(i), i);
+                }
+                return heap.toSelection();
+            }
+            int mid = (from + to) >>> 1;
+            SelectTask<E> left = new SelectTask<>(list, from, mid, k, comparator, cutoff);
+            SelectTask<E> right = new SelectTask<>(list, mid, to, k, comparator, cutoff);
+            right.fork();
+            Selection<E> leftSelection = left.compute();
+            return leftSelection.merge(right.join(), k, comparator);
+        }
+    }
+
+    /**
+     * Selected elements in ascending order together with their input positions.
+     *
+     * @param <E> the type of elements
+     */
+    private static final class Selection<E> {
+
+        private final E[] elements;
+        private final int[] positions;
+
+        Selection(E[] elements, int[] positions) {
+            this.elements = elements;
+            this.positions = positions;
+        }
+
+        /**
+         * Merges this selection with one of a later range, keeping the {@code k} smallest.
+         * On ties the element of this selection wins, as it comes earlier in the input.
+         */
+        Selection<E> merge(Selection<E> later, int k, Comparator<? super E> comparator) {
+            int size = Math.min(k, elements.length + later.elements.length);
+            @SuppressWarnings("unchecked")
+            E[] mergedElements = (E[]) new Object[size];
+            int[] mergedPositions = new int[size];
+            int i = 0;
+            int j = 0;
+            for (int out = 0; out < size; out++) {
+                if (j == later.elements.length
+                        || i < elements.length && comparator.compare(elements[i], later.elements[j]) <= 0) {
+                    mergedElements[out] = elements[i];
+                    mergedPositions[out] = positions[i++];
+                } else {
+                    mergedElements[out] = later.elements[j];
+                    mergedPositions[out] = later.positions[j++];
+                }
+            }
+            return new Selection<>(mergedElements, mergedPositions);
+        }
+
+        List<E> toList() {
+            return new ArrayList<>(Arrays.asList(elements));
+        }
+    }
+
+    /**
+     * Max-heap of at most {@code capacity} elements, ordered by the comparator and then by input position,
+     * so the root is the element that would be evicted first.
+     *
+     * @param <E> the type of elements
+     */
+    private static final class BoundedHeap<E> {
+
+        private final E[] elements;
+        private final int[] positions;
+        private final Comparator<? super E> comparator;
+        private int size;
+
+        @SuppressWarnings("unchecked")
+        BoundedHeap(int capacity, Comparator<? super E> comparator) {
+            this.elements = (E[]) new Object[capacity];
+            this.positions = new int[capacity];
+            this.comparator = comparator;
+        }
+
+        /**
+         * Offers an element; positions must be offered in ascending order.
+         */
+        void offer(E element, int position) {
+            if (size < elements.length) {
+                int child = size++;
+                // Sift up: the new element has the largest position, so on a tie it is the greater one and
+                // moves above its parent
+                while (child > 0) {
+                    int parent = (child - 1) >>> 1;
+                    if (comparator.compare(elements[parent], element) > 0) {
+                        break;
+                    }
+                    elements[child] = elements[parent];
+                    positions[child] = positions[parent];
+                    child = parent;
+                }
+                elements[child] = element;
+                positions[child] = position;
+            } else if (comparator.compare(element, elements[0]) < 0) {
+                siftDown(element, position, size);
+            }
+        }
+
+        /**
+         * Places an element at the root and sifts it down within the first {@code limit} slots.
+         */
+        private void siftDown(E element, int position, int limit) {
+            int parent = 0;
+            int half = limit >>> 1;
+            while (parent < half) {
+                int child = (parent << 1) + 1;
+                int right = child + 1;
+                if (right < limit && greater(elements[right], positions[right], elements[child], positions[child])) {
+                    child = right;
+                }
+                if (!greater(elements[child], positions[child], element, position)) {
+                    break;
+                }
+                elements[parent] = elements[child];
+                positions[parent] = positions[child];
+                parent = child;
+            }
+            elements[parent] = element;
+            positions[parent] = position;
+        }
+
+        private boolean greater(E first, int firstPosition, E second, int secondPosition) {
+            int order = comparator.compare(first, second);
+            return order > 0 || order == 0 && firstPosition > secondPosition;
+        }
+
+        /**
+         * Sorts the heap contents ascending in place by repeatedly moving the root to the end.
+         */
+        private void sortInPlace() {
+            for (int end = size - 1; end > 0; end--) {
+                E element = elements[end];
+                int position = positions[end];
+                elements[end] = elements[0];
+                positions[end] = positions[0];
+                siftDown(element, position, end);
+            }
+        }
+
+        List<E> toSortedList() {
+            sortInPlace();
+            return new ArrayList<>(Arrays.asList(elements).subList(0, size));
+        }
+
+        Selection<E> toSelection() {
+            sortInPlace();
+            return new Selection<>(Arrays.copyOf(elements, size), Arrays.copyOf(positions, size));
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.team.sorting.sort;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * Sort decorator that sorts only the elements whose numeric field matches a predicate.
+ * Creates a new list in which the matching elements are sorted among the positions they occupy,
+ * while all other elements stay where they are.
+ * <p>
+ * Additional Task 1: sorting by a numeric field with the even/odd split, e.g.
+ * {@code PartitionedFieldSort.evenValues(Barrel::getVolume)} sorts the barrels with an even volume
+ * and leaves the barrels with an odd volume in place.
+ * <p>
+ * The positions of the matching elements are gathered into a primitive {@code int[]} and the matching
+ * elements into an array, which the delegate ({@link ParallelMergeSort} by default) sorts in place with
+ * {@link Sort#sortArray(Object[], Comparator)}; the sorted elements are written back to their positions in
+ * one pass. The sort is stable exactly when the delegate is, so it does not implement {@link StableSort}
+ * itself. Likewise, it is only as safe to share between threads as its delegate.
+ *
+ * @param <E> the type of elements to be sorted
+ */
+public final class PartitionedFieldSort<E> implements Sort<E> {
+
+    /** Sorts the selected elements. */
+    private final Sort<E> delegate;
+
+    /** Extracts the numeric field of an element. */
+    private final ToIntFunction<? super E> field;
+
+    /** Decides by the field value whether an element is sorted. */
+    private final IntPredicate selector;
+
+    /**
+     * Creates a partitioned sort that sorts the selected elements with {@link ParallelMergeSort}.
+     *
+     * @param field function returning the numeric field of an element; must not be {@code null}
+     * @param selector predicate on the field value selecting the elements to sort; must not be {@code null}
+     * @throws IllegalArgumentException if any argument is {@code null}
+     */
+    public PartitionedFieldSort(ToIntFunction<? super E> field, IntPredicate selector) {
+        this(new ParallelMergeSort<>(), field, selector);
+    }
+
+    /**
+     * Creates a partitioned sort that sorts the selected elements with the given delegate.
+     *
+     * @param delegate the sort applied to the selected elements; must not be {@code null}
+     * @param field function returning the numeric field of an element; must not be {@code null}
+     * @param selector predicate on the field value selecting the elements to sort; must not be {@code null}
+     * @throws IllegalArgumentException if any argument is {@code null}
+     */
+    public PartitionedFieldSort(Sort<E> delegate, ToIntFunction<? super E> field, IntPredicate selector) {
+        if (delegate == null || field == null || selector == null) {
+            throw new IllegalArgumentException("Delegate, field and selector must not be null");
+        }
+        this.delegate = delegate;
+        this.field = field;
+        this.selector = selector;
+    }
+
+    /**
+     * Creates a partitioned sort that sorts only the elements whose field value is even.
+     *
+     * @param field function returning the numeric field of an element; must not be {@code null}
+     * @param <E> the type of elements to be sorted
+     * @return a sort leaving elements with odd field values in place
+     * @throws IllegalArgumentException if {@code field} is {@code null}
+     */
+    public static <E> PartitionedFieldSort<E> evenValues(ToIntFunction<? super E> field) {
+        return new PartitionedFieldSort<>(field, value -> (value & 1) == 0);
+    }
+
+    /**
+     * Sorts the selected elements of the given list with the provided comparator, keeping the other
+     * elements at their positions. Returns a new list without modifying the input.
+     *
+     * @param list the list to sort (may be {@code null} or empty)
+     * @param comparator the comparator used for ordering the selected elements; must not be {@code null}
+     * @return a new partially sorted list, or the original list if null/size < 2
+     * @throws IllegalArgumentException if comparator is {@code null}
+     */
+    @Override
+    public List<E> sort(List<E> list, Comparator<? super E> comparator) {
+        if (list == null || list.size() < 2) {
+            return list;
+        }
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator must not be null");
+        }
+
+        List<E> result = new ArrayList<>(list);
+        int[] positions = new int[result.size()];
+        int selected = 0;
+        for (int i = 0; i < positions.length; i++) {
+            if (selector.test(field.applyAsInt(result.get(i)))) {
+                positions[selected++] = i;
+            }
+        }
+        if (selected < 2) {
+            return result;
+        }
+
+        @SuppressWarnings("unchecked")
+        E[] subset = (E[]) new Object[selected];
+        for (int i = 0; i < selected; i++) {
+            subset[i] = result.get(positions[i]);
+        }
+        delegate.sortArray(subset, comparator);
+        for (int i = 0; i < selected; i++) {
+            result.set(positions[i], subset[i]);
+        }
+        return result;
+    }
+}
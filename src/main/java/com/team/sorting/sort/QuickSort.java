@@ -0,0 +1,211 @@
+package com.team.sorting.sort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+
+/**
+ * Dual-pivot quicksort with an introsort fallback.
+ * <p>
+ * Each range is split into three parts around two pivots taken from the tertiles of the range.
+ * Elements equal to a pivot are gathered next to it when the middle part is large, so inputs with
+ * many duplicates keep shrinking. When the recursion gets deeper than {@code 2·log2(n)} the range is
+ * finished with heapsort, so the worst case stays {@code O(n log n)}. Small ranges are sorted with
+ * {@link InsertionSort}.
+ * <p>
+ * The sort works in place and needs no merge buffer: {@link #sort(List, Comparator)} sorts one array
+ * copy of the input, and {@link #sortInPlace(List, Comparator)} writes the result back into the given list.
+ * The sort is <b>not stable</b>.
+ *
+ * @param <E> the type of elements to be sorted
+ */
+public final class QuickSort<E> implements Sort<E> {
+
+    /** Ranges up to this size are sorted with insertion sort. */
+    private static final int INSERTION_THRESHOLD = 32;
+
+    /**
+     * Sorts the given list using dual-pivot quicksort with the provided comparator.
+     * Returns a new sorted list without modifying the input.
+     *
+     * @param list the list to sort (may be {@code null} or empty)
+     * @param comparator the comparator used for ordering; must not be {@code null}
+     * @return a new sorted list, or the original list if null/size < 2
+     * @throws IllegalArgumentException if comparator is {@code null}
+     */
+    @Override
+    public List<E> sort(List<E> list, Comparator<? super E> comparator) {
+        if (list == null || list.size() < 2) {
+            return list;
+        }
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator must not be null");
+        }
+
+        @SuppressWarnings("unchecked")
+        E[] array = (E[]) list.toArray();
+        sortRange(array, 0, array.length, comparator);
+
+        return new ArrayList<>(Arrays.asList(array));
+    }
+
+    /**
+     * Sorts the given list in place using dual-pivot quicksort with the provided comparator.
+     * The list must support {@link ListIterator#set(Object)}.
+     *
+     * @param list the list to sort (may be {@code null} or empty)
+     * @param comparator the comparator used for ordering; must not be {@code null}
+     * @throws IllegalArgumentException if comparator is {@code null}
+     * @throws UnsupportedOperationException if the list cannot be modified
+     */
+    public void sortInPlace(List<E> list, Comparator<? super E> comparator) {
+        if (list == null || list.size() < 2) {
+            return;
+        }
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator must not be null");
+        }
+
+        @SuppressWarnings("unchecked")
+        E[] array = (E[]) list.toArray();
+        sortRange(array, 0, array.length, comparator);
+
+        ListIterator<E> iterator = list.listIterator();
+        for (E element : array) {
+            iterator.next();
+            iterator.set(element);
+        }
+    }
+
+    /**
+     * Sorts the range {@code [from, to)} of the given array in place.
+     *
+     * @param array the array holding the range to sort
+     * @param from the index of the first element, inclusive
+     * @param to the index of the last element, exclusive
+     * @param comparator the comparator used for ordering
+     * @param <E> the type of elements to be sorted
+     */
+    static <E> void sortRange(E[] array, int from, int to, Comparator<? super E> comparator) {
+        if (to - from < 2) {
+            return;
+        }
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(to - from));
+        quickSort(array, from, to - 1, comparator, depthLimit);
+    }
+
+    /**
+     * Sorts the inclusive range {@code [left, right]}, recursing into the two smaller parts of every
+     * partition and looping on the right one.
+     */
+    private static <E> void quickSort(E[] a, int left, int right, Comparator<? super E> c, int depthLimit) {
+        while (right - left + 1 > INSERTION_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapSort(a, left, right + 1, c);
+                return;
+            }
+
+            // Use the tertiles as pivots, so presorted input is split evenly
+            int third = (right - left) / 3;
+            swap(a, left, left + third);
+            swap(a, right, right - third);
+            if (c.compare(a[left], a[right]) > 0) {
+                swap(a, left, right);
+            }
+            E pivot1 = a[left];
+            E pivot2 = a[right];
+
+            // Partition into [left + 1, less) < pivot1 <= [less, k) <= pivot2 < (great, right - 1]
+            int less = left + 1;
+            int great = right - 1;
+            int k = less;
+            while (k <= great) {
+                E element = a[k];
+                if (c.compare(element, pivot1) < 0) {
+                    swap(a, k, less++);
+                } else if (c.compare(element, pivot2) > 0) {
+                    while (k < great && c.compare(a[great], pivot2) > 0) {
+                        great--;
+                    }
+                    swap(a, k, great--);
+                    if (c.compare(a[k], pivot1) < 0) {
+                        swap(a, k, less++);
+                    }
+                }
+                k++;
+            }
+
+            // Move the pivots to their final positions
+            swap(a, left, less - 1);
+            swap(a, right, great + 1);
+            int pivot1Index = less - 1;
+            int pivot2Index = great + 1;
+
+            quickSort(a, left, pivot1Index - 1, c, depthLimit);
+
+            if (c.compare(pivot1, pivot2) != 0) {
+                int middleFrom = pivot1Index + 1;
+                int middleTo = pivot2Index - 1;
+                if (middleTo - middleFrom > (right - left) * 4L / 7) {
+                    // Large middle part: gather elements equal to the pivots at its ends and skip them
+                    int index = middleFrom;
+                    while (index <= middleTo) {
+                        if (c.compare(a[index], pivot1) == 0) {
+                            swap(a, index++, middleFrom++);
+                        } else if (c.compare(a[index], pivot2) == 0) {
+                            swap(a, index, middleTo--);
+                        } else {
+                            index++;
+                        }
+                    }
+                }
+                quickSort(a, middleFrom, middleTo, c, depthLimit);
+            }
+
+            left = pivot2Index + 1;
+        }
+        InsertionSort.sortRange(a, left, right + 1, c);
+    }
+
+    /**
+     * Sorts the range {@code [from, to)} with heapsort.
+     */
+    private static <E> void heapSort(E[] a, int from, int to, Comparator<? super E> c) {
+        int size = to - from;
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            siftDown(a, from, i, size, c);
+        }
+        for (int end = size - 1; end > 0; end--) {
+            swap(a, from, from + end);
+            siftDown(a, from, 0, end, c);
+        }
+    }
+
+    /**
+     * Restores the max-heap property for the subtree rooted at {@code root} in a heap of the given size
+     * stored at {@code base}.
+     */
+    private static <E> void siftDown(E[] a, int base, int root, int size, Comparator<? super E> c) {
+        E element = a[base + root];
+        int child;
+        while ((child = 2 * root + 1) < size) {
+            if (child + 1 < size && c.compare(a[base + child + 1], a[base + child]) > 0) {
+                child++;
+            }
+            if (c.compare(element, a[base + child]) >= 0) {
+                break;
+            }
+            a[base + root] = a[base + child];
+            root = child;
+        }
+        a[base + root] = element;
+    }
+
+    private static void swap(Object[] a, int i, int j) {
+        Object element = a[i];
+        a[i] = a[j];
+        a[j] = element;
+    }
+}
@@ -0,0 +1,115 @@
+package com.team.sorting.sort;
+
+import com.team.sorting.model.Animal;
+import com.team.sorting.model.Barrel;
+import com.team.sorting.model.Human;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * LSD radix sort driven by a primitive {@link SortKey}.
+ * Creates a new sorted copy of the input list ordered by ascending key.
+ * <p>
+ * The key of every element is extracted exactly once into a {@code long[]}; the keys are then
+ * ordered together with an index permutation by {@link KeyPermutation}, one counting pass per key
+ * byte, skipping bytes that are the same for all keys. No comparisons are made while ordering by key,
+ * and the elements are moved only once, when the result list is built.
+ * <p>
+ * The key defines the primary order. The comparator passed to {@link #sort(List, Comparator)}
+ * only orders elements whose keys are equal; when the key encodes the comparator completely
+ * (as the factories of this class do for natural ordering) those groups already are in order and
+ * are checked with a single linear pass. The sort is stable.
+ *
+ * @param <E> the type of elements to be sorted
+ */
+public final class RadixSort<E> implements StableSort<E> {
+
+    /** Extracts the sort key of an element. */
+    private final SortKey<? super E> sortKey;
+
+    /**
+     * Creates a radix sort ordering elements by the given key.
+     *
+     * @param sortKey the key of the elements; must not be {@code null}
+     * @throws IllegalArgumentException if {@code sortKey} is {@code null}
+     */
+    public RadixSort(SortKey<? super E> sortKey) {
+        if (sortKey == null) {
+            throw new IllegalArgumentException("Sort key must not be null");
+        }
+        this.sortKey = sortKey;
+    }
+
+    /**
+     * Creates a radix sort for animals ordered by {@link SortKey#animal()}, which matches the natural ordering.
+     *
+     * @return a radix sort for {@link Animal} entities
+     */
+    public static RadixSort<Animal> forAnimals() {
+        return new RadixSort<>(SortKey.animal());
+    }
+
+    /**
+     * Creates a radix sort for barrels ordered by {@link SortKey#barrel()}, which matches the natural ordering.
+     *
+     * @return a radix sort for {@link Barrel} entities
+     */
+    public static RadixSort<Barrel> forBarrels() {
+        return new RadixSort<>(SortKey.barrel());
+    }
+
+    /**
+     * Creates a radix sort for humans ordered by {@link SortKey#humanAge()}.
+     * Humans of the same age are ordered by the comparator passed to {@link #sort(List, Comparator)}.
+     *
+     * @return a radix sort for {@link Human} entities
+     */
+    public static RadixSort<Human> forHumansByAge() {
+        return new RadixSort<>(SortKey.humanAge());
+    }
+
+    /**
+     * Sorts the given list by key, ordering elements with equal keys by the provided comparator.
+     * Returns a new sorted list without modifying the input.
+     *
+     * @param list the list to sort (may be {@code null} or empty)
+     * @param comparator the comparator used for elements with equal keys; must not be {@code null}
+     * @return a new sorted list, or the original list if null/size < 2
+     * @throws IllegalArgumentException if comparator is {@code null}
+     */
+    @Override
+    public List<E> sort(List<E> list, Comparator<? super E> comparator) {
+        if (list == null || list.size() < 2) {
+            return list;
+        }
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator must not be null");
+        }
+
+        int words = sortKey.words();
+        long[] keys = sortKey.extractAll(list);
+        int[] order = KeyPermutation.sortedOrder(keys, words);
+
+        Object[] source = list.toArray();
+        @SuppressWarnings("unchecked")
+        E[] sorted = (E[]) new Object[order.length];
+        int groupStart = 0;
+        for (int i = 0; i < order.length; i++) {
+            @SuppressWarnings("unchecked")
+            E element = (E) source[order[i]];
+            sorted[i] = element;
+
+            // Order the previous group of equal keys by the comparator once it is complete
+            if (!KeyPermutation.equalKeys(keys, words, order[groupStart], order[i])) {
+                TimSort.sortRange(sorted, groupStart, i, comparator);
+                groupStart = i;
+            }
+        }
+        TimSort.sortRange(sorted, groupStart, order.length, comparator);
+
+        return new ArrayList<>(Arrays.asList(sorted));
+    }
+}
@@ -0,0 +1,145 @@
+package com.team.sorting.sort;
+
+import com.team.sorting.model.Animal;
+import com.team.sorting.model.Barrel;
+import com.team.sorting.model.Human;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Compact binary form of an element, used to spill sorted runs to temporary files.
+ * <p>
+ * The entity codecs store enum constants as one byte ({@code ordinal() + 1}, {@code 0} for {@code null})
+ * and numbers as fixed-size integers, so an {@link Animal} takes 4 bytes and a {@link Barrel} 6 bytes.
+ *
+ * @param <E> the type of elements to encode
+ */
+public interface RecordCodec<E> {
+
+    /**
+     * Writes the element to the output.
+     *
+     * @param output the output to write to
+     * @param element the element to write
+     * @throws IOException if an I/O error occurs
+     */
+    void write(DataOutput output, E element) throws IOException;
+
+    /**
+     * Reads one element from the input.
+     *
+     * @param input the input to read from
+     * @return the element read
+     * @throws IOException if an I/O error occurs or the data is malformed
+     */
+    E read(DataInput input) throws IOException;
+
+    /**
+     * Returns the codec of {@link Animal}: species, eye color, fur and eatsBun as one byte each.
+     *
+     * @return the animal codec
+     */
+    static RecordCodec<Animal> animal() {
+        return new RecordCodec<>() {
+            @Override
+            public void write(DataOutput output, Animal animal) throws IOException {
+                output.writeByte(encode(animal.getSpecies()));
+                output.writeByte(encode(animal.getEyeColor()));
+                output.writeByte(encode(animal.getFur()));
+                output.writeBoolean(animal.getEatsBun());
+            }
+
+            @Override
+            public Animal read(DataInput input) throws IOException {
+                return new Animal.Builder()
+                        .species(decode(input.readByte(), Animal.Species.values()))
+                        .eyeColor(decode(input.readByte(), Animal.EyeColor.values()))
+                        .fur(decode(input.readByte(), Animal.Fur.values()))
+                        .eatsBun(input.readBoolean())
+                        .build();
+            }
+        };
+    }
+
+    /**
+     * Returns the codec of {@link Barrel}: volume as an int, stored material and material as one byte each.
+     *
+     * @return the barrel codec
+     */
+    static RecordCodec<Barrel> barrel() {
+        return new RecordCodec<>() {
+            @Override
+            public void write(DataOutput output, Barrel barrel) throws IOException {
+                output.writeInt(barrel.getVolume());
+                output.writeByte(encode(barrel.getStoredMaterial()));
+                output.writeByte(encode(barrel.getMaterial()));
+            }
+
+            @Override
+            public Barrel read(DataInput input) throws IOException {
+                return new Barrel.Builder()
+                        .volume(input.readInt())
+                        .storedMaterial(decode(input.readByte(), Barrel.StoredMaterial.values()))
+                        .material(decode(input.readByte(), Barrel.Material.values()))
+                        .build();
+            }
+        };
+    }
+
+    /**
+     * Returns the codec of {@link Human}: gender as one byte, age as an int and the last name
+     * in modified UTF-8 behind a presence flag.
+     *
+     * @return the human codec
+     */
+    static RecordCodec<Human> human() {
+        return new RecordCodec<>() {
+            @Override
+            public void write(DataOutput output, Human human) throws IOException {
+                output.writeByte(encode(human.getGender()));
+                output.writeInt(human.getAge());
+                String lastName = human.getLastName();
+                output.writeBoolean(lastName != null);
+                if (lastName != null) {
+                    output.writeUTF(lastName);
+                }
+            }
+
+            @Override
+            public Human read(DataInput input) throws IOException {
+                Human.Gender gender = decode(input.readByte(), Human.Gender.values());
+                int age = input.readInt();
+                String lastName = input.readBoolean() ? input.readUTF() : null;
+                return new Human.Builder()
+                        .gender(gender)
+                        .age(age)
+                        .lastName(lastName)
+                        .build();
+            }
+        };
+    }
+
+    /**
+     * Encodes an enum constant as {@code ordinal() + 1}, or {@code 0} for {@code null}.
+     */
+    private static int encode(Enum<?> value) {
+        return value == null ? 0 : value.ordinal() + 1;
+    }
+
+    /**
+     * Decodes an enum constant written by {@link #encode(Enum)}.
+     *
+     * @throws IOException if the code does not match any constant
+     */
+    private static <T extends Enum<T>> T decode(byte code, T[] values) throws IOException {
+        if (code == 0) {
+            return null;
+        }
+        if (code < 0 || code > values.length) {
+            throw new IOException("Invalid enum code: " + code);
+        }
+        return values[code - 1];
+    }
+}
@@ -0,0 +1,221 @@
+package com.team.sorting.sort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Parallel sample sort.
+ * Creates a new sorted copy of the input list using the provided {@link Comparator}.
+ * <p>
+ * A random sample of the input is sorted and every {@code OVERSAMPLING}-th sample element becomes a
+ * splitter. The input is cut into one block per task; each block routes its elements into buckets by
+ * binary search over the splitters, in parallel. The buckets are then scattered into place, sorted
+ * independently with {@link TimSort}, also in parallel, and end up concatenated in order. Unlike merge
+ * sort, there is no final sequential merge, so the work scales with the number of cores.
+ * <p>
+ * Elements of one bucket keep their input order before the bucket is sorted, and buckets are sorted
+ * stably, so the whole sort is stable. Inputs smaller than {@code SEQUENTIAL_THRESHOLD} are sorted with
+ * {@link TimSort} in the calling thread.
+ *
+ * @param <E> the type of elements to be sorted
+ */
+public final class SampleSort<E> implements StableSort<E> {
+
+    /** Inputs smaller than this are sorted sequentially. */
+    static final int SEQUENTIAL_THRESHOLD = 1 << 13;
+
+    /** Number of sample elements taken per bucket; a larger sample gives more even buckets. */
+    private static final int OVERSAMPLING = 16;
+
+    /** Number of buckets created per worker thread, so work stealing can even out uneven buckets. */
+    private static final int BUCKETS_PER_THREAD = 4;
+
+    /** Seed of the sampling generator; a fixed seed keeps runs reproducible. */
+    private static final long SAMPLE_SEED = 0x5A3D1E5L;
+
+    /** The pool executing the classification and bucket sorting tasks. */
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a sorter running on the shared default pool of the parallel engines.
+     */
+    public SampleSort() {
+        this(ParallelMergeSort.DEFAULT_POOL);
+    }
+
+    /**
+     * Creates a sorter running on the given pool.
+     *
+     * @param pool the pool executing the sorting tasks; must not be {@code null}
+     * @throws IllegalArgumentException if {@code pool} is {@code null}
+     */
+    public SampleSort(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool must not be null");
+        }
+        this.pool = pool;
+    }
+
+    /**
+     * Sorts the given list using parallel sample sort with the provided comparator.
+     * Returns a new sorted list without modifying the input.
+     *
+     * @param list the list to sort (may be {@code null} or empty)
+     * @param comparator the comparator used for ordering; must not be {@code null}
+     * @return a new sorted list, or the original list if null/size < 2
+     * @throws IllegalArgumentException if comparator is {@code null}
+     */
+    @Override
+    public List<E> sort(List<E> list, Comparator<? super E> comparator) {
+        if (list == null || list.size() < 2) {
+            return list;
+        }
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator must not be null");
+        }
+
+        @SuppressWarnings("unchecked")
+        E[] elements = (E[]) list.toArray();
+        int size = elements.length;
+        int threads = pool.getParallelism();
+        if (size < SEQUENTIAL_THRESHOLD || threads < 2) {
+            TimSort.sortRange(elements, 0, size, comparator);
+            return new ArrayList<>(Arrays.asList(elements));
+        }
+
+        E[] splitters = chooseSplitters(elements, threads * BUCKETS_PER_THREAD, comparator);
+        int buckets = splitters.length + 1;
+        int blocks = threads;
+        int blockSize = (size + blocks - 1) / blocks;
+
+        // 1. Route the elements of every block into buckets
+        int[] bucketOf = new int[size];
+        int[][] counts = new int[blocks][buckets];
+        runInParallel(blocks, block -> {
+            int[] count = counts[block];
+            int end = Math.min(size, (block + 1) * blockSize);
+            for (int i = block * blockSize; i < end; i++) {
+                int bucket = bucketOf(elements[i], splitters, comparator);
+                bucketOf[i] = bucket;
+                count[bucket]++;
+            }
+        });
+
+        // 2. Bucket b of block k starts after all smaller buckets and after bucket b of the earlier blocks
+        int[] bucketStart = new int[buckets + 1];
+        int offset = 0;
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            bucketStart[bucket] = offset;
+            for (int block = 0; block < blocks; block++) {
+                int count = counts[block][bucket];
+                counts[block][bucket] = offset;
+                offset += count;
+            }
+        }
+        bucketStart[buckets] = size;
+
+        // 3. Scatter every block into its bucket slots
+        @SuppressWarnings("unchecked")
+        E[] sorted = (E[]) new Object[size];
+        runInParallel(blocks, block -> {
+            int[] position = counts[block];
+            int end = Math.min(size, (block + 1) * blockSize);
+            for (int i = block * blockSize; i < end; i++) {
+                sorted[position[bucketOf[i]]++] = elements[i];
+            }
+        });
+
+        // 4. Sort the buckets independently
+        runInParallel(buckets, bucket ->
+                TimSort.sortRange(sorted, bucketStart[bucket], bucketStart[bucket + 1], comparator));
+
+        return new ArrayList<>(Arrays.asList(sorted));
+    }
+
+    /**
+     * Selects the {@code k} smallest elements with bounded heaps over ranges of the list, scanned in parallel
+     * on this sorter's pool, see {@link PartialSort#smallestParallel(List, int, Comparator, ForkJoinPool)}.
+     *
+     * @param list the list to select from (may be {@code null})
+     * @param k the number of elements to select; must not be negative
+     * @param comparator the comparator used for ordering; must not be {@code null}
+     * @return a new list of the {@code min(k, list.size())} smallest elements, or {@code null} if list is {@code null}
+     * @throws IllegalArgumentException if {@code k} is negative or comparator is {@code null}
+     */
+    @Override
+    public List<E> partialSort(List<E> list, int k, Comparator<? super E> comparator) {
+        return PartialSort.smallestParallel(list, k, comparator, pool);
+    }
+
+    /**
+     * Chooses {@code bucketCount - 1} splitters from a sorted random sample of the elements.
+     *
+     * @param elements the elements to sample
+     * @param bucketCount the number of buckets the splitters define
+     * @param comparator the comparator used for ordering
+     * @param <E> the type of elements
+     * @return the splitters in ascending order
+     */
+    private static <E> E[] chooseSplitters(E[] elements, int bucketCount, Comparator<? super E> comparator) {
+        SplittableRandom random = new SplittableRandom(SAMPLE_SEED);
+        @SuppressWarnings("unchecked")
+        E[] sample = (E[]) new Object[bucketCount * OVERSAMPLING];
+        for (int i = 0; i < sample.length; i++) {
+            sample[i] = elements[random.nextInt(elements.length)];
+        }
+        TimSort.sortRange(sample, 0, sample.length, comparator);
+
+        @SuppressWarnings("unchecked")
+        E[] splitters = (E[]) new Object[bucketCount - 1];
+        for (int i = 0; i < splitters.length; i++) {
+            splitters[i] = sample[(i + 1) * OVERSAMPLING];
+        }
+        return splitters;
+    }
+
+    /**
+     * Returns the bucket of an element: the number of splitters that are less than or equal to it.
+     * Equal elements always land in the same bucket.
+     */
+    private static <E> int bucketOf(E element, E[] splitters, Comparator<? super E> comparator) {
+        int low = 0;
+        int high = splitters.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(splitters[mid], element) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Runs {@code action} for every index in {@code [0, count)} as separate tasks on the pool and waits for all of them.
+     */
+    private void runInParallel(int count, IntConsumer action) {
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                List<RecursiveAction> tasks = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    int index = i;
+                    tasks.add(new RecursiveAction() {
+                        @Override
+                        protected void compute() {
+                            action.accept(index);
+                        }
+                    });
+                }
+                invokeAll(tasks);
+            }
+        });
+    }
+}
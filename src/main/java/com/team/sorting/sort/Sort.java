@@ -1,5 +1,6 @@
 package com.team.sorting.sort;
 
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 
@@ -7,6 +8,14 @@ import java.util.List;
  * A generic sorting interface.
  * Implementations define how a list of elements is sorted
  * using a provided {@link Comparator}.
+ * <p>
+ * <b>Thread safety:</b> implementations must be safe to share between threads without external
+ * synchronization. A sorter keeps no mutable state between calls that could affect a result:
+ * configuration is fixed at construction time and every call works on data private to that call,
+ * so concurrent calls on the same instance never block or interfere with each other. The only
+ * state allowed to change is statistics about past calls, such as selection counters, kept in
+ * thread-safe lock-free structures and never read while sorting. Implementations must not rely on
+ * locks to achieve this.
  *
  * @param <E> the type of elements to be sorted
  */
@@ -23,4 +32,60 @@ public interface Sort<E> {
      * @throws IllegalArgumentException if the comparator is {@code null}
      */
     List<E> sort(List<E> list, Comparator<? super E> comparator);
+
+    /**
+     * Sorts the given array in place using the specified comparator, for callers that already hold their
+     * elements in an array.
+     * <p>
+     * The default implementation sorts a list view of the array with {@link #sort(List, Comparator)} and
+     * copies the result back; engines sorting an internal array override it to sort the given one directly.
+     *
+     * @param array the array to sort; must not be {@code null}
+     * @param comparator the comparator that defines element order; must not be {@code null}
+     * @throws IllegalArgumentException if the array or the comparator is {@code null}
+     */
+    default void sortArray(E[] array, Comparator<? super E> comparator) {
+        if (array == null) {
+            throw new IllegalArgumentException("Array must not be null");
+        }
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator must not be null");
+        }
+        sort(Arrays.asList(array), comparator).toArray(array);
+    }
+
+    /**
+     * Returns the {@code k} smallest elements of the list in ascending order, without sorting the whole list.
+     * Equal elements appear in input order. The input list is not modified.
+     * <p>
+     * The default implementation selects the elements with a bounded heap in {@code O(n log k)} time and
+     * {@code O(k)} extra memory, see {@link PartialSort#smallest(List, int, Comparator)}; parallel engines
+     * override it with the parallel selection.
+     *
+     * @param list the list to select from (may be {@code null})
+     * @param k the number of elements to select; must not be negative
+     * @param comparator the comparator that defines element order; must not be {@code null}
+     * @return a new list of the {@code min(k, list.size())} smallest elements, or {@code null} if list is {@code null}
+     * @throws IllegalArgumentException if {@code k} is negative or the comparator is {@code null}
+     */
+    default List<E> partialSort(List<E> list, int k, Comparator<? super E> comparator) {
+        return PartialSort.smallest(list, k, comparator);
+    }
+
+    /**
+     * Returns the {@code k} largest elements of the list in descending order, without sorting the whole list.
+     * Equal elements appear in input order. The input list is not modified.
+     *
+     * @param list the list to select from (may be {@code null})
+     * @param k the number of elements to select; must not be negative
+     * @param comparator the comparator that defines element order; must not be {@code null}
+     * @return a new list of the {@code min(k, list.size())} largest elements, or {@code null} if list is {@code null}
+     * @throws IllegalArgumentException if {@code k} is negative or the comparator is {@code null}
+     */
+    default List<E> topK(List<E> list, int k, Comparator<? super E> comparator) {
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator must not be null");
+        }
+        return partialSort(list, k, comparator.reversed());
+    }
 }
@@ -0,0 +1,157 @@
+package com.team.sorting.sort;
+
+import com.team.sorting.model.Animal;
+import com.team.sorting.model.Barrel;
+import com.team.sorting.model.Human;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Primitive sort key of an element.
+ * <p>
+ * A sort key turns an element into one or more {@code long} words once, so that key-based sorts
+ * can order a {@code long[]} of keys together with an index permutation (see {@link KeyPermutation})
+ * instead of calling a comparator, and the getters behind it, {@code n·log n} times.
+ * Keys are compared as signed numbers, word by word, most significant word first.
+ * <p>
+ * Single-word keys are written as lambdas implementing {@link #extract(Object)}; multi-word keys are
+ * built with {@link #composite(SortKey[])}.
+ *
+ * @param <E> the type of elements the key is extracted from
+ */
+@FunctionalInterface
+public interface SortKey<E> {
+
+    /**
+     * Extracts the key of the given element. For multi-word keys this is the most significant word.
+     *
+     * @param element the element to extract the key from
+     * @return the (most significant word of the) key
+     */
+    long extract(E element);
+
+    /**
+     * Returns the number of {@code long} words in the key.
+     *
+     * @return the key width in words; {@code 1} unless overridden
+     */
+    default int words() {
+        return 1;
+    }
+
+    /**
+     * Writes all words of the key of the given element into {@code target}, starting at {@code offset}.
+     *
+     * @param element the element to extract the key from
+     * @param target the array receiving the key words
+     * @param offset the index of the first word in {@code target}
+     */
+    default void extract(E element, long[] target, int offset) {
+        target[offset] = extract(element);
+    }
+
+    /**
+     * Extracts the keys of all elements into one array laid out row by row:
+     * the words of element {@code i} occupy {@code [i * words(), (i + 1) * words())}.
+     *
+     * @param elements the elements to extract the keys from
+     * @return the extracted keys
+     */
+    default long[] extractAll(List<? extends E> elements) {
+        int width = words();
+        long[] keys = new long[elements.size() * width];
+        int offset = 0;
+        for (E element : elements) {
+            extract(element, keys, offset);
+            offset += width;
+        }
+        return keys;
+    }
+
+    /**
+     * Creates a multi-word key made of the given keys, the first one being the most significant.
+     *
+     * @param parts the keys to combine; must not be empty
+     * @param <E> the type of elements the key is extracted from
+     * @return the combined key
+     * @throws IllegalArgumentException if no keys are given
+     */
+    @SafeVarargs
+    static <E> SortKey<E> composite(SortKey<? super E>... parts) {
+        if (parts == null || parts.length == 0) {
+            throw new IllegalArgumentException("At least one key must be given");
+        }
+        // Copied element by element: letting the generic varargs array escape could pollute the heap
+        List<SortKey<? super E>> keys = new ArrayList<>(parts.length);
+        int width = 0;
+        for (SortKey<? super E> key : parts) {
+            keys.add(key);
+            width += key.words();
+        }
+        int totalWidth = width;
+
+        return new SortKey<>() {
+            @Override
+            public long extract(E element) {
+                return keys.get(0).extract(element);
+            }
+
+            @Override
+            public int words() {
+                return totalWidth;
+            }
+
+            @Override
+            public void extract(E element, long[] target, int offset) {
+                for (SortKey<? super E> key : keys) {
+                    key.extract(element, target, offset);
+                    offset += key.words();
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns the key of an animal matching its natural ordering: species → eyeColor → fur → eatsBun.
+     *
+     * @return the natural sort key of {@link Animal}
+     */
+    static SortKey<Animal> animal() {
+        return animal -> (long) ordinalOrZero(animal.getSpecies()) << 7
+                | (long) ordinalOrZero(animal.getEyeColor()) << 4
+                | (long) ordinalOrZero(animal.getFur()) << 1
+                | (animal.getEatsBun() ? 1 : 0);
+    }
+
+    /**
+     * Returns the key of a barrel matching its natural ordering: volume → storedMaterial → material.
+     *
+     * @return the natural sort key of {@link Barrel}
+     */
+    static SortKey<Barrel> barrel() {
+        return barrel -> ((long) barrel.getVolume() - Integer.MIN_VALUE) << 6
+                | (long) ordinalOrZero(barrel.getStoredMaterial()) << 3
+                | ordinalOrZero(barrel.getMaterial());
+    }
+
+    /**
+     * Returns the key of a human made of the age only.
+     * The natural ordering of {@link Human} starts with the last name, which does not fit a numeric key.
+     *
+     * @return the age sort key of {@link Human}
+     */
+    static SortKey<Human> humanAge() {
+        return Human::getAge;
+    }
+
+    /**
+     * Returns the ordinal of the enum constant shifted by one, so that {@code null} sorts first as {@code 0}.
+     *
+     * @param value the enum constant, may be {@code null}
+     * @return {@code 0} for {@code null}, otherwise {@code ordinal() + 1}
+     */
+    private static int ordinalOrZero(Enum<?> value) {
+        return value == null ? 0 : value.ordinal() + 1;
+    }
+}
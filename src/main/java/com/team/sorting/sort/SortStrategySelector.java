@@ -0,0 +1,252 @@
+package com.team.sorting.sort;
+
+import com.team.sorting.model.Animal;
+import com.team.sorting.model.Barrel;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Sort that picks the engine for every call from a cheap sample of the input.
+ * <p>
+ * Before sorting, the selector looks at the size of the list, estimates how presorted it is by counting
+ * descents between sampled neighbours, checks whether a numeric {@link SortKey} is available for the
+ * requested order and how many processors the machine has. It then picks:
+ * <ul>
+ *     <li>{@link Strategy#INSERTION} for tiny lists, where the simplest loop is fastest;</li>
+ *     <li>{@link Strategy#ADAPTIVE_MERGE} ({@link TimSort}) for nearly sorted and nearly reverse-sorted
+ *         lists, which it sorts in close to linear time by merging (or reversing) the existing runs;</li>
+ *     <li>{@link Strategy#RADIX} ({@link RadixSort}) when the elements have a key made of enum ordinals
+ *         and numbers, so no comparisons are needed;</li>
+ *     <li>{@link Strategy#PARALLEL_MERGE} ({@link ParallelMergeSort}) for large lists on multi-core machines;</li>
+ *     <li>{@link Strategy#ADAPTIVE_MERGE} otherwise.</li>
+ * </ul>
+ * The key encodes the natural ordering, so it is only used when the comparator is the
+ * {@link Comparator#naturalOrder()} instance itself. Equivalent comparators, such as
+ * {@code Comparable::compareTo} or {@code Comparator.comparing(...)} over the same fields, cannot be
+ * recognized as such without risking a wrong order, so they never select radix sort; pass
+ * {@code Comparator.naturalOrder()} to allow it.
+ * <p>
+ * Key cardinality is not sampled from the elements: whether the ordering is made of enum ordinals and
+ * numbers only is known per entity type, and expressed by passing a {@link SortKey} to the constructor.
+ * Entities ordered by strings, such as {@link com.team.sorting.model.Human}, have no such key and use the
+ * comparison engines.
+ * <p>
+ * Every decision is logged at {@link Level#FINE} to the logger named after this class and counted per
+ * strategy; {@link #selectionCounts()} exposes the counts for metrics. All candidate engines are stable,
+ * so the selector is too. The counters are the statistics the {@link Sort} contract allows: they are
+ * lock-free {@link LongAdder}s and never influence the choice of an engine.
+ *
+ * @param <E> the type of elements to be sorted
+ */
+public final class SortStrategySelector<E> implements StableSort<E> {
+
+    /** Lists smaller than this are sorted with insertion sort. */
+    static final int INSERTION_THRESHOLD = 32;
+
+    /** Lists smaller than this are not worth the key extraction of radix sort. */
+    static final int RADIX_THRESHOLD = 256;
+
+    /** Lists smaller than this are sorted sequentially. */
+    static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    /** Maximum number of neighbour pairs compared to estimate presortedness. */
+    static final int PRESORTEDNESS_SAMPLES = 256;
+
+    /**
+     * A list is nearly sorted if at most one in this many sampled neighbour pairs is descending, and nearly
+     * reverse-sorted if at most one in this many is not.
+     */
+    static final int NEARLY_SORTED_RATIO = 32;
+
+    private static final Logger LOGGER = Logger.getLogger(SortStrategySelector.class.getName());
+
+    /**
+     * Engines the selector can choose from.
+     */
+    public enum Strategy {
+        /** {@link InsertionSort}. */
+        INSERTION,
+        /** {@link TimSort}, adaptive to existing runs. */
+        ADAPTIVE_MERGE,
+        /** {@link RadixSort} over the natural sort key. */
+        RADIX,
+        /** {@link ParallelMergeSort}. */
+        PARALLEL_MERGE
+    }
+
+    /** Engine of every strategy; radix sort is missing if there is no key. */
+    private final Map<Strategy, Sort<E>> engines = new EnumMap<>(Strategy.class);
+
+    /** Number of selections of every strategy. */
+    private final Map<Strategy, LongAdder> counts = new EnumMap<>(Strategy.class);
+
+    /** Number of processors available for parallel sorting. */
+    private final int processors;
+
+    /**
+     * Creates a selector without a sort key, choosing only between comparison engines.
+     */
+    public SortStrategySelector() {
+        this(null, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a selector that may use radix sort with the given key when sorting by natural ordering.
+     *
+     * @param naturalKey a key encoding the natural ordering of the elements; must not be {@code null}
+     * @throws IllegalArgumentException if {@code naturalKey} is {@code null}
+     */
+    public SortStrategySelector(SortKey<? super E> naturalKey) {
+        this(requireKey(naturalKey), Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a selector assuming the given number of processors.
+     *
+     * @param naturalKey a key encoding the natural ordering, or {@code null} if there is none
+     * @param processors the number of available processors
+     */
+    SortStrategySelector(SortKey<? super E> naturalKey, int processors) {
+        this.processors = processors;
+        engines.put(Strategy.INSERTION, new InsertionSort<>());
+        engines.put(Strategy.ADAPTIVE_MERGE, new TimSort<>());
+        engines.put(Strategy.PARALLEL_MERGE, new ParallelMergeSort<>());
+        if (naturalKey != null) {
+            engines.put(Strategy.RADIX, new RadixSort<>(naturalKey));
+        }
+        for (Strategy strategy : Strategy.values()) {
+            counts.put(strategy, new LongAdder());
+        }
+    }
+
+    /**
+     * Creates a selector for animals, with {@link SortKey#animal()} as the natural key.
+     *
+     * @return a selector for {@link Animal} entities
+     */
+    public static SortStrategySelector<Animal> forAnimals() {
+        return new SortStrategySelector<>(SortKey.animal());
+    }
+
+    /**
+     * Creates a selector for barrels, with {@link SortKey#barrel()} as the natural key.
+     *
+     * @return a selector for {@link Barrel} entities
+     */
+    public static SortStrategySelector<Barrel> forBarrels() {
+        return new SortStrategySelector<>(SortKey.barrel());
+    }
+
+    /**
+     * Sorts the given list with the engine chosen by {@link #select(List, Comparator)}.
+     * Returns a new sorted list without modifying the input.
+     *
+     * @param list the list to sort (may be {@code null} or empty)
+     * @param comparator the comparator used for ordering; must not be {@code null}
+     * @return a new sorted list, or the original list if null/size < 2
+     * @throws IllegalArgumentException if comparator is {@code null}
+     */
+    @Override
+    public List<E> sort(List<E> list, Comparator<? super E> comparator) {
+        if (list == null || list.size() < 2) {
+            return list;
+        }
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator must not be null");
+        }
+        Strategy strategy = select(list, comparator);
+        counts.get(strategy).increment();
+        return engines.get(strategy).sort(list, comparator);
+    }
+
+    /**
+     * Chooses the engine for sorting the list with the comparator, without sorting it or counting the choice.
+     *
+     * @param list the list to sort; must not be {@code null}
+     * @param comparator the comparator used for ordering; must not be {@code null}
+     * @return the chosen strategy
+     */
+    public Strategy select(List<E> list, Comparator<? super E> comparator) {
+        int size = list.size();
+        Strategy strategy;
+        int descents = 0;
+        int samples = 0;
+        if (size < INSERTION_THRESHOLD) {
+            strategy = Strategy.INSERTION;
+        } else {
+            samples = Math.min(PRESORTEDNESS_SAMPLES, size - 1);
+            descents = countDescents(list, samples, comparator);
+            boolean hasKey = engines.containsKey(Strategy.RADIX) && comparator == Comparator.naturalOrder();
+            boolean nearlySorted = descents * NEARLY_SORTED_RATIO <= samples;
+            boolean nearlyReversed = (samples - descents) * NEARLY_SORTED_RATIO <= samples;
+            if (nearlySorted || nearlyReversed) {
+                strategy = Strategy.ADAPTIVE_MERGE;
+            } else if (hasKey && size >= RADIX_THRESHOLD) {
+                strategy = Strategy.RADIX;
+            } else if (processors > 1 && size >= PARALLEL_THRESHOLD) {
+                strategy = Strategy.PARALLEL_MERGE;
+            } else {
+                strategy = Strategy.ADAPTIVE_MERGE;
+            }
+        }
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine(String.format("Sorting %d elements (%d of %d sampled pairs descending, key: %s, %d processors) with %s",
+                    size, descents, samples, engines.containsKey(Strategy.RADIX), processors, strategy));
+        }
+        return strategy;
+    }
+
+    /**
+     * Returns how many times every strategy has been used by {@link #sort(List, Comparator)} so far.
+     *
+     * @return a snapshot of the selection counts, by strategy
+     */
+    public Map<Strategy, Long> selectionCounts() {
+        Map<Strategy, Long> snapshot = new EnumMap<>(Strategy.class);
+        counts.forEach((strategy, count) -> snapshot.put(strategy, count.sum()));
+        return snapshot;
+    }
+
+    /**
+     * Counts descending pairs among {@code samples} neighbour pairs spread evenly over the list.
+     * Lists without random access are sampled at their start instead.
+     */
+    private static <E> int countDescents(List<E> list, int samples, Comparator<? super E> comparator) {
+        int descents = 0;
+        if (!(list instanceof RandomAccess)) {
+            Iterator<E> iterator = list.iterator();
+            E previous = iterator.next();
+            for (int i = 0; i < samples; i++) {
+                E current = iterator.next();
+                if (comparator.compare(previous, current) > 0) {
+                    descents++;
+                }
+                previous = current;
+            }
+            return descents;
+        }
+        long step = (list.size() - 1L) / samples;
+        for (int i = 0; i < samples; i++) {
+            int index = (int) (i * step);
+            if (comparator.compare(list.get(index), list.get(index + 1)) > 0) {
+                descents++;
+            }
+        }
+        return descents;
+    }
+
+    private static <T> T requireKey(T key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Sort key must not be null");
+        }
+        return key;
+    }
+}
@@ -0,0 +1,495 @@
+package com.team.sorting.sort;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * Collection that keeps its elements sorted on every insert and delete, so it never has to be re-sorted.
+ * <p>
+ * The elements are held in an indexable skip list: every forward link also records how many elements it
+ * skips, so {@link #add(Object)}, {@link #remove(int)}, {@link #remove(Object)} and {@link #get(int)} all run
+ * in expected {@code O(log n)} time. Bulk removals ({@link #removeIf}, {@link #removeAll}, {@link #retainAll})
+ * unlink every match under one lock. An element equal to existing ones is inserted after them, so equal
+ * elements stay in insertion order, as with a stable sort.
+ * <p>
+ * The store is a read-only sorted {@link List} view for its readers: it can be handed straight to
+ * {@link com.team.sorting.search.BinarySearch} or any other algorithm expecting a sorted list. Positional
+ * insertion and replacement ({@code add(int, E)}, {@code set}) are not supported, as they could break the
+ * order. All operations are guarded by a read-write lock, so the store can be shared between threads;
+ * iteration works on a snapshot taken when the iterator is created.
+ *
+ * @param <E> the type of elements
+ */
+public final class SortedEntityStore<E> extends AbstractList<E> {
+
+    /** Maximum number of levels; enough for far more elements than a list can index. */
+    private static final int MAX_LEVEL = 32;
+
+    /** Guards the skip list. */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** The order the elements are kept in. */
+    private final Comparator<? super E> comparator;
+
+    /** Chooses the levels of new nodes; only used while holding the write lock. */
+    private final SplittableRandom random = new SplittableRandom();
+
+    /** Sentinel in front of the first element, linked on every level. */
+    private final Node<E> head = new Node<>(null, MAX_LEVEL);
+
+    /** Number of levels in use. */
+    private int level;
+
+    /** Number of elements. */
+    private int size;
+
+    /**
+     * Creates an empty store kept in the order of the given comparator.
+     *
+     * @param comparator the order of the elements; must not be {@code null}
+     * @throws IllegalArgumentException if comparator is {@code null}
+     */
+    public SortedEntityStore(Comparator<? super E> comparator) {
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator must not be null");
+        }
+        this.comparator = comparator;
+        reset();
+    }
+
+    /**
+     * Creates an empty store kept in the natural order of its elements.
+     *
+     * @param <E> the type of elements
+     * @return an empty store
+     */
+    public static <E extends Comparable<? super E>> SortedEntityStore<E> naturalOrder() {
+        return new SortedEntityStore<>(Comparator.naturalOrder());
+    }
+
+    /**
+     * Inserts the element at its sorted position, after all elements equal to it.
+     *
+     * @param element the element to insert
+     * @return {@code true}
+     */
+    @Override
+    public boolean add(E element) {
+        lock.writeLock().lock();
+        try {
+            insert(element);
+            modCount++;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the element at the given sorted position.
+     *
+     * @param index the position of the element
+     * @return the element
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public E get(int index) {
+        lock.readLock().lock();
+        try {
+            Objects.checkIndex(index, size);
+            return nodeAt(index + 1).value;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the element at the given sorted position.
+     *
+     * @param index the position of the element
+     * @return the removed element
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    @Override
+    public E remove(int index) {
+        lock.writeLock().lock();
+        try {
+            Objects.checkIndex(index, size);
+            E removed = unlink(index + 1);
+            modCount++;
+            return removed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the first element that is equal to the given object, located by the comparator.
+     *
+     * @param object the element to remove
+     * @return {@code true} if an element was removed
+     */
+    @Override
+    public boolean remove(Object object) {
+        lock.writeLock().lock();
+        try {
+            int index = find(object);
+            if (index < 0) {
+                return false;
+            }
+            unlink(index + 1);
+            modCount++;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes all elements matching the filter in one pass under the write lock. The inherited implementation
+     * would remove through the read-only snapshot iterator.
+     *
+     * @param filter the predicate selecting the elements to remove; must not be {@code null}
+     * @return {@code true} if an element was removed
+     * @throws IllegalArgumentException if filter is {@code null}
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("Filter must not be null");
+        }
+        lock.writeLock().lock();
+        try {
+            int[] matches = new int[size];
+            int count = 0;
+            int position = 1;
+            for (Node<E> node = head.next[0]; node != null; node = node.next[0], position++) {
+                if (filter.test(node.value)) {
+                    matches[count++] = position;
+                }
+            }
+            // From the back, so the positions of the remaining matches do not shift
+            for (int i = count - 1; i >= 0; i--) {
+                unlink(matches[i]);
+            }
+            if (count > 0) {
+                modCount++;
+            }
+            return count > 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes all elements contained in the given collection.
+     *
+     * @param collection the elements to remove; must not be {@code null}
+     * @return {@code true} if an element was removed
+     * @throws IllegalArgumentException if collection is {@code null}
+     */
+    @Override
+    public boolean removeAll(Collection<?> collection) {
+        if (collection == null) {
+            throw new IllegalArgumentException("Collection must not be null");
+        }
+        return removeIf(collection::contains);
+    }
+
+    /**
+     * Removes all elements not contained in the given collection.
+     *
+     * @param collection the elements to keep; must not be {@code null}
+     * @return {@code true} if an element was removed
+     * @throws IllegalArgumentException if collection is {@code null}
+     */
+    @Override
+    public boolean retainAll(Collection<?> collection) {
+        if (collection == null) {
+            throw new IllegalArgumentException("Collection must not be null");
+        }
+        return removeIf(element -> !collection.contains(element));
+    }
+
+    /**
+     * Returns the position of the first element equal to the given object, located by the comparator
+     * in {@code O(log n)} instead of a linear scan.
+     *
+     * @param object the element to look for
+     * @return the position of the element, or {@code -1} if it is not in the store
+     */
+    @Override
+    public int indexOf(Object object) {
+        lock.readLock().lock();
+        try {
+            return find(object);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean contains(Object object) {
+        return indexOf(object) >= 0;
+    }
+
+    /**
+     * Returns the number of elements less than the given key: the position at which elements equal
+     * to the key start, or would be inserted.
+     *
+     * @param key the key to locate
+     * @return the number of elements less than the key
+     */
+    public int lowerBound(E key) {
+        lock.readLock().lock();
+        try {
+            return lowerBoundUnlocked(key);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            reset();
+            modCount++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns a sorted copy of the current elements.
+     *
+     * @return a new list of the elements in sorted order
+     */
+    public List<E> snapshot() {
+        lock.readLock().lock();
+        try {
+            List<E> copy = new ArrayList<>(size);
+            for (Node<E> node = head.next[0]; node != null; node = node.next[0]) {
+                copy.add(node.value);
+            }
+            return copy;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns an iterator over a {@link #snapshot()} of the elements; later changes to the store are not seen.
+     *
+     * @return an iterator over the elements in sorted order
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return Collections.unmodifiableList(snapshot()).iterator();
+    }
+
+    @Override
+    public Object[] toArray() {
+        return snapshot().toArray();
+    }
+
+    @Override
+    public <T> T[] toArray(T[] array) {
+        return snapshot().toArray(array);
+    }
+
+    /**
+     * Empties the skip list.
+     */
+    private void reset() {
+        for (int i = 0; i < MAX_LEVEL; i++) {
+            head.next[i] = null;
+            head.width[i] = 1;
+        }
+        level = 1;
+        size = 0;
+    }
+
+    /**
+     * Links a new node after the last element less than or equal to the given one.
+     * Positions count from the head ({@code 0}); a missing link ends at position {@code size + 1}.
+     */
+    private void insert(E element) {
+        Node<E>[] update = Node.newNodes(MAX_LEVEL);
+        int[] rank = new int[MAX_LEVEL];
+        Node<E> node = head;
+        int position = 0;
+        for (int i = level - 1; i >= 0; i--) {
+            while (node.next[i] != null && comparator.compare(node.next[i].value, element) <= 0) {
+                position += node.width[i];
+                node = node.next[i];
+            }
+            update[i] = node;
+            rank[i] = position;
+        }
+
+        int nodeLevel = randomLevel();
+        for (int i = level; i < nodeLevel; i++) {
+            update[i] = head;
+            rank[i] = 0;
+            head.width[i] = size + 1;
+        }
+        level = Math.max(level, nodeLevel);
+
+        Node<E> inserted = new Node<>(element, nodeLevel);
+        for (int i = 0; i < nodeLevel; i++) {
+            int before = position - rank[i];
+            inserted.next[i] = update[i].next[i];
+            inserted.width[i] = update[i].width[i] - before;
+            update[i].next[i] = inserted;
+            update[i].width[i] = before + 1;
+        }
+        for (int i = nodeLevel; i < level; i++) {
+            update[i].width[i]++;
+        }
+        size++;
+    }
+
+    /**
+     * Unlinks the node at the given position ({@code 1}-based) and returns its element.
+     */
+    private E unlink(int target) {
+        Node<E>[] update = Node.newNodes(MAX_LEVEL);
+        Node<E> node = head;
+        int position = 0;
+        for (int i = level - 1; i >= 0; i--) {
+            while (node.next[i] != null && position + node.width[i] < target) {
+                position += node.width[i];
+                node = node.next[i];
+            }
+            update[i] = node;
+        }
+
+        Node<E> removed = update[0].next[0];
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == removed) {
+                update[i].width[i] += removed.width[i] - 1;
+                update[i].next[i] = removed.next[i];
+            } else {
+                update[i].width[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            head.width[level - 1] = 1;
+            level--;
+        }
+        size--;
+        return removed.value;
+    }
+
+    /**
+     * Returns the node at the given position ({@code 1}-based).
+     */
+    private Node<E> nodeAt(int target) {
+        Node<E> node = head;
+        int position = 0;
+        for (int i = level - 1; i >= 0; i--) {
+            while (node.next[i] != null && position + node.width[i] <= target) {
+                position += node.width[i];
+                node = node.next[i];
+            }
+        }
+        return node;
+    }
+
+    private int lowerBoundUnlocked(E key) {
+        Node<E> node = head;
+        int position = 0;
+        for (int i = level - 1; i >= 0; i--) {
+            while (node.next[i] != null && comparator.compare(node.next[i].value, key) < 0) {
+                position += node.width[i];
+                node = node.next[i];
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Returns the position of the first element that compares equal to the object and {@link Objects#equals}
+     * it, or {@code -1}.
+     */
+    private int find(Object object) {
+        @SuppressWarnings("unchecked")
+        E key = (E) object;
+        int index;
+        try {
+            index = lowerBoundUnlocked(key);
+        } catch (ClassCastException e) {
+            return -1;
+        }
+        if (index == size) {
+            return -1;
+        }
+        for (Node<E> node = nodeAt(index + 1); node != null; node = node.next[0], index++) {
+            if (comparator.compare(node.value, key) != 0) {
+                return -1;
+            }
+            if (Objects.equals(node.value, object)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Randomly chooses the level of a new node: each further level with probability 1/4.
+     */
+    private int randomLevel() {
+        int nodeLevel = 1;
+        while (nodeLevel < MAX_LEVEL && (random.nextInt() & 3) == 0) {
+            nodeLevel++;
+        }
+        return nodeLevel;
+    }
+
+    /**
+     * Skip list node. {@code width[i]} is the number of positions between this node and {@code next[i]}.
+     *
+     * @param <E> the type of elements
+     */
+    private static final class Node<E> {
+
+        private final E value;
+        private final Node<E>[] next;
+        private final int[] width;
+
+        Node(E value, int level) {
+            this.value = value;
+            this.next = newNodes(level);
+            this.width = new int[level];
+        }
+
+        /**
+         * Creates an array of links; generic arrays cannot be created directly.
+         */
+        @SuppressWarnings("unchecked")
+        static <E> Node<E>[] newNodes(int length) {
+            return (Node<E>[]) new Node<?>[length];
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.team.sorting.sort;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Sorted sequence produced by merging sorted runs, read one element at a time.
+ * <p>
+ * The runs may be backed by open files; {@link #close()} releases them and deletes temporary run files,
+ * so instances should be used in a try-with-resources statement. Not thread-safe.
+ *
+ * @param <E> the type of elements
+ */
+public final class SortedRuns<E> implements Iterator<E>, AutoCloseable {
+
+    /** The merged sequence. */
+    private final Iterator<E> merged;
+
+    /** Readers of the runs, closed by {@link #close()}. */
+    private final List<? extends Closeable> readers;
+
+    /** Temporary run files, deleted by {@link #close()}. */
+    private final List<Path> files;
+
+    /**
+     * Creates a sorted sequence over the merged runs.
+     *
+     * @param merged the merged sequence
+     * @param readers the readers to close when done
+     * @param files the temporary files to delete when done
+     */
+    SortedRuns(Iterator<E> merged, List<? extends Closeable> readers, List<Path> files) {
+        this.merged = merged;
+        this.readers = readers;
+        this.files = files;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return merged.hasNext();
+    }
+
+    @Override
+    public E next() {
+        return merged.next();
+    }
+
+    /**
+     * Closes all run readers and deletes the temporary run files.
+     *
+     * @throws UncheckedIOException if a reader cannot be closed or a file cannot be deleted
+     */
+    @Override
+    public void close() {
+        IOException failure = null;
+        for (Closeable reader : readers) {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                failure = failure == null ? e : failure;
+            }
+        }
+        for (Path file : files) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                failure = failure == null ? e : failure;
+            }
+        }
+        if (failure != null) {
+            throw new UncheckedIOException("Error releasing sorted runs", failure);
+        }
+    }
+}
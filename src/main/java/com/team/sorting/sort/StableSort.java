@@ -0,0 +1,16 @@
+package com.team.sorting.sort;
+
+/**
+ * Marker for {@link Sort} implementations that are stable: elements the comparator considers equal
+ * keep their relative input order in the sorted result.
+ * <p>
+ * Callers that depend on input order among equal elements, such as reports listing equal
+ * {@link com.team.sorting.model.Human Humans} in the order they were entered, should require this type
+ * rather than plain {@link Sort}. Engines that do not guarantee stability must not implement it and
+ * should say so in their documentation. The interface is deliberately not a functional interface, so a
+ * lambda cannot claim stability without a class documenting it.
+ *
+ * @param <E> the type of elements to be sorted
+ */
+public interface StableSort<E> extends Sort<E> {
+}
@@ -0,0 +1,152 @@
+package com.team.sorting.sort;
+
+import com.team.sorting.writeToFile.FileRecorder;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Sort consuming a {@link Stream} or {@link Iterator} instead of a materialized {@link List}.
+ * <p>
+ * Elements are collected into chunks of a configurable size. Every full chunk is handed to the pool and
+ * sorted with the chunk sort ({@link TimSort} by default) while the next chunk is still being read, so
+ * sorting overlaps with producing the input. Once the input is exhausted, the sorted chunks are merged
+ * lazily with a heap-based k-way merge: no merged copy is built, the first element is available as soon
+ * as the last chunk is sorted, and every further element costs {@code O(log chunks)} comparisons.
+ * Output writers such as {@link FileRecorder#writeIteratorToFile} can thus start writing right away.
+ * <p>
+ * With a stable chunk sort the whole sort is stable.
+ *
+ * @param <E> the type of elements to be sorted
+ */
+public final class StreamingSort<E> {
+
+    /** Default number of elements per chunk. */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 14;
+
+    /** Sorts each chunk. */
+    private final Sort<E> chunkSorter;
+
+    /** Number of elements per chunk. */
+    private final int chunkSize;
+
+    /** The pool sorting the chunks. */
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a streaming sort with the default chunk size, sorting chunks with {@link TimSort}
+     * on the shared default pool of the parallel engines.
+     */
+    public StreamingSort() {
+        this(new TimSort<>(), DEFAULT_CHUNK_SIZE, ParallelMergeSort.DEFAULT_POOL);
+    }
+
+    /**
+     * Creates a streaming sort with the given configuration.
+     *
+     * @param chunkSorter the sort applied to each chunk; must not be {@code null}
+     * @param chunkSize the number of elements per chunk; must be positive
+     * @param pool the pool sorting the chunks; must not be {@code null}
+     * @throws IllegalArgumentException if {@code chunkSorter} or {@code pool} is {@code null},
+     *                                  or {@code chunkSize} is not positive
+     */
+    public StreamingSort(Sort<E> chunkSorter, int chunkSize, ForkJoinPool pool) {
+        if (chunkSorter == null || pool == null) {
+            throw new IllegalArgumentException("Chunk sorter and pool must not be null");
+        }
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        this.chunkSorter = chunkSorter;
+        this.chunkSize = chunkSize;
+        this.pool = pool;
+    }
+
+    /**
+     * Returns a lazy stream of the input elements in sorted order.
+     * The input is consumed when the terminal operation of the returned stream starts;
+     * closing the returned stream closes the input stream.
+     *
+     * @param input the elements to sort; must not be {@code null}
+     * @param comparator the comparator used for ordering; must not be {@code null}
+     * @return a sequential stream of the sorted elements
+     * @throws IllegalArgumentException if input or comparator is {@code null}
+     */
+    public Stream<E> sort(Stream<? extends E> input, Comparator<? super E> comparator) {
+        validate(input, comparator);
+        return StreamSupport.stream(
+                () -> Spliterators.spliteratorUnknownSize(sort(input.iterator(), comparator), Spliterator.ORDERED),
+                Spliterator.ORDERED, false)
+                .onClose(input::close);
+    }
+
+    /**
+     * Consumes the remaining elements of the iterator and returns them in sorted order.
+     * All chunks are sorted when this method returns; they are merged lazily as the result is iterated.
+     *
+     * @param input the elements to sort; must not be {@code null}
+     * @param comparator the comparator used for ordering; must not be {@code null}
+     * @return an iterator over the sorted elements
+     * @throws IllegalArgumentException if input or comparator is {@code null}
+     */
+    public Iterator<E> sort(Iterator<? extends E> input, Comparator<? super E> comparator) {
+        validate(input, comparator);
+
+        List<ForkJoinTask<List<E>>> chunks = new ArrayList<>();
+        List<E> chunk = new ArrayList<>();
+        while (input.hasNext()) {
+            chunk.add(input.next());
+            if (chunk.size() == chunkSize) {
+                chunks.add(sortAsync(chunk, comparator));
+                chunk = new ArrayList<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(sortAsync(chunk, comparator));
+        }
+
+        List<Iterator<E>> runs = new ArrayList<>(chunks.size());
+        for (ForkJoinTask<List<E>> sorted : chunks) {
+            runs.add(sorted.join().iterator());
+        }
+        return runs.size() == 1 ? runs.get(0) : new MergingIterator<>(runs, comparator);
+    }
+
+    /**
+     * Sorts the elements of a stream and appends them to a file using {@link FileRecorder},
+     * writing while the sorted chunks are merged. The stream is consumed but not closed.
+     *
+     * @param input the elements to sort; must not be {@code null}
+     * @param comparator the comparator used for ordering; must not be {@code null}
+     * @param outputFile the path of the file to append the sorted elements to
+     * @throws IllegalArgumentException if input or comparator is {@code null}
+     */
+    public void sortToFile(Stream<? extends E> input, Comparator<? super E> comparator, String outputFile) {
+        validate(input, comparator);
+        FileRecorder.writeIteratorToFile(sort(input.iterator(), comparator), outputFile);
+    }
+
+    /**
+     * Submits one chunk to the pool for sorting.
+     */
+    private ForkJoinTask<List<E>> sortAsync(List<E> chunk, Comparator<? super E> comparator) {
+        return pool.submit(() -> chunkSorter.sort(chunk, comparator));
+    }
+
+    private static void validate(Object input, Comparator<?> comparator) {
+        if (input == null) {
+            throw new IllegalArgumentException("Input must not be null");
+        }
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator must not be null");
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.team.sorting.sort;
+
+import com.team.sorting.model.Human;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Sort by a {@link String} field, such as {@link Human#getLastName()}, using multikey quicksort.
+ * Creates a new sorted copy of the input list.
+ * <p>
+ * The key of every element is read once. The keys are then partitioned three ways by one character at a
+ * time: keys whose character at the current depth is smaller, equal or greater than the pivot character.
+ * Only the equal part moves on to the next character, so a shared prefix is examined once per partitioning
+ * step instead of once per comparison, which is where comparison sorts spend their time on many similar
+ * names. Small ranges are finished with insertion sort comparing from the current depth on.
+ * Characters are compared as UTF-16 code units, the order of {@link String#compareTo(String)};
+ * {@code null} keys come first.
+ * <p>
+ * The key defines the primary order. Elements with equal keys are put back into input order and then
+ * ordered by the comparator passed to {@link #sort(List, Comparator)}, so later fields such as gender and
+ * age decide ties and the sort is stable.
+ *
+ * @param <E> the type of elements to be sorted
+ */
+public final class StringKeySort<E> implements StableSort<E> {
+
+    /** Ranges smaller than this are sorted with insertion sort. */
+    private static final int INSERTION_THRESHOLD = 16;
+
+    /** Reads the key of an element. */
+    private final Function<? super E, String> key;
+
+    /**
+     * Creates a sort ordering elements by the given string key.
+     *
+     * @param key the key of the elements; must not be {@code null}
+     * @throws IllegalArgumentException if {@code key} is {@code null}
+     */
+    public StringKeySort(Function<? super E, String> key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key must not be null");
+        }
+        this.key = key;
+    }
+
+    /**
+     * Creates a sort for humans ordered by last name. Sorting with the natural ordering as comparator
+     * gives the natural order of {@link Human}: gender and age only order humans with the same last name.
+     *
+     * @return a string key sort for {@link Human} entities
+     */
+    public static StringKeySort<Human> forHumansByLastName() {
+        return new StringKeySort<>(Human::getLastName);
+    }
+
+    /**
+     * Sorts the given list by key, ordering elements with equal keys by the provided comparator.
+     * Returns a new sorted list without modifying the input.
+     *
+     * @param list the list to sort (may be {@code null} or empty)
+     * @param comparator the comparator used for elements with equal keys; must not be {@code null}
+     * @return a new sorted list, or the original list if null/size < 2
+     * @throws IllegalArgumentException if comparator is {@code null}
+     */
+    @Override
+    public List<E> sort(List<E> list, Comparator<? super E> comparator) {
+        if (list == null || list.size() < 2) {
+            return list;
+        }
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator must not be null");
+        }
+
+        Object[] source = list.toArray();
+        int size = source.length;
+
+        String[] values = new String[size];
+        int nulls = 0;
+        for (int i = 0; i < size; i++) {
+            @SuppressWarnings("unchecked")
+            E element = (E) source[i];
+            values[i] = key.apply(element);
+            if (values[i] == null) {
+                nulls++;
+            }
+        }
+
+        // Null keys first, in input order; keys travel together with the element indices
+        String[] keys = new String[size];
+        int[] order = new int[size];
+        int nullSlot = 0;
+        int keySlot = nulls;
+        for (int i = 0; i < size; i++) {
+            int slot = values[i] == null ? nullSlot++ : keySlot++;
+            keys[slot] = values[i];
+            order[slot] = i;
+        }
+        sortKeys(keys, order, nulls, size, 0);
+
+        @SuppressWarnings("unchecked")
+        E[] sorted = (E[]) new Object[size];
+        int groupStart = 0;
+        while (groupStart < size) {
+            int groupEnd = groupStart + 1;
+            while (groupEnd < size && Objects.equals(keys[groupStart], keys[groupEnd])) {
+                groupEnd++;
+            }
+            // Partitioning moved equal keys around; restore input order, then let the comparator decide
+            Arrays.sort(order, groupStart, groupEnd);
+            for (int i = groupStart; i < groupEnd; i++) {
+                @SuppressWarnings("unchecked")
+                E element = (E) source[order[i]];
+                sorted[i] = element;
+            }
+            TimSort.sortRange(sorted, groupStart, groupEnd, comparator);
+            groupStart = groupEnd;
+        }
+
+        return new ArrayList<>(Arrays.asList(sorted));
+    }
+
+    /**
+     * Sorts {@code keys[from, to)} by their characters from {@code depth} on, applying the same moves to the indices.
+     * All keys in the range must share their first {@code depth} characters.
+     */
+    private static void sortKeys(String[] keys, int[] order, int from, int to, int depth) {
+        while (to - from >= INSERTION_THRESHOLD) {
+            swap(keys, order, from, medianOfThree(keys, from, (from + to) >>> 1, to - 1, depth));
+            int pivot = charAt(keys[from], depth);
+
+            // [from, less) < pivot, [less, i) == pivot, (greater, to) > pivot
+            int less = from;
+            int greater = to - 1;
+            int i = from + 1;
+            while (i <= greater) {
+                int c = charAt(keys[i], depth);
+                if (c < pivot) {
+                    swap(keys, order, less++, i++);
+                } else if (c > pivot) {
+                    swap(keys, order, i, greater--);
+                } else {
+                    i++;
+                }
+            }
+
+            sortKeys(keys, order, from, less, depth);
+            sortKeys(keys, order, greater + 1, to, depth);
+            if (pivot < 0) {
+                return; // The equal part consists of identical keys that ended at this depth
+            }
+            from = less;
+            to = greater + 1;
+            depth++;
+        }
+        insertionSort(keys, order, from, to, depth);
+    }
+
+    private static void insertionSort(String[] keys, int[] order, int from, int to, int depth) {
+        for (int i = from + 1; i < to; i++) {
+            for (int j = i; j > from && compareFrom(keys[j - 1], keys[j], depth) > 0; j--) {
+                swap(keys, order, j - 1, j);
+            }
+        }
+    }
+
+    /**
+     * Compares two keys from the given character on.
+     */
+    private static int compareFrom(String first, String second, int depth) {
+        for (int d = depth; ; d++) {
+            int a = charAt(first, d);
+            int b = charAt(second, d);
+            if (a != b) {
+                return a - b;
+            }
+            if (a < 0) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the key whose character at {@code depth} is the median of the three.
+     */
+    private static int medianOfThree(String[] keys, int a, int b, int c, int depth) {
+        int ca = charAt(keys[a], depth);
+        int cb = charAt(keys[b], depth);
+        int cc = charAt(keys[c], depth);
+        if (ca < cb) {
+            return cb < cc ? b : ca < cc ? c : a;
+        }
+        return ca < cc ? a : cb < cc ? c : b;
+    }
+
+    /**
+     * Returns the character at the given position, or {@code -1} past the end, so shorter keys sort first.
+     */
+    private static int charAt(String key, int depth) {
+        return depth < key.length() ? key.charAt(depth) : -1;
+    }
+
+    private static void swap(String[] keys, int[] order, int i, int j) {
+        String key = keys[i];
+        keys[i] = keys[j];
+        keys[j] = key;
+        int index = order[i];
+        order[i] = order[j];
+        order[j] = index;
+    }
+}
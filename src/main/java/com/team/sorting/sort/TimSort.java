@@ -0,0 +1,588 @@
+package com.team.sorting.sort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Adaptive, stable merge sort in the style of TimSort.
+ * Creates a new sorted copy of the input list using the provided {@link Comparator}.
+ * <p>
+ * The input is scanned for natural runs: ascending runs are kept as they are and strictly
+ * descending runs are reversed in place. Short runs are extended with binary insertion sort,
+ * and runs are merged in a balanced order using galloping, which skips long stretches taken
+ * from one side with exponential search. Already sorted (or reverse-sorted) input is therefore
+ * handled in a single pass with {@code n - 1} comparisons.
+ *
+ * @param <E> the type of elements to be sorted
+ */
+public final class TimSort<E> implements StableSort<E> {
+
+    /** Ranges shorter than this are sorted with binary insertion sort only. */
+    private static final int MIN_MERGE = 32;
+
+    /** Initial number of consecutive wins of one run after which merging switches to galloping. */
+    private static final int MIN_GALLOP = 7;
+
+    /** Maximum number of pending runs; enough for arrays of {@link Integer#MAX_VALUE} elements. */
+    private static final int MAX_PENDING_RUNS = 49;
+
+    /**
+     * Sorts the given list using TimSort with the provided comparator.
+     * Returns a new sorted list without modifying the input.
+     *
+     * @param list the list to sort (may be {@code null} or empty)
+     * @param comparator the comparator used for ordering; must not be {@code null}
+     * @return a new sorted list, or the original list if null/size < 2
+     * @throws IllegalArgumentException if comparator is {@code null} or violates its contract
+     */
+    @Override
+    public List<E> sort(List<E> list, Comparator<? super E> comparator) {
+        if (list == null || list.size() < 2) {
+            return list;
+        }
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator must not be null");
+        }
+
+        @SuppressWarnings("unchecked")
+        E[] array = (E[]) list.toArray();
+        sortRange(array, 0, array.length, comparator);
+
+        return new ArrayList<>(Arrays.asList(array));
+    }
+
+    /**
+     * Sorts the given array in place, without copying it into a list.
+     *
+     * @param array the array to sort; must not be {@code null}
+     * @param comparator the comparator used for ordering; must not be {@code null}
+     * @throws IllegalArgumentException if the array or the comparator is {@code null}, or the comparator
+     *                                  violates its contract
+     */
+    @Override
+    public void sortArray(E[] array, Comparator<? super E> comparator) {
+        if (array == null) {
+            throw new IllegalArgumentException("Array must not be null");
+        }
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator must not be null");
+        }
+        sortRange(array, 0, array.length, comparator);
+    }
+
+    /**
+     * Sorts the range {@code [from, to)} of the given array in place.
+     * Used by other engines of this package to sort partitions and buckets.
+     *
+     * @param array the array holding the range to sort
+     * @param from the index of the first element, inclusive
+     * @param to the index of the last element, exclusive
+     * @param comparator the comparator used for ordering
+     * @param <E> the type of elements to be sorted
+     * @throws IllegalArgumentException if the comparator violates its contract
+     */
+    static <E> void sortRange(E[] array, int from, int to, Comparator<? super E> comparator) {
+        int remaining = to - from;
+        if (remaining < 2) {
+            return;
+        }
+        if (remaining < MIN_MERGE) {
+            int runLength = countRunAndMakeAscending(array, from, to, comparator);
+            binaryInsertionSort(array, from, to, from + runLength, comparator);
+            return;
+        }
+
+        Merger<E> merger = new Merger<>(array, comparator);
+        int minRun = minRunLength(remaining);
+        int low = from;
+        do {
+            int runLength = countRunAndMakeAscending(array, low, to, comparator);
+            if (runLength < minRun) {
+                int forced = Math.min(remaining, minRun);
+                binaryInsertionSort(array, low, low + forced, low + runLength, comparator);
+                runLength = forced;
+            }
+            merger.pushRun(low, runLength);
+            merger.mergeCollapse();
+
+            low += runLength;
+            remaining -= runLength;
+        } while (remaining != 0);
+        merger.mergeForceCollapse();
+    }
+
+    /**
+     * Finds the length of the run starting at {@code from} and reverses it if it is strictly descending.
+     * Only strictly descending runs are reversed, so equal elements never change their relative order.
+     *
+     * @param array the array to scan
+     * @param from the index of the first element of the run
+     * @param to the index after the last element that may belong to the run
+     * @param comparator the comparator used for ordering
+     * @param <E> the type of elements in the array
+     * @return the length of the (now ascending) run
+     */
+    private static <E> int countRunAndMakeAscending(E[] array, int from, int to, Comparator<? super E> comparator) {
+        int runEnd = from + 1;
+        if (runEnd == to) {
+            return 1;
+        }
+        if (comparator.compare(array[runEnd++], array[from]) < 0) {
+            while (runEnd < to && comparator.compare(array[runEnd], array[runEnd - 1]) < 0) {
+                runEnd++;
+            }
+            reverseRange(array, from, runEnd);
+        } else {
+            while (runEnd < to && comparator.compare(array[runEnd], array[runEnd - 1]) >= 0) {
+                runEnd++;
+            }
+        }
+        return runEnd - from;
+    }
+
+    /**
+     * Reverses the range {@code [from, to)} of the array.
+     */
+    private static void reverseRange(Object[] array, int from, int to) {
+        to--;
+        while (from < to) {
+            Object element = array[from];
+            array[from++] = array[to];
+            array[to--] = element;
+        }
+    }
+
+    /**
+     * Sorts {@code [from, to)} with binary insertion sort, assuming {@code [from, start)} is already sorted.
+     */
+    private static <E> void binaryInsertionSort(E[] array, int from, int to, int start,
+                                                Comparator<? super E> comparator) {
+        if (start == from) {
+            start++;
+        }
+        for (; start < to; start++) {
+            E pivot = array[start];
+            int left = from;
+            int right = start;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                if (comparator.compare(pivot, array[mid]) < 0) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+            System.arraycopy(array, left, array, left + 1, start - left);
+            array[left] = pivot;
+        }
+    }
+
+    /**
+     * Returns the minimum run length for a range of the given size: a value in
+     * {@code [MIN_MERGE / 2, MIN_MERGE]} such that the number of runs is close to a power of two.
+     */
+    private static int minRunLength(int length) {
+        int lowBits = 0;
+        while (length >= MIN_MERGE) {
+            lowBits |= length & 1;
+            length >>= 1;
+        }
+        return length + lowBits;
+    }
+
+    /**
+     * Finds the leftmost position at which {@code key} can be inserted into the sorted range
+     * {@code [base, base + length)}, starting an exponential search at {@code base + hint}.
+     *
+     * @return the offset {@code k} such that {@code range[k - 1] < key <= range[k]}
+     */
+    private static <E> int gallopLeft(E key, E[] array, int base, int length, int hint,
+                                      Comparator<? super E> comparator) {
+        int lastOffset = 0;
+        int offset = 1;
+        if (comparator.compare(key, array[base + hint]) > 0) {
+            int maxOffset = length - hint;
+            while (offset < maxOffset && comparator.compare(key, array[base + hint + offset]) > 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) {
+                    offset = maxOffset; // int overflow
+                }
+            }
+            offset = Math.min(offset, maxOffset);
+            lastOffset += hint;
+            offset += hint;
+        } else {
+            int maxOffset = hint + 1;
+            while (offset < maxOffset && comparator.compare(key, array[base + hint - offset]) <= 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) {
+                    offset = maxOffset;
+                }
+            }
+            offset = Math.min(offset, maxOffset);
+            int previous = lastOffset;
+            lastOffset = hint - offset;
+            offset = hint - previous;
+        }
+
+        lastOffset++;
+        while (lastOffset < offset) {
+            int mid = lastOffset + ((offset - lastOffset) >>> 1);
+            if (comparator.compare(key, array[base + mid]) > 0) {
+                lastOffset = mid + 1;
+            } else {
+                offset = mid;
+            }
+        }
+        return offset;
+    }
+
+    /**
+     * Finds the rightmost position at which {@code key} can be inserted into the sorted range
+     * {@code [base, base + length)}, starting an exponential search at {@code base + hint}.
+     *
+     * @return the offset {@code k} such that {@code range[k - 1] <= key < range[k]}
+     */
+    private static <E> int gallopRight(E key, E[] array, int base, int length, int hint,
+                                       Comparator<? super E> comparator) {
+        int lastOffset = 0;
+        int offset = 1;
+        if (comparator.compare(key, array[base + hint]) < 0) {
+            int maxOffset = hint + 1;
+            while (offset < maxOffset && comparator.compare(key, array[base + hint - offset]) < 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) {
+                    offset = maxOffset;
+                }
+            }
+            offset = Math.min(offset, maxOffset);
+            int previous = lastOffset;
+            lastOffset = hint - offset;
+            offset = hint - previous;
+        } else {
+            int maxOffset = length - hint;
+            while (offset < maxOffset && comparator.compare(key, array[base + hint + offset]) >= 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) {
+                    offset = maxOffset;
+                }
+            }
+            offset = Math.min(offset, maxOffset);
+            lastOffset += hint;
+            offset += hint;
+        }
+
+        lastOffset++;
+        while (lastOffset < offset) {
+            int mid = lastOffset + ((offset - lastOffset) >>> 1);
+            if (comparator.compare(key, array[base + mid]) < 0) {
+                offset = mid;
+            } else {
+                lastOffset = mid + 1;
+            }
+        }
+        return offset;
+    }
+
+    /**
+     * Per-call merge state: the stack of pending runs, the merge buffer and the galloping threshold.
+     *
+     * @param <E> the type of elements to be merged
+     */
+    private static final class Merger<E> {
+
+        private final E[] array;
+        private final Comparator<? super E> comparator;
+        private final int[] runBase = new int[MAX_PENDING_RUNS];
+        private final int[] runLength = new int[MAX_PENDING_RUNS];
+        private int stackSize;
+        private int minGallop = MIN_GALLOP;
+        private E[] buffer;
+
+        Merger(E[] array, Comparator<? super E> comparator) {
+            this.array = array;
+            this.comparator = comparator;
+        }
+
+        void pushRun(int base, int length) {
+            runBase[stackSize] = base;
+            runLength[stackSize] = length;
+            stackSize++;
+        }
+
+        /**
+         * Merges pending runs until the run lengths on the stack decrease faster than the Fibonacci numbers,
+         * which keeps merges balanced and bounds the stack depth.
+         */
+        void mergeCollapse() {
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if (n > 0 && runLength[n - 1] <= runLength[n] + runLength[n + 1]
+                        || n > 1 && runLength[n - 2] <= runLength[n] + runLength[n - 1]) {
+                    if (runLength[n - 1] < runLength[n + 1]) {
+                        n--;
+                    }
+                } else if (runLength[n] > runLength[n + 1]) {
+                    break;
+                }
+                mergeAt(n);
+            }
+        }
+
+        /**
+         * Merges all remaining runs into one.
+         */
+        void mergeForceCollapse() {
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if (n > 0 && runLength[n - 1] < runLength[n + 1]) {
+                    n--;
+                }
+                mergeAt(n);
+            }
+        }
+
+        /**
+         * Merges the runs at stack positions {@code i} and {@code i + 1}.
+         */
+        private void mergeAt(int i) {
+            int base1 = runBase[i];
+            int length1 = runLength[i];
+            int base2 = runBase[i + 1];
+            int length2 = runLength[i + 1];
+
+            runLength[i] = length1 + length2;
+            if (i == stackSize - 3) {
+                runBase[i + 1] = runBase[i + 2];
+                runLength[i + 1] = runLength[i + 2];
+            }
+            stackSize--;
+
+            // Elements of run 1 that precede run 2 and elements of run 2 that follow run 1 are already in place
+            int skipped = gallopRight(array[base2], array, base1, length1, 0, comparator);
+            base1 += skipped;
+            length1 -= skipped;
+            if (length1 == 0) {
+                return;
+            }
+            length2 = gallopLeft(array[base1 + length1 - 1], array, base2, length2, length2 - 1, comparator);
+            if (length2 == 0) {
+                return;
+            }
+
+            if (length1 <= length2) {
+                mergeLow(base1, length1, base2, length2);
+            } else {
+                mergeHigh(base1, length1, base2, length2);
+            }
+        }
+
+        /**
+         * Merges two adjacent runs from left to right; used when the first run is the shorter one.
+         */
+        private void mergeLow(int base1, int length1, int base2, int length2) {
+            E[] a = array;
+            E[] tmp = ensureCapacity(length1);
+            System.arraycopy(a, base1, tmp, 0, length1);
+            int cursor1 = 0;
+            int cursor2 = base2;
+            int dest = base1;
+
+            a[dest++] = a[cursor2++];
+            if (--length2 == 0) {
+                System.arraycopy(tmp, cursor1, a, dest, length1);
+                return;
+            }
+            if (length1 == 1) {
+                System.arraycopy(a, cursor2, a, dest, length2);
+                a[dest + length2] = tmp[cursor1];
+                return;
+            }
+
+            int gallop = minGallop;
+            outer:
+            while (true) {
+                int wins1 = 0;
+                int wins2 = 0;
+
+                // One element at a time until one run starts winning consistently
+                do {
+                    if (comparator.compare(a[cursor2], tmp[cursor1]) < 0) {
+                        a[dest++] = a[cursor2++];
+                        wins2++;
+                        wins1 = 0;
+                        if (--length2 == 0) {
+                            break outer;
+                        }
+                    } else {
+                        a[dest++] = tmp[cursor1++];
+                        wins1++;
+                        wins2 = 0;
+                        if (--length1 == 1) {
+                            break outer;
+                        }
+                    }
+                } while ((wins1 | wins2) < gallop);
+
+                // Galloping until neither run wins by a wide margin
+                do {
+                    wins1 = gallopRight(a[cursor2], tmp, cursor1, length1, 0, comparator);
+                    if (wins1 != 0) {
+                        System.arraycopy(tmp, cursor1, a, dest, wins1);
+                        dest += wins1;
+                        cursor1 += wins1;
+                        length1 -= wins1;
+                        if (length1 <= 1) {
+                            break outer;
+                        }
+                    }
+                    a[dest++] = a[cursor2++];
+                    if (--length2 == 0) {
+                        break outer;
+                    }
+
+                    wins2 = gallopLeft(tmp[cursor1], a, cursor2, length2, 0, comparator);
+                    if (wins2 != 0) {
+                        System.arraycopy(a, cursor2, a, dest, wins2);
+                        dest += wins2;
+                        cursor2 += wins2;
+                        length2 -= wins2;
+                        if (length2 == 0) {
+                            break outer;
+                        }
+                    }
+                    a[dest++] = tmp[cursor1++];
+                    if (--length1 == 1) {
+                        break outer;
+                    }
+                    gallop--;
+                } while (wins1 >= MIN_GALLOP | wins2 >= MIN_GALLOP);
+                gallop = Math.max(gallop, 0) + 2; // Penalty for leaving galloping mode
+            }
+            minGallop = Math.max(gallop, 1);
+
+            if (length1 == 1) {
+                System.arraycopy(a, cursor2, a, dest, length2);
+                a[dest + length2] = tmp[cursor1];
+            } else if (length1 == 0) {
+                throw new IllegalArgumentException("Comparison method violates its general contract");
+            } else {
+                System.arraycopy(tmp, cursor1, a, dest, length1);
+            }
+        }
+
+        /**
+         * Merges two adjacent runs from right to left; used when the second run is the shorter one.
+         */
+        private void mergeHigh(int base1, int length1, int base2, int length2) {
+            E[] a = array;
+            E[] tmp = ensureCapacity(length2);
+            System.arraycopy(a, base2, tmp, 0, length2);
+            int cursor1 = base1 + length1 - 1;
+            int cursor2 = length2 - 1;
+            int dest = base2 + length2 - 1;
+
+            a[dest--] = a[cursor1--];
+            if (--length1 == 0) {
+                System.arraycopy(tmp, 0, a, dest - (length2 - 1), length2);
+                return;
+            }
+            if (length2 == 1) {
+                dest -= length1;
+                cursor1 -= length1;
+                System.arraycopy(a, cursor1 + 1, a, dest + 1, length1);
+                a[dest] = tmp[cursor2];
+                return;
+            }
+
+            int gallop = minGallop;
+            outer:
+            while (true) {
+                int wins1 = 0;
+                int wins2 = 0;
+
+                do {
+                    if (comparator.compare(tmp[cursor2], a[cursor1]) < 0) {
+                        a[dest--] = a[cursor1--];
+                        wins1++;
+                        wins2 = 0;
+                        if (--length1 == 0) {
+                            break outer;
+                        }
+                    } else {
+                        a[dest--] = tmp[cursor2--];
+                        wins2++;
+                        wins1 = 0;
+                        if (--length2 == 1) {
+                            break outer;
+                        }
+                    }
+                } while ((wins1 | wins2) < gallop);
+
+                do {
+                    wins1 = length1 - gallopRight(tmp[cursor2], a, base1, length1, length1 - 1, comparator);
+                    if (wins1 != 0) {
+                        dest -= wins1;
+                        cursor1 -= wins1;
+                        length1 -= wins1;
+                        System.arraycopy(a, cursor1 + 1, a, dest + 1, wins1);
+                        if (length1 == 0) {
+                            break outer;
+                        }
+                    }
+                    a[dest--] = tmp[cursor2--];
+                    if (--length2 == 1) {
+                        break outer;
+                    }
+
+                    wins2 = length2 - gallopLeft(a[cursor1], tmp, 0, length2, length2 - 1, comparator);
+                    if (wins2 != 0) {
+                        dest -= wins2;
+                        cursor2 -= wins2;
+                        length2 -= wins2;
+                        System.arraycopy(tmp, cursor2 + 1, a, dest + 1, wins2);
+                        if (length2 <= 1) {
+                            break outer;
+                        }
+                    }
+                    a[dest--] = a[cursor1--];
+                    if (--length1 == 0) {
+                        break outer;
+                    }
+                    gallop--;
+                } while (wins1 >= MIN_GALLOP | wins2 >= MIN_GALLOP);
+                gallop = Math.max(gallop, 0) + 2;
+            }
+            minGallop = Math.max(gallop, 1);
+
+            if (length2 == 1) {
+                dest -= length1;
+                cursor1 -= length1;
+                System.arraycopy(a, cursor1 + 1, a, dest + 1, length1);
+                a[dest] = tmp[cursor2];
+            } else if (length2 == 0) {
+                throw new IllegalArgumentException("Comparison method violates its general contract");
+            } else {
+                System.arraycopy(tmp, 0, a, dest - (length2 - 1), length2);
+            }
+        }
+
+        /**
+         * Returns a merge buffer holding at least {@code capacity} elements, growing it if necessary.
+         */
+        @SuppressWarnings("unchecked")
+        private E[] ensureCapacity(int capacity) {
+            if (buffer == null || buffer.length < capacity) {
+                int size = buffer == null ? capacity : Math.max(capacity, Math.min(buffer.length << 1, array.length >>> 1));
+                buffer = (E[]) new Object[size];
+            }
+            return buffer;
+        }
+    }
+}
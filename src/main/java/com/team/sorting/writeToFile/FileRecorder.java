@@ -4,6 +4,7 @@ import java.io.BufferedWriter;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.util.Collection;
+import java.util.Iterator;
 
 /**
  * Utility class for writing data to files.
@@ -31,6 +32,27 @@ public class FileRecorder {
         }
     }
 
+    /**
+     * Appends all remaining elements of an iterator to the specified file.
+     * Produces the same format as {@link #writeCollectionToFile(Collection, String)}, but the elements
+     * are written as they are produced, so the whole sequence never has to be held in memory.
+     *
+     * @param iterator the elements to write
+     * @param filename the path of the file to write to
+     * @param <T>      the type of elements
+     */
+    public static <T> void writeIteratorToFile(Iterator<T> iterator, String filename) {
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filename, true))) {
+            while (iterator.hasNext()) {
+                writer.write(iterator.next().toString());
+                writer.newLine();
+            }
+            writer.newLine();
+        } catch (IOException e) {
+            System.err.println("Error writing to file '" + filename + "': " + e.getMessage());
+        }
+    }
+
     /**
      * Appends a single value to the specified file.
      * The value is written on a new line using its {@code toString()} representation.
@@ -2,6 +2,7 @@ package com.team.sorting.app;
 
 import com.team.sorting.input.inputter.InputterFactory;
 import com.team.sorting.model.Animal;
+import com.team.sorting.sort.TimSort;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
@@ -112,4 +113,37 @@ class AnimalHandlerTest {
         String output = outContent.toString();
         assertTrue(output.contains("Invalid format"));
     }
+
+    /**
+     * Test that a handler created with a custom sorting strategy uses it for searchAndPrint.
+     */
+    @Test
+    void testSearchAndPrintWithCustomSorter() {
+        AnimalHandler timSortHandler = new AnimalHandler(new TimSort<>());
+        List<Animal> animals = List.of(
+                new Animal.Builder().species(Animal.Species.DOG).eyeColor(Animal.EyeColor.BROWN)
+                        .fur(Animal.Fur.SHORT).eatsBun(true).build(),
+                new Animal.Builder().species(Animal.Species.CAT).eyeColor(Animal.EyeColor.BLUE)
+                        .fur(Animal.Fur.LONG).eatsBun(false).build()
+        );
+
+        String simulatedInput = "CAT BLUE LONG false\nCAT\n";
+        Scanner scanner = new Scanner(new ByteArrayInputStream(simulatedInput.getBytes()));
+
+        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+
+        timSortHandler.searchAndPrint(animals, scanner);
+
+        String output = outContent.toString();
+        assertTrue(output.contains("Found at index 0"), "CAT should be first after sorting");
+    }
+
+    /**
+     * Test that a null sorting strategy is rejected.
+     */
+    @Test
+    void testNullSorterThrows() {
+        assertThrows(IllegalArgumentException.class, () -> new AnimalHandler(null));
+    }
 }
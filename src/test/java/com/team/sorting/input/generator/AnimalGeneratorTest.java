@@ -73,4 +73,17 @@ class AnimalGeneratorTest {
         assertNotNull(animals, "Result list must not be null.");
         assertTrue(animals.isEmpty(), "Generating 0 animals should return an empty list.");
     }
+
+    /**
+     * Tests that equal generated animals are the same shared instance.
+     */
+    @Test
+    void testGeneratedAnimalsAreShared() {
+        List<Animal> animals = new AnimalGenerator().generate(1_000);
+
+        assertTrue(animals.stream().distinct().count() <= 128);
+        for (Animal animal : animals) {
+            assertSame(animals.stream().filter(animal::equals).findFirst().orElseThrow(), animal);
+        }
+    }
 }
@@ -1,10 +1,14 @@
 package com.team.sorting.input.generator;
 
 import com.team.sorting.model.Barrel;
+import com.team.sorting.model.EntityInterner;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
 import java.util.EnumSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -73,4 +77,33 @@ class BarrelGeneratorTest {
         assertTrue(hasMin && hasMax,
                 "Generated barrels should include varied volumes across the range.");
     }
+
+    /**
+     * Tests that the stream generates barrels lazily, only as many as are consumed.
+     */
+    @Test
+    void testStreamIsLazy() {
+        BarrelGenerator generator = new BarrelGenerator();
+
+        List<Barrel> barrels = generator.stream(Integer.MAX_VALUE).limit(5).toList();
+
+        assertEquals(5, barrels.size(), "Only the consumed barrels should be generated.");
+        assertEquals(3, generator.stream(3).count(), "The stream should contain the requested count.");
+    }
+
+    /**
+     * Tests that a generator with an interner returns one instance per distinct barrel.
+     */
+    @Test
+    void testGeneratorWithInterner() {
+        EntityInterner<Barrel> interner = new EntityInterner<>();
+        List<Barrel> barrels = new BarrelGenerator(interner).generate(20_000);
+
+        long distinct = barrels.stream().distinct().count();
+        assertEquals(distinct, interner.size());
+        Set<Barrel> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+        instances.addAll(barrels);
+        assertEquals(distinct, instances.size());
+        assertThrows(IllegalArgumentException.class, () -> new BarrelGenerator(null));
+    }
 }
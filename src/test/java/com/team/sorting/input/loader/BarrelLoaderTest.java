@@ -1,11 +1,13 @@
 package com.team.sorting.input.loader;
 
 import com.team.sorting.model.Barrel;
+import com.team.sorting.model.EntityInterner;
 import org.junit.jupiter.api.Test;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -63,4 +65,44 @@ class BarrelLoaderTest {
         assertEquals(2, barrels.size(), "Lines with invalid number format should be skipped.");
         Files.deleteIfExists(tempFile);
     }
+
+    /**
+     * Tests that streaming a file parses the same barrels as loading it, skipping invalid lines.
+     */
+    @Test
+    void testStreamSkipsInvalidLines() throws Exception {
+        Path tempFile = Files.createTempFile("stream-barrel", ".txt");
+        Files.writeString(tempFile,
+                "200,OIL,WOOD\n" +    // valid
+                "abc,OIL,WOOD\n" +    // invalid (volume is not a number)
+                "150,WATER,METAL\n"   // valid
+        );
+
+        EntityLoader<Barrel> loader = new BarrelLoader();
+        try (Stream<Barrel> barrels = loader.stream(tempFile.toString())) {
+            assertEquals(List.of(200, 150), barrels.map(Barrel::getVolume).toList(),
+                    "The stream should contain the valid barrels in file order.");
+        }
+        Files.deleteIfExists(tempFile);
+    }
+
+    /**
+     * Tests that a loader with an interner returns one instance for equal lines.
+     */
+    @Test
+    void testLoadWithInterner() throws Exception {
+        Path tempFile = Files.createTempFile("interned-barrel", ".txt");
+        Files.writeString(tempFile, "200,OIL,WOOD\n150,WATER,METAL\n200,OIL,WOOD\n");
+
+        try {
+            List<Barrel> barrels = new BarrelLoader(new EntityInterner<>()).load(tempFile.toString());
+
+            assertEquals(3, barrels.size());
+            assertSame(barrels.get(0), barrels.get(2));
+            assertNotSame(barrels.get(0), barrels.get(1));
+            assertNotSame(barrels.get(0), new BarrelLoader().load(tempFile.toString()).get(0));
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
 }
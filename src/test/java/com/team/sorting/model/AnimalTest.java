@@ -28,21 +28,40 @@ class AnimalTest {
     }
 
     /**
-     * Tests that setters and getters work as expected.
+     * Tests that the {@code withX} methods return changed copies and leave the original unchanged.
      */
     @Test
-    void testSettersAndGetters() {
-        Animal animal = new Animal.Builder().build();
-
-        animal.setSpecies(Animal.Species.DOG);
-        animal.setEyeColor(Animal.EyeColor.BROWN);
-        animal.setFur(Animal.Fur.SHORT);
-        animal.setEatsBun(false);
-
-        assertEquals(Animal.Species.DOG, animal.getSpecies());
-        assertEquals(Animal.EyeColor.BROWN, animal.getEyeColor());
-        assertEquals(Animal.Fur.SHORT, animal.getFur());
-        assertFalse(animal.getEatsBun());
+    void testWithMethodsReturnCopies() {
+        Animal animal = new Animal.Builder().eatsBun(true).build();
+
+        Animal copy = animal.withSpecies(Animal.Species.DOG)
+                .withEyeColor(Animal.EyeColor.BROWN)
+                .withFur(Animal.Fur.SHORT)
+                .withEatsBun(false);
+
+        assertEquals(Animal.Species.DOG, copy.getSpecies());
+        assertEquals(Animal.EyeColor.BROWN, copy.getEyeColor());
+        assertEquals(Animal.Fur.SHORT, copy.getFur());
+        assertFalse(copy.getEatsBun());
+        assertNull(animal.getSpecies());
+        assertNull(animal.getEyeColor());
+        assertNull(animal.getFur());
+        assertTrue(animal.getEatsBun());
+    }
+
+    /**
+     * Tests that animals with the same fields are equal and have the same hash code.
+     */
+    @Test
+    void testEqualsAndHashCode() {
+        Animal cat = new Animal.Builder().species(Animal.Species.CAT).fur(Animal.Fur.LONG).build();
+        Animal sameCat = new Animal.Builder().species(Animal.Species.CAT).fur(Animal.Fur.LONG).build();
+
+        assertEquals(cat, sameCat);
+        assertEquals(cat.hashCode(), sameCat.hashCode());
+        assertNotEquals(cat, cat.withEatsBun(true));
+        assertNotEquals(cat, cat.withEyeColor(Animal.EyeColor.BLUE));
+        assertNotEquals(null, cat);
     }
 
     /**
@@ -26,19 +26,37 @@ class BarrelTest {
     }
 
     /**
-     * Tests that setters and getters work as expected.
+     * Tests that the {@code withX} methods return changed copies and leave the original unchanged.
      */
     @Test
-    void testSettersAndGetters() {
+    void testWithMethodsReturnCopies() {
         Barrel barrel = new Barrel.Builder().build();
 
-        barrel.setVolume(100);
-        barrel.setStoredMaterial(Barrel.StoredMaterial.BEER);
-        barrel.setMaterial(Barrel.Material.METAL);
+        Barrel copy = barrel.withVolume(100)
+                .withStoredMaterial(Barrel.StoredMaterial.BEER)
+                .withMaterial(Barrel.Material.METAL);
 
-        assertEquals(100, barrel.getVolume());
-        assertEquals(Barrel.StoredMaterial.BEER, barrel.getStoredMaterial());
-        assertEquals(Barrel.Material.METAL, barrel.getMaterial());
+        assertEquals(100, copy.getVolume());
+        assertEquals(Barrel.StoredMaterial.BEER, copy.getStoredMaterial());
+        assertEquals(Barrel.Material.METAL, copy.getMaterial());
+        assertEquals(0, barrel.getVolume());
+        assertNull(barrel.getStoredMaterial());
+        assertNull(barrel.getMaterial());
+    }
+
+    /**
+     * Tests that barrels with the same fields are equal and have the same hash code.
+     */
+    @Test
+    void testEqualsAndHashCode() {
+        Barrel barrel = new Barrel.Builder().volume(50).material(Barrel.Material.WOOD).build();
+        Barrel sameBarrel = new Barrel.Builder().volume(50).material(Barrel.Material.WOOD).build();
+
+        assertEquals(barrel, sameBarrel);
+        assertEquals(barrel.hashCode(), sameBarrel.hashCode());
+        assertNotEquals(barrel, barrel.withVolume(51));
+        assertNotEquals(barrel, barrel.withStoredMaterial(Barrel.StoredMaterial.WINE));
+        assertNotEquals(null, barrel);
     }
 
     /**
@@ -0,0 +1,84 @@
+package com.team.sorting.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link EntityInterner} class.
+ */
+class EntityInternerTest {
+
+    /**
+     * Tests that equal entities are replaced by the first instance seen.
+     */
+    @Test
+    void testInternReturnsCanonicalInstance() {
+        EntityInterner<Barrel> interner = new EntityInterner<>();
+        Barrel first = new Barrel.Builder().volume(100).material(Barrel.Material.WOOD).build();
+        Barrel second = new Barrel.Builder().volume(100).material(Barrel.Material.WOOD).build();
+        Barrel other = second.withVolume(200);
+
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        assertSame(other, interner.intern(other));
+        assertEquals(2, interner.size());
+
+        interner.clear();
+        assertSame(second, interner.intern(second));
+    }
+
+    /**
+     * Tests that a full interner returns new values as they are and keeps returning cached ones.
+     */
+    @Test
+    void testBoundedSize() {
+        EntityInterner<Human> interner = new EntityInterner<>(2);
+        Human ivanov = new Human.Builder().gender(Human.Gender.MALE).age(30).lastName("Ivanov").build();
+        interner.intern(ivanov);
+        interner.intern(ivanov.withAge(31));
+
+        Human uncached = ivanov.withAge(32);
+        assertSame(uncached, interner.intern(uncached));
+        assertNotSame(uncached, interner.intern(ivanov.withAge(32)));
+        assertSame(ivanov, interner.intern(ivanov.withAge(30)));
+        assertEquals(2, interner.size());
+    }
+
+    /**
+     * Tests that threads interning equal entities concurrently all get the same instance.
+     */
+    @Test
+    void testConcurrentIntern() throws Exception {
+        EntityInterner<Human> interner = new EntityInterner<>();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Human>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> interner.intern(
+                        new Human.Builder().gender(Human.Gender.FEMALE).age(25).lastName("Petrova").build())));
+            }
+            Human canonical = results.get(0).get();
+            for (Future<Human> result : results) {
+                assertSame(canonical, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Tests rejection of invalid arguments.
+     */
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new EntityInterner<Animal>(0));
+        assertThrows(IllegalArgumentException.class, () -> new EntityInterner<Animal>().intern(null));
+    }
+}
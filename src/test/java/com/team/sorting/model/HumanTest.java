@@ -26,19 +26,38 @@ class HumanTest {
     }
 
     /**
-     * Tests that setters and getters work as expected.
+     * Tests that the {@code withX} methods return changed copies and leave the original unchanged.
      */
     @Test
-    void testSettersAndGetters() {
+    void testWithMethodsReturnCopies() {
         Human human = new Human.Builder().build();
 
-        human.setGender(Human.Gender.FEMALE);
-        human.setAge(30);
-        human.setLastName("Petrova");
+        Human copy = human.withGender(Human.Gender.FEMALE)
+                .withAge(30)
+                .withLastName("Petrova");
 
-        assertEquals(Human.Gender.FEMALE, human.getGender());
-        assertEquals(30, human.getAge());
-        assertEquals("Petrova", human.getLastName());
+        assertEquals(Human.Gender.FEMALE, copy.getGender());
+        assertEquals(30, copy.getAge());
+        assertEquals("Petrova", copy.getLastName());
+        assertNull(human.getGender());
+        assertEquals(0, human.getAge());
+        assertNull(human.getLastName());
+    }
+
+    /**
+     * Tests that humans with the same fields are equal and have the same hash code.
+     */
+    @Test
+    void testEqualsAndHashCode() {
+        Human human = new Human.Builder().gender(Human.Gender.MALE).age(40).lastName("Ivanov").build();
+        Human sameHuman = new Human.Builder().gender(Human.Gender.MALE).age(40).lastName("Ivanov").build();
+
+        assertEquals(human, sameHuman);
+        assertEquals(human.hashCode(), sameHuman.hashCode());
+        assertNotEquals(human, human.withAge(41));
+        assertNotEquals(human, human.withLastName(null));
+        assertEquals(human.withLastName(null), sameHuman.withLastName(null));
+        assertNotEquals(null, human);
     }
 
     /**
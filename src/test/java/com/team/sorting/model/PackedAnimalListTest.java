@@ -0,0 +1,118 @@
+package com.team.sorting.model;
+
+import com.team.sorting.input.generator.AnimalGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link PackedAnimalList} class.
+ */
+class PackedAnimalListTest {
+
+    /**
+     * Tests that packed animals are read back equal and in order, across growth of the backing array.
+     */
+    @Test
+    void testRoundTrip() {
+        List<Animal> animals = new AnimalGenerator().generate(1_001);
+        PackedAnimalList packed = new PackedAnimalList(0);
+        packed.addAll(animals);
+
+        assertEquals(animals.size(), packed.size());
+        assertEquals(animals, packed);
+        assertEquals(animals, new ArrayList<>(PackedAnimalList.of(animals)));
+    }
+
+    /**
+     * Tests that sorting gives the natural order of the animals.
+     */
+    @Test
+    void testSortMatchesNaturalOrder() {
+        List<Animal> animals = new ArrayList<>(new AnimalGenerator().generate(10_003));
+        PackedAnimalList packed = PackedAnimalList.of(animals);
+
+        packed.sort();
+        animals.sort(Comparator.naturalOrder());
+
+        assertEquals(animals, packed);
+    }
+
+    /**
+     * Tests finding the first equal animal in a sorted list, and missing animals.
+     */
+    @Test
+    void testBinarySearch() {
+        List<Animal> animals = new ArrayList<>(new AnimalGenerator().generate(2_000));
+        PackedAnimalList packed = PackedAnimalList.of(animals);
+        packed.sort();
+        animals.sort(Comparator.naturalOrder());
+
+        for (int code = 0; code < PackedAnimal.CODES; code++) {
+            Animal animal = PackedAnimal.unpack(code);
+            assertEquals(animals.indexOf(animal), packed.binarySearch(animal), "Code " + code);
+        }
+        assertEquals(-1, new PackedAnimalList().binarySearch(PackedAnimal.unpack(0)));
+    }
+
+    /**
+     * Tests counting equal animals and animals with some fields against a plain scan, for all list lengths
+     * around a word boundary.
+     */
+    @Test
+    void testCountMatchesScan() {
+        List<Animal> animals = new AnimalGenerator().generate(300);
+        for (int length : new int[]{0, 1, 7, 8, 9, 15, 16, 17, 300}) {
+            List<Animal> prefix = animals.subList(0, length);
+            PackedAnimalList packed = PackedAnimalList.of(prefix);
+            for (int code = 0; code < PackedAnimal.CODES; code++) {
+                Animal animal = PackedAnimal.unpack(code);
+                assertEquals(prefix.stream().filter(animal::equals).count(), packed.count(animal),
+                        "Length " + length + ", code " + code);
+            }
+            for (Animal.Species species : Animal.Species.values()) {
+                assertEquals(prefix.stream().filter(a -> a.getSpecies() == species).count(),
+                        packed.countMatching(species, null, null, null));
+            }
+            assertEquals(prefix.stream().filter(a -> !a.getEatsBun() && a.getFur() == Animal.Fur.NONE).count(),
+                    packed.countMatching(null, null, Animal.Fur.NONE, false));
+            assertEquals(length, packed.countMatching(null, null, null, null));
+        }
+    }
+
+    /**
+     * Tests that the list stores no animal objects and returns the shared instances.
+     */
+    @Test
+    void testGetReturnsSharedInstances() {
+        Animal animal = new Animal.Builder().species(Animal.Species.HORSE).eyeColor(Animal.EyeColor.GREEN)
+                .fur(Animal.Fur.LONG).eatsBun(true).build();
+        PackedAnimalList packed = new PackedAnimalList();
+        packed.add(animal);
+
+        assertNotSame(animal, packed.get(0));
+        assertEquals(animal, packed.get(0));
+        assertSame(PackedAnimal.unpack(packed.code(0)), packed.get(0));
+        assertTrue(packed.contains(animal));
+        assertFalse(packed.contains(new Animal.Builder().build()));
+    }
+
+    /**
+     * Tests rejection of invalid arguments and out-of-range positions.
+     */
+    @Test
+    void testInvalidArguments() {
+        PackedAnimalList packed = new PackedAnimalList();
+
+        assertThrows(IllegalArgumentException.class, () -> new PackedAnimalList(-1));
+        assertThrows(IllegalArgumentException.class, () -> packed.add(null));
+        assertThrows(IllegalArgumentException.class, () -> packed.add(new Animal.Builder().build()));
+        assertThrows(IllegalArgumentException.class, () -> packed.addCode(PackedAnimal.CODES));
+        assertThrows(IndexOutOfBoundsException.class, () -> packed.get(0));
+        assertThrows(UnsupportedOperationException.class, () -> packed.add(0, PackedAnimal.unpack(0)));
+    }
+}
@@ -0,0 +1,67 @@
+package com.team.sorting.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link PackedAnimal} class.
+ */
+class PackedAnimalTest {
+
+    /**
+     * Tests that every code unpacks to a shared animal that packs back into the same code.
+     */
+    @Test
+    void testRoundTrip() {
+        for (int code = 0; code < PackedAnimal.CODES; code++) {
+            Animal animal = PackedAnimal.unpack(code);
+            assertEquals(code, PackedAnimal.pack(animal));
+            assertSame(animal, PackedAnimal.unpack(code));
+            assertEquals(animal.getSpecies(), PackedAnimal.species(code));
+            assertEquals(animal.getEyeColor(), PackedAnimal.eyeColor(code));
+            assertEquals(animal.getFur(), PackedAnimal.fur(code));
+            assertEquals(animal.getEatsBun(), PackedAnimal.eatsBun(code));
+        }
+    }
+
+    /**
+     * Tests that codes are ordered as the natural ordering of the animals.
+     */
+    @Test
+    void testCodesPreserveNaturalOrder() {
+        for (int a = 0; a < PackedAnimal.CODES; a++) {
+            for (int b = 0; b < PackedAnimal.CODES; b++) {
+                assertEquals(Integer.signum(Integer.compare(a, b)),
+                        Integer.signum(PackedAnimal.unpack(a).compareTo(PackedAnimal.unpack(b))),
+                        "Codes " + a + " and " + b);
+            }
+        }
+    }
+
+    /**
+     * Tests that masks and values select the codes with the given fields.
+     */
+    @Test
+    void testMaskAndValue() {
+        int mask = PackedAnimal.mask(Animal.Species.DOG, null, Animal.Fur.CURLY, null);
+        int value = PackedAnimal.value(Animal.Species.DOG, null, Animal.Fur.CURLY, null);
+        for (int code = 0; code < PackedAnimal.CODES; code++) {
+            boolean expected = PackedAnimal.species(code) == Animal.Species.DOG
+                    && PackedAnimal.fur(code) == Animal.Fur.CURLY;
+            assertEquals(expected, (code & mask) == value, "Code " + code);
+        }
+        assertEquals(0, PackedAnimal.mask(null, null, null, null));
+    }
+
+    /**
+     * Tests rejection of animals with null fields and invalid codes.
+     */
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> PackedAnimal.pack(null));
+        assertThrows(IllegalArgumentException.class, () -> PackedAnimal.pack(new Animal.Builder().build()));
+        assertThrows(IllegalArgumentException.class, () -> PackedAnimal.unpack(-1));
+        assertThrows(IllegalArgumentException.class, () -> PackedAnimal.unpack(PackedAnimal.CODES));
+    }
+}
@@ -1,10 +1,18 @@
 package com.team.sorting.search;
 
+import com.team.sorting.input.generator.BarrelGenerator;
+import com.team.sorting.input.generator.HumanGenerator;
+import com.team.sorting.model.Barrel;
+import com.team.sorting.model.Human;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -92,4 +100,124 @@ class BinarySearchTest {
         assertEquals(1, stringSearch.search(list, "banana"), "Should find the string element");
         assertEquals(-1, stringSearch.search(list, "fig"), "Should return -1 for missing string");
     }
+
+    /**
+     * Tests lower and upper bounds around duplicates, missing keys and the ends of the list.
+     */
+    @Test
+    void testBounds() {
+        List<Integer> list = Arrays.asList(1, 3, 3, 3, 5, 7);
+        assertEquals(1, intSearch.lowerBound(list, 3));
+        assertEquals(4, intSearch.upperBound(list, 3));
+        assertEquals(4, intSearch.lowerBound(list, 4));
+        assertEquals(4, intSearch.upperBound(list, 4));
+        assertEquals(0, intSearch.lowerBound(list, 0));
+        assertEquals(6, intSearch.upperBound(list, 7));
+        assertEquals(6, intSearch.lowerBound(list, 8));
+        assertEquals(0, intSearch.lowerBound(Collections.emptyList(), 1));
+    }
+
+    /**
+     * Tests equal ranges and counts, including keys that are not in the list.
+     */
+    @Test
+    void testEqualRangeAndCount() {
+        List<Integer> list = Arrays.asList(1, 3, 3, 3, 5, 7);
+        assertArrayEquals(new int[]{1, 4}, intSearch.equalRange(list, 3));
+        assertArrayEquals(new int[]{4, 4}, intSearch.equalRange(list, 4));
+        assertEquals(3, intSearch.count(list, 3));
+        assertEquals(1, intSearch.count(list, 7));
+        assertEquals(0, intSearch.count(list, 2));
+    }
+
+    /**
+     * Tests inclusive range queries, empty ranges and reversed bounds.
+     */
+    @Test
+    void testRangeQuery() {
+        List<Integer> list = Arrays.asList(1, 3, 3, 3, 5, 7);
+        assertEquals(Arrays.asList(3, 3, 3, 5), intSearch.rangeQuery(list, 2, 5));
+        assertEquals(Arrays.asList(1, 3, 3, 3, 5, 7), intSearch.rangeQuery(list, 0, 10));
+        assertTrue(intSearch.rangeQuery(list, 4, 4).isEmpty());
+        assertTrue(intSearch.rangeQuery(list, 5, 3).isEmpty());
+        assertEquals(Arrays.asList("banana", "cherry"),
+                stringSearch.rangeQuery(Arrays.asList("apple", "banana", "cherry", "date"), "b", "cz"));
+    }
+
+    /**
+     * Tests that counts and ranges on many duplicates match a linear scan.
+     */
+    @Test
+    void testRangesMatchLinearScan() {
+        List<Integer> list = new Random(7).ints(5_000, 0, 100).boxed().sorted().collect(Collectors.toList());
+        for (int key = -1; key <= 100; key++) {
+            int finalKey = key;
+            assertEquals(list.stream().filter(e -> e == finalKey).count(), intSearch.count(list, key));
+            assertEquals(list.stream().filter(e -> e >= finalKey && e <= finalKey + 10).collect(Collectors.toList()),
+                    intSearch.rangeQuery(list, key, key + 10));
+        }
+    }
+
+    /**
+     * Tests counting equal barrels in a sorted batch against a linear scan.
+     */
+    @Test
+    void testCountBarrels() {
+        List<Barrel> barrels = new ArrayList<>(new BarrelGenerator().generate(10_000));
+        barrels.sort(Comparator.naturalOrder());
+        BinarySearch<Barrel> barrelSearch = new BinarySearch<>();
+
+        for (Barrel key : barrels.subList(0, 100)) {
+            assertEquals(barrels.stream().filter(key::equals).count(), barrelSearch.count(barrels, key));
+        }
+    }
+
+    /**
+     * Tests that a batch search answers every key in the order given, with the first matching index.
+     */
+    @Test
+    void testSearchAll() {
+        List<Integer> list = Arrays.asList(1, 3, 3, 3, 5, 7);
+        assertArrayEquals(new int[]{4, -1, 1, 0, 5, -1, 1, -1},
+                intSearch.searchAll(list, Arrays.asList(5, 4, 3, 1, 7, 8, 3, 0)));
+        assertArrayEquals(new int[0], intSearch.searchAll(list, Collections.emptyList()));
+        assertArrayEquals(new int[]{-1, -1}, intSearch.searchAll(Collections.emptyList(), Arrays.asList(1, 2)));
+    }
+
+    /**
+     * Tests that batch searches, sequential and split across processors, match a lower bound per key.
+     */
+    @Test
+    void testSearchAllMatchesSingleSearches() {
+        Random random = new Random(11);
+        List<Integer> list = random.ints(50_000, 0, 200_000).boxed().sorted().collect(Collectors.toList());
+        List<Integer> keys = random.ints(ComparatorSearch.PARALLEL_THRESHOLD * 2, -10, 200_010).boxed()
+                .collect(Collectors.toList());
+
+        int[] expected = new int[keys.size()];
+        for (int i = 0; i < expected.length; i++) {
+            int bound = intSearch.lowerBound(list, keys.get(i));
+            expected[i] = bound < list.size() && list.get(bound).equals(keys.get(i)) ? bound : -1;
+        }
+
+        assertArrayEquals(expected, intSearch.searchAll(list, keys));
+        assertArrayEquals(expected, intSearch.searchAll(list, keys, 1));
+        assertArrayEquals(expected, intSearch.searchAll(list, keys, 3));
+    }
+
+    /**
+     * Tests looking up a batch of humans in a sorted list of humans.
+     */
+    @Test
+    void testSearchAllHumans() {
+        List<Human> humans = new ArrayList<>(new HumanGenerator().generate(5_000));
+        humans.sort(Comparator.naturalOrder());
+        List<Human> keys = new HumanGenerator().generate(1_000);
+        BinarySearch<Human> humanSearch = new BinarySearch<>();
+
+        int[] results = humanSearch.searchAll(humans, keys);
+        for (int i = 0; i < keys.size(); i++) {
+            assertEquals(humans.indexOf(keys.get(i)), results[i], "Key at index " + i);
+        }
+    }
 }
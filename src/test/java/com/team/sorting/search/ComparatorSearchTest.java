@@ -0,0 +1,127 @@
+package com.team.sorting.search;
+
+import com.team.sorting.input.generator.BarrelGenerator;
+import com.team.sorting.input.generator.HumanGenerator;
+import com.team.sorting.model.Barrel;
+import com.team.sorting.model.Human;
+import com.team.sorting.sort.TimSort;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ComparatorSearch}.
+ */
+class ComparatorSearchTest {
+
+    /**
+     * Search for integers sorted in descending order.
+     */
+    private final ComparatorSearch<Integer> descending = new ComparatorSearch<>(Comparator.reverseOrder());
+
+    /**
+     * Tests searching a list sorted in descending order, which natural-order search cannot do.
+     */
+    @Test
+    void testSearchDescendingOrder() {
+        List<Integer> list = Arrays.asList(9, 7, 5, 5, 5, 3, 1);
+        assertEquals(0, descending.search(list, 9));
+        assertEquals(2, descending.search(list, 5));
+        assertEquals(6, descending.search(list, 1));
+        assertEquals(-1, descending.search(list, 4));
+        assertEquals(-1, descending.search(list, 10));
+        assertEquals(-1, descending.search(Collections.emptyList(), 1));
+    }
+
+    /**
+     * Tests the bounds, counts and ranges in a list sorted in descending order.
+     */
+    @Test
+    void testRangesDescendingOrder() {
+        List<Integer> list = Arrays.asList(9, 7, 5, 5, 5, 3, 1);
+        assertEquals(2, descending.lowerBound(list, 5));
+        assertEquals(5, descending.upperBound(list, 5));
+        assertEquals(3, descending.count(list, 5));
+        assertEquals(0, descending.count(list, 4));
+        assertArrayEquals(new int[]{5, 5}, descending.equalRange(list, 4));
+        assertEquals(Arrays.asList(7, 5, 5, 5, 3), descending.rangeQuery(list, 8, 2));
+        assertTrue(descending.rangeQuery(list, 2, 8).isEmpty(), "Reversed bounds should give an empty range");
+    }
+
+    /**
+     * Tests searching barrels sorted by volume only with the comparator they were sorted by.
+     */
+    @Test
+    void testSearchBarrelsSortedByVolume() {
+        Comparator<Barrel> byVolume = Comparator.comparingInt(Barrel::getVolume);
+        List<Barrel> barrels = new TimSort<Barrel>().sort(new BarrelGenerator().generate(5_000), byVolume);
+        ComparatorSearch<Barrel> search = new ComparatorSearch<>(byVolume);
+
+        for (Barrel key : barrels.subList(0, 200)) {
+            int index = search.search(barrels, key);
+            assertEquals(key.getVolume(), barrels.get(index).getVolume());
+            assertTrue(index == 0 || barrels.get(index - 1).getVolume() < key.getVolume(),
+                    "Should return the first barrel with the volume");
+            assertEquals(barrels.stream().filter(b -> b.getVolume() == key.getVolume()).count(),
+                    search.count(barrels, key));
+        }
+    }
+
+    /**
+     * Tests the key-extractor factory and searching by a key value alone.
+     */
+    @Test
+    void testByKey() {
+        List<Human> humans = new ArrayList<>(new HumanGenerator().generate(3_000));
+        humans.sort(Comparator.comparing(Human::getAge));
+        ComparatorSearch<Human> search = ComparatorSearch.byKey(Human::getAge);
+
+        for (Human key : humans.subList(0, 100)) {
+            int expected = 0;
+            while (humans.get(expected).getAge() != key.getAge()) {
+                expected++;
+            }
+            assertEquals(expected, search.search(humans, key));
+            assertEquals(expected, ComparatorSearch.searchByKey(humans, Human::getAge, key.getAge()));
+        }
+        assertEquals(-1, ComparatorSearch.searchByKey(humans, Human::getAge, -1));
+    }
+
+    /**
+     * Tests that batch searches, sequential and split across processors, match single searches.
+     */
+    @Test
+    void testSearchAllMatchesSingleSearches() {
+        Random random = new Random(5);
+        List<Integer> list = random.ints(20_000, 0, 50_000).boxed()
+                .sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+        List<Integer> keys = random.ints(ComparatorSearch.PARALLEL_THRESHOLD * 2, -10, 50_010).boxed()
+                .collect(Collectors.toList());
+
+        int[] expected = new int[keys.size()];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = descending.search(list, keys.get(i));
+        }
+
+        assertArrayEquals(expected, descending.searchAll(list, keys));
+        assertArrayEquals(expected, descending.searchAll(list, keys, 1));
+        assertArrayEquals(expected, descending.searchAll(list, keys, 3));
+    }
+
+    /**
+     * Tests that a {@code null} comparator or key extractor is rejected.
+     */
+    @Test
+    void testNullArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ComparatorSearch<Integer>(null));
+        assertThrows(IllegalArgumentException.class, () -> ComparatorSearch.<Integer, Integer>byKey(null));
+    }
+}
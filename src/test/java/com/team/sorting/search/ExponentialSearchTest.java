@@ -0,0 +1,72 @@
+package com.team.sorting.search;
+
+import com.team.sorting.input.generator.BarrelGenerator;
+import com.team.sorting.model.Barrel;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ExponentialSearch}.
+ */
+class ExponentialSearchTest {
+
+    /**
+     * Exponential search instance for {@link Integer} elements.
+     */
+    private final ExponentialSearch<Integer> intSearch = new ExponentialSearch<>(Integer::intValue);
+
+    /**
+     * Tests found and missing elements, duplicates and the ends of the list.
+     */
+    @Test
+    void testSearchIntegers() {
+        List<Integer> list = Arrays.asList(1, 3, 3, 3, 5, 7, Integer.MAX_VALUE);
+        assertEquals(0, intSearch.search(list, 1));
+        assertEquals(6, intSearch.search(list, Integer.MAX_VALUE));
+        assertEquals(1, intSearch.search(list, 3));
+        assertEquals(-1, intSearch.search(list, 4));
+        assertEquals(-1, intSearch.search(list, 0));
+        assertEquals(-1, intSearch.search(Collections.emptyList(), 1));
+    }
+
+    /**
+     * Tests that searches on random keys match a binary search.
+     */
+    @Test
+    void testMatchesBinarySearch() {
+        List<Integer> list = new Random(5).ints(5_000, 0, 20_000).boxed().sorted().collect(Collectors.toList());
+        BinarySearch<Integer> binarySearch = new BinarySearch<>();
+        for (int key = -1; key <= 20_000; key += 7) {
+            int expected = binarySearch.lowerBound(list, key);
+            assertEquals(expected < list.size() && list.get(expected) == key ? expected : -1,
+                    intSearch.search(list, key), "Key " + key);
+        }
+    }
+
+    /**
+     * Tests that barrels sharing a volume are told apart by their natural ordering.
+     */
+    @Test
+    void testSearchBarrelsWithEqualVolumes() {
+        List<Barrel> barrels = new ArrayList<>(new BarrelGenerator().generate(10_000));
+        barrels.sort(Comparator.naturalOrder());
+        ExponentialSearch<Barrel> search = ExponentialSearch.forBarrels();
+
+        for (Barrel barrel : barrels.subList(0, 500)) {
+            int index = search.search(barrels, barrel);
+            assertTrue(index >= 0);
+            assertEquals(barrel, barrels.get(index));
+        }
+        assertEquals(-1, search.search(barrels, barrels.get(0).withVolume(49)));
+        assertThrows(IllegalArgumentException.class, () -> new ExponentialSearch<Integer>(null));
+    }
+}
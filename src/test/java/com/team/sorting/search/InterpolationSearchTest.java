@@ -0,0 +1,94 @@
+package com.team.sorting.search;
+
+import com.team.sorting.input.generator.BarrelGenerator;
+import com.team.sorting.model.Barrel;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link InterpolationSearch}.
+ */
+class InterpolationSearchTest {
+
+    /**
+     * Interpolation search instance for {@link Integer} elements.
+     */
+    private final InterpolationSearch<Integer> intSearch = new InterpolationSearch<>(Integer::intValue);
+
+    /**
+     * Tests found and missing elements, duplicates and the ends of the list.
+     */
+    @Test
+    void testSearchIntegers() {
+        List<Integer> list = Arrays.asList(1, 3, 3, 3, 5, 7, 100);
+        assertEquals(0, intSearch.search(list, 1));
+        assertEquals(6, intSearch.search(list, 100));
+        assertEquals(1, intSearch.search(list, 3));
+        assertEquals(-1, intSearch.search(list, 4));
+        assertEquals(-1, intSearch.search(list, 0));
+        assertEquals(-1, intSearch.search(list, 101));
+        assertEquals(-1, intSearch.search(Collections.emptyList(), 1));
+        assertEquals(0, intSearch.search(Collections.singletonList(5), 5));
+    }
+
+    /**
+     * Tests extreme keys, which must not overflow the interpolation.
+     */
+    @Test
+    void testExtremeKeys() {
+        List<Integer> list = Arrays.asList(Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE);
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(i, intSearch.search(list, list.get(i)));
+        }
+        assertEquals(-1, intSearch.search(list, 2));
+    }
+
+    /**
+     * Tests that searches on skewed keys match a binary search.
+     */
+    @Test
+    void testSkewedKeysMatchBinarySearch() {
+        Random random = new Random(3);
+        List<Integer> list = random.ints(10_000, 0, 30).map(i -> i * i * i * i).boxed().sorted()
+                .collect(Collectors.toList());
+        BinarySearch<Integer> binarySearch = new BinarySearch<>();
+        for (int key = -5; key < 900_000; key += 997) {
+            int expected = binarySearch.lowerBound(list, key);
+            int found = intSearch.search(list, key);
+            assertEquals(expected < list.size() && list.get(expected) == key ? expected : -1, found, "Key " + key);
+        }
+    }
+
+    /**
+     * Tests that every barrel of a sorted batch is found with few key reads, and missing barrels are not found.
+     */
+    @Test
+    void testSearchBarrels() {
+        List<Barrel> barrels = new ArrayList<>(new BarrelGenerator().generate(20_000));
+        barrels.sort(Comparator.naturalOrder());
+        AtomicInteger keyReads = new AtomicInteger();
+        InterpolationSearch<Barrel> search = new InterpolationSearch<>(barrel -> {
+            keyReads.incrementAndGet();
+            return barrel.getVolume();
+        });
+
+        for (int i = 0; i < barrels.size(); i += 37) {
+            int index = search.search(barrels, barrels.get(i));
+            assertTrue(index >= 0);
+            assertEquals(0, barrels.get(index).compareTo(barrels.get(i)));
+        }
+        assertTrue(keyReads.get() / (barrels.size() / 37) < 40, "Average key reads: " + keyReads.get() / (barrels.size() / 37));
+        assertEquals(-1, InterpolationSearch.forBarrels().search(barrels, barrels.get(0).withVolume(1001)));
+        assertThrows(IllegalArgumentException.class, () -> new InterpolationSearch<Integer>(null));
+    }
+}
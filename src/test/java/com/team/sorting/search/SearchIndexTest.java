@@ -0,0 +1,125 @@
+package com.team.sorting.search;
+
+import com.team.sorting.input.generator.AnimalGenerator;
+import com.team.sorting.input.generator.BarrelGenerator;
+import com.team.sorting.model.Animal;
+import com.team.sorting.model.Barrel;
+import com.team.sorting.sort.SortKey;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link SearchIndex}.
+ */
+class SearchIndexTest {
+
+    /**
+     * Tests bounds, lookups and counts on a small list with duplicates and missing keys.
+     */
+    @Test
+    void testSmallList() {
+        SearchIndex<Long> index = new SearchIndex<>(Arrays.asList(1L, 3L, 3L, 3L, 5L, 7L), Long::longValue);
+
+        assertEquals(6, index.size());
+        assertEquals(1, index.lowerBound(3));
+        assertEquals(4, index.upperBound(3));
+        assertEquals(1, index.indexOf(3));
+        assertEquals(3, index.count(3));
+        assertEquals(-1, index.indexOf(4));
+        assertEquals(0, index.lowerBound(Long.MIN_VALUE));
+        assertEquals(6, index.lowerBound(8));
+        assertEquals(5, index.indexOf(Long.valueOf(7)));
+    }
+
+    /**
+     * Tests an empty index and an index of one element.
+     */
+    @Test
+    void testEmptyAndSingleton() {
+        SearchIndex<Long> empty = new SearchIndex<>(Collections.emptyList(), Long::longValue);
+        assertEquals(0, empty.lowerBound(1));
+        assertEquals(-1, empty.indexOf(1));
+
+        SearchIndex<Long> single = new SearchIndex<>(Collections.singletonList(5L), Long::longValue);
+        assertEquals(0, single.indexOf(5));
+        assertEquals(1, single.upperBound(5));
+        assertEquals(-1, single.indexOf(6));
+    }
+
+    /**
+     * Tests that the index agrees with binary search on every list length up to a few tree levels and on
+     * random keys with duplicates.
+     */
+    @Test
+    void testMatchesBinarySearch() {
+        BinarySearch<Long> binarySearch = new BinarySearch<>();
+        Random random = new Random(13);
+        for (int length = 0; length < 70; length++) {
+            checkAgainstBinarySearch(binarySearch, random.longs(length, 0, 40).boxed().sorted()
+                    .collect(Collectors.toList()), -1, 41);
+        }
+        checkAgainstBinarySearch(binarySearch, random.longs(100_000, -50_000, 50_000).boxed().sorted()
+                .collect(Collectors.toList()), -50_001, 50_001);
+    }
+
+    /**
+     * Tests looking up every barrel of a sorted batch by its full natural key.
+     */
+    @Test
+    void testBarrelIndex() {
+        List<Barrel> barrels = new ArrayList<>(new BarrelGenerator().generate(20_000));
+        barrels.sort(Comparator.naturalOrder());
+        SearchIndex<Barrel> index = SearchIndex.forBarrels(barrels);
+
+        for (Barrel barrel : barrels) {
+            assertEquals(barrels.indexOf(barrel), index.indexOf(barrel));
+        }
+        assertEquals(-1, index.indexOf(barrels.get(0).withVolume(1_001)));
+    }
+
+    /**
+     * Tests counting animals by their natural key.
+     */
+    @Test
+    void testAnimalIndex() {
+        List<Animal> animals = new ArrayList<>(new AnimalGenerator().generate(5_000));
+        animals.sort(Comparator.naturalOrder());
+        SearchIndex<Animal> index = SearchIndex.forAnimals(animals);
+
+        for (Animal animal : animals.subList(0, 50)) {
+            int first = index.indexOf(animal);
+            assertEquals(animals.indexOf(animal), first);
+            assertEquals(animals.lastIndexOf(animal) + 1 - first,
+                    index.count(SortKey.animal().extract(animal)));
+        }
+    }
+
+    /**
+     * Tests rejection of invalid arguments and unsorted lists.
+     */
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new SearchIndex<Long>(null, Long::longValue));
+        assertThrows(IllegalArgumentException.class, () -> new SearchIndex<Long>(List.of(1L), null));
+        assertThrows(IllegalArgumentException.class, () -> new SearchIndex<>(Arrays.asList(1L, 3L, 2L), Long::longValue));
+    }
+
+    private static void checkAgainstBinarySearch(BinarySearch<Long> binarySearch, List<Long> list, long from, long to) {
+        SearchIndex<Long> index = new SearchIndex<>(list, Long::longValue);
+        for (long key = from; key <= to; key++) {
+            int lower = binarySearch.lowerBound(list, key);
+            assertEquals(lower, index.lowerBound(key), "Lower bound of " + key + " in " + list.size());
+            assertEquals(binarySearch.upperBound(list, key), index.upperBound(key), "Upper bound of " + key);
+            assertEquals(lower < list.size() && list.get(lower) == key ? lower : -1, index.indexOf(key), "Key " + key);
+        }
+    }
+}
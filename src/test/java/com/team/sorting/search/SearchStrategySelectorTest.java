@@ -0,0 +1,72 @@
+package com.team.sorting.search;
+
+import com.team.sorting.input.generator.BarrelGenerator;
+import com.team.sorting.model.Barrel;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link SearchStrategySelector}.
+ */
+class SearchStrategySelectorTest {
+
+    /**
+     * Tests that evenly spread keys select interpolation search.
+     */
+    @Test
+    void testUniformKeysSelectInterpolation() {
+        List<Barrel> barrels = new ArrayList<>(new BarrelGenerator().generate(20_000));
+        barrels.sort(Comparator.naturalOrder());
+        SearchStrategySelector<Barrel> selector = SearchStrategySelector.forBarrels();
+
+        assertEquals(SearchStrategySelector.Strategy.INTERPOLATION, selector.select(barrels));
+        assertInstanceOf(InterpolationSearch.class, selector.engine(SearchStrategySelector.Strategy.INTERPOLATION));
+        for (Barrel barrel : barrels.subList(0, 200)) {
+            assertEquals(barrel, barrels.get(selector.search(barrels, barrel)));
+        }
+    }
+
+    /**
+     * Tests that skewed, constant and short key sequences select exponential search.
+     */
+    @Test
+    void testSkewedKeysSelectExponential() {
+        SearchStrategySelector<Integer> selector = new SearchStrategySelector<>(Integer::intValue);
+        List<Integer> skewed = IntStream.range(0, 10_000).map(i -> i * i).boxed().collect(Collectors.toList());
+        List<Integer> constant = IntStream.range(0, 10_000).map(i -> 7).boxed().collect(Collectors.toList());
+        List<Integer> shortList = IntStream.range(0, 10).boxed().collect(Collectors.toList());
+
+        assertEquals(SearchStrategySelector.Strategy.EXPONENTIAL, selector.select(skewed));
+        assertEquals(SearchStrategySelector.Strategy.EXPONENTIAL, selector.select(constant));
+        assertEquals(SearchStrategySelector.Strategy.EXPONENTIAL, selector.select(shortList));
+        assertEquals(SearchStrategySelector.Strategy.INTERPOLATION,
+                selector.select(IntStream.range(0, 10_000).boxed().collect(Collectors.toList())));
+        assertEquals(100, selector.search(skewed, 100 * 100));
+        assertEquals(-1, selector.search(skewed, 101));
+        assertEquals(0, selector.search(constant, 7));
+    }
+
+    /**
+     * Tests that both strategies give the same results on random keys.
+     */
+    @Test
+    void testStrategiesAgree() {
+        SearchStrategySelector<Integer> selector = new SearchStrategySelector<>(Integer::intValue);
+        List<Integer> list = new Random(9).ints(3_000, 0, 6_000).boxed().sorted().collect(Collectors.toList());
+        Search<Integer> interpolation = selector.engine(SearchStrategySelector.Strategy.INTERPOLATION);
+        Search<Integer> exponential = selector.engine(SearchStrategySelector.Strategy.EXPONENTIAL);
+
+        for (int key = 0; key < 6_000; key++) {
+            assertEquals(exponential.search(list, key), interpolation.search(list, key), "Key " + key);
+        }
+        assertThrows(IllegalArgumentException.class, () -> new SearchStrategySelector<Integer>(null));
+    }
+}
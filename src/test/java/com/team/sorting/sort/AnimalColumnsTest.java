@@ -0,0 +1,76 @@
+package com.team.sorting.sort;
+
+import com.team.sorting.input.generator.AnimalGenerator;
+import com.team.sorting.model.Animal;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link AnimalColumns} class.
+ */
+class AnimalColumnsTest {
+
+    /**
+     * Tests that stored animals are read back with the same fields, including {@code null} enums.
+     */
+    @Test
+    void testRoundTrip() {
+        List<Animal> animals = new ArrayList<>(new AnimalGenerator().generate(1_000));
+        animals.add(new Animal.Builder().eatsBun(true).build());
+
+        AnimalColumns columns = new AnimalColumns(1);
+        columns.addAll(animals);
+
+        assertEquals(animals.size(), columns.size());
+        for (int i = 0; i < animals.size(); i++) {
+            Animal expected = animals.get(i);
+            Animal actual = columns.get(i);
+            assertEquals(expected.getSpecies(), actual.getSpecies());
+            assertEquals(expected.getEyeColor(), actual.getEyeColor());
+            assertEquals(expected.getFur(), actual.getFur());
+            assertEquals(expected.getEatsBun(), actual.getEatsBun());
+        }
+    }
+
+    /**
+     * Tests that sorting the columns gives the natural order of the animals, keeping equal animals in input order.
+     */
+    @Test
+    void testSortedMatchesNaturalOrder() {
+        List<Animal> animals = distinctAnimals(20_000);
+        List<Animal> expected = new TimSort<Animal>().sort(animals, Comparator.naturalOrder());
+
+        AnimalColumns columns = new AnimalColumns();
+        columns.addAll(animals);
+        int[] order = columns.sortedOrder();
+        List<Animal> sorted = columns.sorted().toList();
+
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), animals.get(order[i]), "Row at index " + i);
+            assertEquals(0, expected.get(i).compareTo(sorted.get(i)), "Animal at index " + i);
+            assertEquals(expected.get(i).getEatsBun(), sorted.get(i).getEatsBun(), "Animal at index " + i);
+        }
+    }
+
+    /**
+     * Generates animals and rebuilds each one, so that equal animals are distinct objects: the generator
+     * returns one shared instance per value, which would make identity checks of stability vacuous.
+     */
+    private static List<Animal> distinctAnimals(int size) {
+        List<Animal> animals = new ArrayList<>(size);
+        for (Animal animal : new AnimalGenerator().generate(size)) {
+            animals.add(new Animal.Builder()
+                    .species(animal.getSpecies())
+                    .eyeColor(animal.getEyeColor())
+                    .fur(animal.getFur())
+                    .eatsBun(animal.getEatsBun())
+                    .build());
+        }
+        return animals;
+    }
+}
@@ -0,0 +1,103 @@
+package com.team.sorting.sort;
+
+import com.team.sorting.input.generator.BarrelGenerator;
+import com.team.sorting.model.Barrel;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link BarrelColumns} class.
+ */
+class BarrelColumnsTest {
+
+    /**
+     * Tests that stored barrels are read back with the same fields, including {@code null} materials
+     * and extreme volumes, across column growth.
+     */
+    @Test
+    void testRoundTrip() {
+        List<Barrel> barrels = new ArrayList<>(new BarrelGenerator().generate(1_000));
+        barrels.add(new Barrel.Builder().volume(Integer.MIN_VALUE).build());
+        barrels.add(new Barrel.Builder().volume(Integer.MAX_VALUE)
+                .storedMaterial(Barrel.StoredMaterial.values()[0]).build());
+
+        BarrelColumns columns = new BarrelColumns(0);
+        columns.addAll(barrels);
+
+        assertEquals(barrels.size(), columns.size());
+        for (int i = 0; i < barrels.size(); i++) {
+            assertEquals(barrels.get(i).toString(), columns.get(i).toString(), "Barrel at index " + i);
+            assertEquals(barrels.get(i).getVolume(), columns.volume(i));
+        }
+    }
+
+    /**
+     * Tests that sorting the columns gives the natural order of the barrels, keeping equal barrels in input order.
+     */
+    @Test
+    void testSortedMatchesNaturalOrder() {
+        List<Barrel> barrels = new BarrelGenerator().generate(20_000);
+        List<Barrel> expected = new TimSort<Barrel>().sort(barrels, Comparator.naturalOrder());
+
+        BarrelColumns columns = new BarrelColumns();
+        columns.addAll(barrels);
+        int[] order = columns.sortedOrder();
+        List<Barrel> sorted = columns.sorted().toList();
+
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), barrels.get(order[i]), "Row at index " + i);
+            assertEquals(expected.get(i).toString(), sorted.get(i).toString(), "Barrel at index " + i);
+        }
+    }
+
+    /**
+     * Tests that permuting copies the rows and leaves the original columns unchanged.
+     */
+    @Test
+    void testPermute() {
+        BarrelColumns columns = new BarrelColumns();
+        for (int volume = 0; volume < 5; volume++) {
+            columns.add(new Barrel.Builder().volume(volume).build());
+        }
+
+        BarrelColumns permuted = columns.permute(new int[]{4, 0, 2});
+
+        assertEquals(3, permuted.size());
+        assertEquals(4, permuted.volume(0));
+        assertEquals(0, permuted.volume(1));
+        assertEquals(2, permuted.volume(2));
+        assertEquals(5, columns.size());
+        assertEquals(4, columns.volume(4));
+    }
+
+    /**
+     * Tests rejection of invalid arguments and out-of-range rows.
+     */
+    @Test
+    void testInvalidArguments() {
+        BarrelColumns columns = new BarrelColumns();
+        columns.add(new Barrel.Builder().volume(1).build());
+
+        assertThrows(IllegalArgumentException.class, () -> new BarrelColumns(-1));
+        assertThrows(IllegalArgumentException.class, () -> new BarrelColumns(EntityColumns.MAX_CAPACITY + 1));
+        assertThrows(IllegalArgumentException.class, () -> columns.add(null));
+        assertThrows(IndexOutOfBoundsException.class, () -> columns.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> columns.volume(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> columns.permute(new int[]{1}));
+    }
+
+    /**
+     * Tests that empty columns sort to empty columns.
+     */
+    @Test
+    void testEmpty() {
+        BarrelColumns columns = new BarrelColumns();
+        assertEquals(0, columns.sortedOrder().length);
+        assertTrue(columns.sorted().toList().isEmpty());
+    }
+}
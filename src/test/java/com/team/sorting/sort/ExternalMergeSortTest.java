@@ -0,0 +1,181 @@
+package com.team.sorting.sort;
+
+import com.team.sorting.input.generator.BarrelGenerator;
+import com.team.sorting.input.loader.BarrelLoader;
+import com.team.sorting.model.Barrel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link ExternalMergeSort} class.
+ */
+class ExternalMergeSortTest {
+
+    /** Codec of integers used to keep the tests independent of the entity codecs. */
+    private static final RecordCodec<Integer> INT_CODEC = new RecordCodec<>() {
+        @Override
+        public void write(DataOutput output, Integer element) throws IOException {
+            output.writeInt(element);
+        }
+
+        @Override
+        public Integer read(DataInput input) throws IOException {
+            return input.readInt();
+        }
+    };
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Tests that invalid configurations and a null comparator are rejected.
+     */
+    @Test
+    void testInvalidArgumentsThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new ExternalMergeSort<Integer>(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ExternalMergeSort<>(INT_CODEC, null, 10, tempDir));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ExternalMergeSort<>(INT_CODEC, new TimSort<>(), 0, tempDir));
+        ExternalMergeSort<Integer> sorter = new ExternalMergeSort<>(INT_CODEC);
+        assertThrows(IllegalArgumentException.class, () -> sorter.sort(List.of(1, 2).iterator(), null));
+    }
+
+    /**
+     * Tests that an input fitting into one chunk is sorted without spilling any run file.
+     */
+    @Test
+    void testSingleChunkDoesNotSpill() throws IOException {
+        ExternalMergeSort<Integer> sorter = new ExternalMergeSort<>(INT_CODEC, new TimSort<>(), 100, tempDir);
+        try (SortedRuns<Integer> sorted = sorter.sort(List.of(3, 1, 2).iterator(), Comparator.naturalOrder())) {
+            assertEquals(List.of(1, 2, 3), drain(sorted));
+            assertEquals(0, countFiles(), "No run file should be written for a single chunk");
+        }
+    }
+
+    /**
+     * Tests that an empty input gives an empty result.
+     */
+    @Test
+    void testEmptyInput() {
+        ExternalMergeSort<Integer> sorter = new ExternalMergeSort<>(INT_CODEC, new TimSort<>(), 4, tempDir);
+        try (SortedRuns<Integer> sorted = sorter.sort(List.<Integer>of().iterator(), Comparator.naturalOrder())) {
+            assertFalse(sorted.hasNext());
+        }
+    }
+
+    /**
+     * Tests sorting with several spilled runs and that closing the result deletes them.
+     */
+    @Test
+    void testSpilledRunsAreMergedAndDeleted() throws IOException {
+        List<Integer> input = randomIntegers(1_000, 42);
+        ExternalMergeSort<Integer> sorter = new ExternalMergeSort<>(INT_CODEC, new ParallelMergeSort<>(), 64, tempDir);
+
+        try (SortedRuns<Integer> sorted = sorter.sort(input.iterator(), Comparator.naturalOrder())) {
+            assertEquals(16, countFiles(), "Every full or partial chunk should be spilled as one run");
+            List<Integer> expected = new ArrayList<>(input);
+            expected.sort(Comparator.naturalOrder());
+            assertEquals(expected, drain(sorted));
+        }
+        assertEquals(0, countFiles(), "Closing the result should delete the run files");
+    }
+
+    /**
+     * Tests that more runs than can be merged at once are merged in several passes.
+     */
+    @Test
+    void testMultiPassMerge() throws IOException {
+        int runs = ExternalMergeSort.MAX_MERGE_WIDTH * 3 + 5;
+        List<Integer> input = randomIntegers(runs * 10, 7);
+        ExternalMergeSort<Integer> sorter = new ExternalMergeSort<>(INT_CODEC, new TimSort<>(), 10, tempDir);
+
+        try (SortedRuns<Integer> sorted = sorter.sort(input.iterator(), Comparator.reverseOrder())) {
+            assertTrue(countFiles() <= ExternalMergeSort.MAX_MERGE_WIDTH,
+                    "At most one merge width of runs should be left open");
+            List<Integer> expected = new ArrayList<>(input);
+            expected.sort(Comparator.reverseOrder());
+            assertEquals(expected, drain(sorted));
+        }
+        assertEquals(0, countFiles(), "Closing the result should delete the run files");
+    }
+
+    /**
+     * Tests that elements with equal keys keep their input order across runs and merge passes.
+     */
+    @Test
+    void testStability() {
+        int size = 5_000;
+        List<Integer> input = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            input.add(i);
+        }
+        Comparator<Integer> byLastDigit = Comparator.comparingInt(value -> value % 10);
+        ExternalMergeSort<Integer> sorter = new ExternalMergeSort<>(INT_CODEC, new TimSort<>(), 7, tempDir);
+
+        try (SortedRuns<Integer> sorted = sorter.sort(input.iterator(), byLastDigit)) {
+            List<Integer> expected = new ArrayList<>(input);
+            expected.sort(byLastDigit);
+            assertEquals(expected, drain(sorted), "Equal elements should keep their input order");
+        }
+    }
+
+    /**
+     * Tests the file pipeline: a barrel file is streamed, sorted externally and recorded to an output file.
+     */
+    @Test
+    void testSortFile() throws IOException {
+        List<Barrel> barrels = new BarrelGenerator().generate(500);
+        Path input = tempDir.resolve("barrels.txt");
+        Files.write(input, barrels.stream()
+                .map(barrel -> barrel.getVolume() + "," + barrel.getStoredMaterial() + "," + barrel.getMaterial())
+                .toList());
+        Path output = tempDir.resolve("sorted.txt");
+        Path runDir = Files.createDirectory(tempDir.resolve("runs"));
+
+        ExternalMergeSort<Barrel> sorter =
+                new ExternalMergeSort<>(RecordCodec.barrel(), new ParallelMergeSort<>(), 50, runDir);
+        sorter.sortFile(new BarrelLoader(), input.toString(), Comparator.naturalOrder(), output.toString());
+
+        List<Barrel> expected = new ArrayList<>(barrels);
+        expected.sort(Comparator.naturalOrder());
+        List<String> lines = Files.readAllLines(output);
+        assertEquals(barrels.size() + 1, lines.size(), "Every barrel and a trailing blank line should be written");
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).toString(), lines.get(i));
+        }
+        try (Stream<Path> left = Files.list(runDir)) {
+            assertEquals(0, left.count(), "No run file should be left behind");
+        }
+    }
+
+    private long countFiles() throws IOException {
+        try (Stream<Path> files = Files.list(tempDir)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("sort-run-")).count();
+        }
+    }
+
+    private static <E> List<E> drain(SortedRuns<E> sorted) {
+        List<E> result = new ArrayList<>();
+        sorted.forEachRemaining(result::add);
+        return result;
+    }
+
+    private static List<Integer> randomIntegers(int size, long seed) {
+        return new Random(seed).ints(size, -1_000, 1_000).boxed().collect(Collectors.toList());
+    }
+}
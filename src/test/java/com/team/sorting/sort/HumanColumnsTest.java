@@ -0,0 +1,100 @@
+package com.team.sorting.sort;
+
+import com.team.sorting.input.generator.HumanGenerator;
+import com.team.sorting.model.Human;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link HumanColumns} class.
+ */
+class HumanColumnsTest {
+
+    /**
+     * Tests that stored humans are read back with the same fields and that repeated names are stored once.
+     */
+    @Test
+    void testRoundTripWithDictionary() {
+        List<Human> humans = new ArrayList<>(new HumanGenerator().generate(1_000));
+        humans.add(new Human.Builder().gender(Human.Gender.FEMALE).age(Integer.MIN_VALUE).build());
+
+        HumanColumns columns = new HumanColumns();
+        columns.addAll(humans);
+
+        assertEquals(humans.size(), columns.size());
+        assertEquals(humans.stream().map(Human::getLastName).filter(name -> name != null).distinct().count(),
+                columns.distinctLastNames());
+        for (int i = 0; i < humans.size(); i++) {
+            assertEquals(humans.get(i).toString(), columns.get(i).toString(), "Human at index " + i);
+            assertEquals(humans.get(i).getLastName(), columns.lastName(i));
+            assertEquals(humans.get(i).getAge(), columns.age(i));
+        }
+    }
+
+    /**
+     * Tests that sorting the columns gives the natural order of the humans, with {@code null} names first
+     * and equal humans in input order.
+     */
+    @Test
+    void testSortedMatchesNaturalOrder() {
+        List<Human> humans = new ArrayList<>(new HumanGenerator().generate(20_000));
+        humans.add(new Human.Builder().gender(Human.Gender.MALE).age(30).build());
+        humans.add(new Human.Builder().gender(Human.Gender.MALE).age(-5).lastName("Aa").build());
+        humans.add(new Human.Builder().gender(Human.Gender.FEMALE).age(Integer.MAX_VALUE).lastName("").build());
+        List<Human> expected = new TimSort<Human>().sort(humans, Comparator.naturalOrder());
+
+        HumanColumns columns = new HumanColumns();
+        columns.addAll(humans);
+        int[] order = columns.sortedOrder();
+        List<Human> sorted = columns.sorted().toList();
+
+        assertNull(sorted.get(0).getLastName());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), humans.get(order[i]), "Row at index " + i);
+            assertEquals(expected.get(i).toString(), sorted.get(i).toString(), "Human at index " + i);
+        }
+    }
+
+    /**
+     * Tests that the two-word key, used from many distinct names on, orders the rows like {@link Human#compareTo}.
+     * The threshold is lowered so the key is exercised without millions of names.
+     */
+    @Test
+    void testTwoWordKeyMatchesNaturalOrder() {
+        List<Human> humans = new ArrayList<>(new HumanGenerator().generate(5_000));
+        humans.add(new Human.Builder().gender(Human.Gender.MALE).age(30).build());
+        humans.add(new Human.Builder().gender(Human.Gender.FEMALE).age(Integer.MIN_VALUE).lastName("Zz").build());
+        humans.add(new Human.Builder().gender(Human.Gender.FEMALE).age(Integer.MAX_VALUE).lastName("Zz").build());
+        List<Human> expected = new TimSort<Human>().sort(humans, Comparator.naturalOrder());
+
+        HumanColumns columns = new HumanColumns(16, 2);
+        columns.addAll(humans);
+        assertEquals(2, columns.keyWords(), "Columns with more names than the threshold should use two words");
+        int[] order = columns.sortedOrder();
+
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), humans.get(order[i]), "Row at index " + i);
+        }
+        assertEquals(2, columns.sorted().keyWords(), "Permuted columns should keep the threshold");
+    }
+
+    /**
+     * Tests that names added after sorting are ranked correctly in the next sort.
+     */
+    @Test
+    void testNamesAddedAfterSorting() {
+        HumanColumns columns = new HumanColumns();
+        columns.add(new Human.Builder().gender(Human.Gender.MALE).age(1).lastName("Petrov").build());
+        columns.add(new Human.Builder().gender(Human.Gender.MALE).age(2).lastName("Ivanov").build());
+        assertArrayEquals(new int[]{1, 0}, columns.sortedOrder());
+
+        columns.add(new Human.Builder().gender(Human.Gender.MALE).age(3).lastName("Abramov").build());
+        assertArrayEquals(new int[]{2, 1, 0}, columns.sortedOrder());
+        assertEquals("Abramov", columns.sorted().lastName(0));
+    }
+}
@@ -2,10 +2,14 @@ package com.team.sorting.sort;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -101,4 +105,30 @@ class InsertionSortTest {
 
         assertEquals(Arrays.asList(5, 4, 3, 1), sorted, "List should be sorted in descending order");
     }
+
+    /**
+     * Tests that one shared sorter instance produces correct results when used by several threads at once.
+     */
+    @Test
+    void testSharedSorterConcurrentCalls() throws Exception {
+        List<Integer> list = new ArrayList<>();
+        for (int i = 2_000; i > 0; i--) {
+            list.add(i);
+        }
+        List<Integer> expected = new ArrayList<>(list);
+        Collections.sort(expected);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<Integer>>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> sorter.sort(list, Comparator.naturalOrder())));
+            }
+            for (Future<List<Integer>> result : results) {
+                assertEquals(expected, result.get(), "Every concurrent call should return a sorted copy");
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
@@ -0,0 +1,90 @@
+package com.team.sorting.sort;
+
+import com.team.sorting.input.generator.BarrelGenerator;
+import com.team.sorting.input.generator.HumanGenerator;
+import com.team.sorting.model.Barrel;
+import com.team.sorting.model.Human;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link IntKeySort} class.
+ */
+class IntKeySortTest {
+
+    /**
+     * Tests the sort contract for trivial lists and null arguments.
+     */
+    @Test
+    void testSortContract() {
+        IntKeySort<Integer> sorter = new IntKeySort<>(Integer::intValue);
+        List<Integer> single = Collections.singletonList(1);
+        assertNull(sorter.sort(null, Comparator.naturalOrder()));
+        assertSame(single, sorter.sort(single, Comparator.naturalOrder()));
+        assertThrows(IllegalArgumentException.class, () -> sorter.sort(Arrays.asList(2, 1), null));
+        assertThrows(IllegalArgumentException.class, () -> new IntKeySort<Integer>(null));
+    }
+
+    /**
+     * Tests sorting integers of a narrow and a wide range without modifying the input.
+     */
+    @Test
+    void testSortIntegers() {
+        IntKeySort<Integer> sorter = new IntKeySort<>(Integer::intValue);
+        for (int bound : new int[]{100, Integer.MAX_VALUE}) {
+            List<Integer> input = new Random(bound).ints(10_000, -bound, bound).boxed().collect(Collectors.toList());
+            List<Integer> copy = new ArrayList<>(input);
+            List<Integer> expected = new ArrayList<>(input);
+            expected.sort(Comparator.naturalOrder());
+
+            assertEquals(expected, sorter.sort(input, Comparator.naturalOrder()));
+            assertEquals(copy, input, "Original list must remain unchanged");
+        }
+    }
+
+    /**
+     * Tests that barrels are ordered by volume and that the comparator only orders equal volumes.
+     */
+    @Test
+    void testBarrelsByVolumeMatchNaturalOrder() {
+        List<Barrel> barrels = new BarrelGenerator().generate(5_000);
+        List<Barrel> expected = new TimSort<Barrel>().sort(barrels, Comparator.naturalOrder());
+
+        List<Barrel> sorted = IntKeySort.forBarrelsByVolume().sort(barrels, Comparator.naturalOrder());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(0, expected.get(i).compareTo(sorted.get(i)), "Barrel at index " + i);
+        }
+    }
+
+    /**
+     * Tests that humans of equal age keep their input order and that the comparator is only called for ties.
+     */
+    @Test
+    void testHumansByAgeStable() {
+        List<Human> humans = new HumanGenerator().generate(5_000);
+        AtomicInteger comparisons = new AtomicInteger();
+        Comparator<Human> keepOrder = (a, b) -> {
+            comparisons.incrementAndGet();
+            return 0;
+        };
+
+        List<Human> sorted = IntKeySort.forHumansByAge().sort(humans, keepOrder);
+
+        List<Human> expected = new TimSort<Human>().sort(humans, Comparator.comparingInt(Human::getAge));
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), sorted.get(i), "Human at index " + i);
+        }
+        assertTrue(comparisons.get() < humans.size(),
+                "Equal-key groups are already in order, so ties need about one comparison per element");
+    }
+}
@@ -0,0 +1,105 @@
+package com.team.sorting.sort;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link KeyPermutation} utility class.
+ */
+class KeyPermutationTest {
+
+    /**
+     * Tests ordering signed single-word keys; equal keys keep ascending indices.
+     */
+    @Test
+    void testSortedOrderSingleWord() {
+        long[] keys = {5, -3, 5, Long.MIN_VALUE, 0, Long.MAX_VALUE, -3};
+        long[] copy = keys.clone();
+
+        assertArrayEquals(new int[]{3, 1, 6, 4, 0, 2, 5}, KeyPermutation.sortedOrder(keys));
+        assertArrayEquals(copy, keys, "Keys must not be modified");
+    }
+
+    /**
+     * Tests ordering random two-word keys against a comparator-based reference.
+     */
+    @Test
+    void testSortedOrderMultiWord() {
+        Random random = new Random(11);
+        int size = 10_000;
+        long[] keys = new long[size * 2];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextInt(20) - 10;
+        }
+
+        Integer[] expected = IntStream.range(0, size).boxed().toArray(Integer[]::new);
+        Arrays.sort(expected, Comparator.<Integer>comparingLong(i -> keys[i * 2])
+                .thenComparingLong(i -> keys[i * 2 + 1]));
+
+        int[] order = KeyPermutation.sortedOrder(keys, 2);
+        assertArrayEquals(Arrays.stream(expected).mapToInt(Integer::intValue).toArray(), order);
+    }
+
+    /**
+     * Tests ordering int keys of a small range, which uses a single counting pass.
+     */
+    @Test
+    void testSortedOrderIntCounting() {
+        int[] keys = {5, -3, 5, 0, 7, -3};
+        int[] copy = keys.clone();
+
+        assertArrayEquals(new int[]{1, 5, 3, 0, 2, 4}, KeyPermutation.sortedOrder(keys));
+        assertArrayEquals(copy, keys, "Keys must not be modified");
+        assertArrayEquals(new int[0], KeyPermutation.sortedOrder(new int[0]));
+    }
+
+    /**
+     * Tests ordering int keys of a wide range, which uses radix passes, against a stable reference.
+     */
+    @Test
+    void testSortedOrderIntRadix() {
+        Random random = new Random(13);
+        for (int bound : new int[]{1 << 20, Integer.MAX_VALUE}) {
+            int[] keys = new int[20_000];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = bound == Integer.MAX_VALUE ? random.nextInt() : random.nextInt(bound) - bound / 2;
+            }
+            keys[0] = bound == Integer.MAX_VALUE ? Integer.MIN_VALUE : keys[0];
+            keys[1] = keys[2];
+
+            Integer[] expected = IntStream.range(0, keys.length).boxed().toArray(Integer[]::new);
+            Arrays.sort(expected, Comparator.comparingInt(i -> keys[i]));
+
+            assertArrayEquals(Arrays.stream(expected).mapToInt(Integer::intValue).toArray(),
+                    KeyPermutation.sortedOrder(keys), "Keys bounded by " + bound);
+        }
+    }
+
+    /**
+     * Tests that a key width not matching the key array is rejected.
+     */
+    @Test
+    void testInvalidWidthThrows() {
+        assertThrows(IllegalArgumentException.class, () -> KeyPermutation.sortedOrder(new long[3], 2));
+        assertThrows(IllegalArgumentException.class, () -> KeyPermutation.sortedOrder(new long[3], 0));
+    }
+
+    /**
+     * Tests comparing keys and reordering elements by a permutation.
+     */
+    @Test
+    void testEqualKeysAndApply() {
+        long[] keys = {1, 2, 1, 2, 1, 3};
+        assertTrue(KeyPermutation.equalKeys(keys, 2, 0, 1));
+        assertFalse(KeyPermutation.equalKeys(keys, 2, 0, 2));
+
+        assertEquals(List.of("c", "a", "b"), KeyPermutation.apply(List.of("a", "b", "c"), new int[]{2, 0, 1}));
+    }
+}
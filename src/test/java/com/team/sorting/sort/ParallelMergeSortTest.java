@@ -0,0 +1,115 @@
+package com.team.sorting.sort;
+
+import com.team.sorting.input.generator.BarrelGenerator;
+import com.team.sorting.model.Barrel;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link ParallelMergeSort} class.
+ * These tests verify sorting behavior, immutability of input list,
+ * stability, exception handling, and pool/threshold configuration.
+ */
+class ParallelMergeSortTest {
+
+    private final ParallelMergeSort<Integer> sorter = new ParallelMergeSort<>();
+
+    /**
+     * Tests that sorting a null list returns null.
+     */
+    @Test
+    void testSortNullList() {
+        assertNull(sorter.sort(null, Comparator.naturalOrder()),
+                "Sorting null list should return null");
+    }
+
+    /**
+     * Tests that sorting an empty or single-element list returns the same list.
+     */
+    @Test
+    void testSortTrivialLists() {
+        List<Integer> empty = Collections.emptyList();
+        List<Integer> single = Collections.singletonList(42);
+        assertSame(empty, sorter.sort(empty, Comparator.naturalOrder()));
+        assertSame(single, sorter.sort(single, Comparator.naturalOrder()));
+    }
+
+    /**
+     * Tests that sorting with a null comparator throws IllegalArgumentException.
+     */
+    @Test
+    void testSortNullComparatorThrows() {
+        List<Integer> list = Arrays.asList(3, 1, 2);
+        assertThrows(IllegalArgumentException.class, () -> sorter.sort(list, null));
+    }
+
+    /**
+     * Tests that invalid constructor arguments are rejected.
+     */
+    @Test
+    void testInvalidConfigurationThrows() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelMergeSort<Integer>(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ParallelMergeSort<Integer>(ForkJoinPool.commonPool(), 0));
+    }
+
+    /**
+     * Tests sorting a small list in both directions without modifying the input.
+     */
+    @Test
+    void testSortSmallList() {
+        List<Integer> list = Arrays.asList(5, 2, 9, 1, 7);
+
+        assertEquals(Arrays.asList(1, 2, 5, 7, 9), sorter.sort(list, Comparator.naturalOrder()));
+        assertEquals(Arrays.asList(9, 7, 5, 2, 1), sorter.sort(list, Comparator.reverseOrder()));
+        assertEquals(Arrays.asList(5, 2, 9, 1, 7), list, "Original list must remain unchanged");
+    }
+
+    /**
+     * Tests that a large random list is sorted the same way as {@link List#sort(Comparator)}
+     * on a dedicated pool with a small threshold, so that many tasks are forked.
+     */
+    @Test
+    void testSortLargeListOnCustomPool() {
+        Random random = new Random(42);
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            list.add(random.nextInt(1_000));
+        }
+        List<Integer> expected = new ArrayList<>(list);
+        expected.sort(Comparator.naturalOrder());
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<Integer> sorted = new ParallelMergeSort<Integer>(pool, 4).sort(list, Comparator.naturalOrder());
+            assertEquals(expected, sorted);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Tests that barrels with equal volumes keep their input order.
+     */
+    @Test
+    void testSortIsStable() {
+        List<Barrel> barrels = new BarrelGenerator().generate(20_000);
+        List<Barrel> sorted = new ParallelMergeSort<Barrel>()
+                .sort(barrels, Comparator.comparingInt(Barrel::getVolume));
+
+        List<Barrel> expected = new ArrayList<>(barrels);
+        expected.sort(Comparator.comparingInt(Barrel::getVolume));
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), sorted.get(i), "Equal barrels must keep their input order");
+        }
+    }
+}
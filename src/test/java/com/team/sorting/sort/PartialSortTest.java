@@ -0,0 +1,140 @@
+package com.team.sorting.sort;
+
+import com.team.sorting.input.generator.BarrelGenerator;
+import com.team.sorting.model.Barrel;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link PartialSort} class and the partial sort methods of {@link Sort}.
+ */
+class PartialSortTest {
+
+    /**
+     * Tests the handling of null lists, invalid arguments and {@code k} outside the list size.
+     */
+    @Test
+    void testArguments() {
+        List<Integer> list = Arrays.asList(3, 1, 2);
+        assertNull(PartialSort.smallest(null, 3, Comparator.<Integer>naturalOrder()));
+        assertThrows(IllegalArgumentException.class, () -> PartialSort.smallest(list, -1, Comparator.naturalOrder()));
+        assertThrows(IllegalArgumentException.class, () -> PartialSort.smallest(list, 1, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> PartialSort.smallestParallel(list, 1, Comparator.naturalOrder(), null));
+        assertEquals(List.of(), PartialSort.smallest(list, 0, Comparator.naturalOrder()));
+        assertEquals(List.of(1, 2, 3), PartialSort.smallest(list, 10, Comparator.naturalOrder()));
+        assertEquals(Arrays.asList(3, 1, 2), list, "Original list must remain unchanged");
+    }
+
+    /**
+     * Tests that the sequential and parallel versions return the prefix of a full sort for various {@code k}.
+     */
+    @Test
+    void testMatchesFullSort() {
+        List<Integer> list = randomIntegers(100_000, 1_000, 5);
+        List<Integer> sorted = new ArrayList<>(list);
+        sorted.sort(Comparator.naturalOrder());
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int k : new int[]{1, 7, 100, 5_000, 100_000}) {
+                assertEquals(sorted.subList(0, k), PartialSort.smallest(list, k, Comparator.naturalOrder()));
+                assertEquals(sorted.subList(0, k),
+                        PartialSort.smallestParallel(list, k, Comparator.naturalOrder(), pool));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Tests that equal elements are selected and returned in input order, like a stable full sort.
+     */
+    @Test
+    void testTiesKeepInputOrder() {
+        int size = 50_000;
+        List<int[]> list = new ArrayList<>(size);
+        Random random = new Random(11);
+        for (int i = 0; i < size; i++) {
+            list.add(new int[]{random.nextInt(50), i});
+        }
+        Comparator<int[]> byKey = Comparator.comparingInt(pair -> pair[0]);
+        List<int[]> expected = new TimSort<int[]>().sort(list, byKey).subList(0, 3_000);
+
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            assertEquals(expected, PartialSort.smallest(list, 3_000, byKey));
+            assertEquals(expected, PartialSort.smallestParallel(list, 3_000, byKey, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Tests that the largest elements are returned in descending order, through {@link Sort#topK}.
+     */
+    @Test
+    void testTopKLargestBarrels() {
+        List<Barrel> barrels = new BarrelGenerator().generate(20_000);
+        Comparator<Barrel> byVolume = Comparator.comparingInt(Barrel::getVolume);
+        List<Integer> expected = barrels.stream()
+                .map(Barrel::getVolume)
+                .sorted(Comparator.reverseOrder())
+                .limit(100)
+                .collect(Collectors.toList());
+
+        List<Sort<Barrel>> sorters = List.of(new InsertionSort<>(), new ParallelMergeSort<>(), new SampleSort<>());
+        for (Sort<Barrel> sorter : sorters) {
+            List<Barrel> top = sorter.topK(barrels, 100, byVolume);
+            assertEquals(expected, top.stream().map(Barrel::getVolume).collect(Collectors.toList()),
+                    sorter.getClass().getSimpleName() + " should return the 100 largest volumes");
+        }
+        assertThrows(IllegalArgumentException.class, () -> new TimSort<Barrel>().topK(barrels, 1, null));
+    }
+
+    /**
+     * Tests that a list without random access is handled by both versions.
+     */
+    @Test
+    void testLinkedList() {
+        List<Integer> list = new LinkedList<>(randomIntegers(PartialSort.SEQUENTIAL_THRESHOLD * 2, 100_000, 9));
+        List<Integer> sorted = new ArrayList<>(list);
+        sorted.sort(Comparator.naturalOrder());
+        assertEquals(sorted.subList(0, 10), PartialSort.smallest(list, 10, Comparator.naturalOrder()));
+        assertEquals(sorted.subList(0, 10),
+                new ParallelMergeSort<Integer>().partialSort(list, 10, Comparator.naturalOrder()));
+    }
+
+    /**
+     * Tests that selection makes {@code O(n log k)} comparisons: far fewer than a full sort for small {@code k}.
+     */
+    @Test
+    void testComparisonCount() {
+        int size = 200_000;
+        List<Integer> list = randomIntegers(size, Integer.MAX_VALUE, 3);
+        AtomicLong comparisons = new AtomicLong();
+        Comparator<Integer> counting = (a, b) -> {
+            comparisons.incrementAndGet();
+            return Integer.compare(a, b);
+        };
+
+        PartialSort.smallest(list, 10, counting);
+
+        assertTrue(comparisons.get() < 2L * size,
+                "Expected about one comparison per element for small k, but was " + comparisons.get());
+    }
+
+    private static List<Integer> randomIntegers(int size, int bound, long seed) {
+        return new Random(seed).ints(size, 0, bound).boxed().collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,111 @@
+package com.team.sorting.sort;
+
+import com.team.sorting.input.generator.BarrelGenerator;
+import com.team.sorting.model.Barrel;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link PartitionedFieldSort} class.
+ */
+class PartitionedFieldSortTest {
+
+    private final PartitionedFieldSort<Integer> evenSorter = PartitionedFieldSort.evenValues(Integer::intValue);
+
+    /**
+     * Tests that null, empty and single-element lists are returned as they are.
+     */
+    @Test
+    void testSortTrivialLists() {
+        List<Integer> empty = Collections.emptyList();
+        assertNull(evenSorter.sort(null, Comparator.naturalOrder()));
+        assertSame(empty, evenSorter.sort(empty, Comparator.naturalOrder()));
+    }
+
+    /**
+     * Tests that null arguments are rejected.
+     */
+    @Test
+    void testNullArgumentsThrow() {
+        assertThrows(IllegalArgumentException.class, () -> evenSorter.sort(Arrays.asList(2, 1), null));
+        assertThrows(IllegalArgumentException.class, () -> PartitionedFieldSort.evenValues(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new PartitionedFieldSort<Integer>(null, Integer::intValue, value -> true));
+    }
+
+    /**
+     * Tests that even values are sorted among their positions and odd values stay in place.
+     */
+    @Test
+    void testSortEvenValuesOnly() {
+        List<Integer> list = Arrays.asList(8, 3, 6, 5, 2, 7, 4, -2);
+
+        assertEquals(Arrays.asList(-2, 3, 2, 5, 4, 7, 6, 8), evenSorter.sort(list, Comparator.naturalOrder()));
+        assertEquals(Arrays.asList(8, 3, 6, 5, 2, 7, 4, -2), list, "Original list must remain unchanged");
+    }
+
+    /**
+     * Tests a custom selector and delegate.
+     */
+    @Test
+    void testCustomSelectorAndDelegate() {
+        PartitionedFieldSort<Integer> oddSorter =
+                new PartitionedFieldSort<>(new InsertionSort<>(), Integer::intValue, value -> (value & 1) != 0);
+        List<Integer> list = Arrays.asList(9, 2, 1, 4, 5);
+
+        assertEquals(Arrays.asList(1, 2, 5, 4, 9), oddSorter.sort(list, Comparator.naturalOrder()));
+    }
+
+    /**
+     * Tests that any delegate is used through {@link Sort#sortArray(Object[], Comparator)}, including a lambda
+     * relying on the default implementation.
+     */
+    @Test
+    void testLambdaDelegate() {
+        List<List<Integer>> sortedLists = new ArrayList<>();
+        Sort<Integer> delegate = (list, comparator) -> {
+            sortedLists.add(new ArrayList<>(list));
+            List<Integer> copy = new ArrayList<>(list);
+            copy.sort(comparator);
+            return copy;
+        };
+        PartitionedFieldSort<Integer> evenSorter = new PartitionedFieldSort<>(delegate, Integer::intValue,
+                value -> (value & 1) == 0);
+
+        assertEquals(Arrays.asList(2, 7, 4, 3, 6, 8), evenSorter.sort(Arrays.asList(8, 7, 6, 3, 2, 4),
+                Comparator.naturalOrder()));
+        assertEquals(List.of(List.of(8, 6, 2, 4)), sortedLists, "The delegate should sort only the even values");
+        assertThrows(IllegalArgumentException.class, () -> delegate.sortArray(null, Comparator.naturalOrder()));
+        assertThrows(IllegalArgumentException.class, () -> delegate.sortArray(new Integer[]{2, 1}, null));
+    }
+
+    /**
+     * Tests the even/odd split on generated barrels sorted by volume.
+     */
+    @Test
+    void testSortBarrelsByEvenVolume() {
+        List<Barrel> barrels = new BarrelGenerator().generate(10_000);
+        List<Barrel> sorted = PartitionedFieldSort.evenValues(Barrel::getVolume)
+                .sort(barrels, Comparator.comparingInt(Barrel::getVolume));
+
+        List<Integer> evenVolumes = new ArrayList<>();
+        for (int i = 0; i < barrels.size(); i++) {
+            int volume = sorted.get(i).getVolume();
+            if (volume % 2 != 0) {
+                assertSame(barrels.get(i), sorted.get(i), "Barrels with odd volume must stay in place");
+            } else {
+                evenVolumes.add(volume);
+            }
+        }
+        List<Integer> expected = new ArrayList<>(evenVolumes);
+        Collections.sort(expected);
+        assertEquals(expected, evenVolumes, "Barrels with even volume must be sorted by volume");
+    }
+}
@@ -0,0 +1,117 @@
+package com.team.sorting.sort;
+
+import com.team.sorting.input.generator.HumanGenerator;
+import com.team.sorting.model.Human;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link QuickSort} class.
+ * These tests verify sorting of random, duplicate-heavy and patterned input,
+ * in-place sorting and exception handling.
+ */
+class QuickSortTest {
+
+    private final QuickSort<Integer> sorter = new QuickSort<>();
+
+    /**
+     * Tests that null, empty and single-element lists are returned as they are.
+     */
+    @Test
+    void testSortTrivialLists() {
+        List<Integer> empty = Collections.emptyList();
+        List<Integer> single = Collections.singletonList(42);
+        assertNull(sorter.sort(null, Comparator.naturalOrder()));
+        assertSame(empty, sorter.sort(empty, Comparator.naturalOrder()));
+        assertSame(single, sorter.sort(single, Comparator.naturalOrder()));
+    }
+
+    /**
+     * Tests that sorting with a null comparator throws IllegalArgumentException.
+     */
+    @Test
+    void testSortNullComparatorThrows() {
+        List<Integer> list = Arrays.asList(3, 1, 2);
+        assertThrows(IllegalArgumentException.class, () -> sorter.sort(list, null));
+        assertThrows(IllegalArgumentException.class, () -> sorter.sortInPlace(list, null));
+    }
+
+    /**
+     * Tests sorting a small list without modifying the input.
+     */
+    @Test
+    void testSortSmallList() {
+        List<Integer> list = Arrays.asList(5, 2, 9, 1, 7);
+
+        assertEquals(Arrays.asList(9, 7, 5, 2, 1), sorter.sort(list, Comparator.reverseOrder()));
+        assertEquals(Arrays.asList(5, 2, 9, 1, 7), list, "Original list must remain unchanged");
+    }
+
+    /**
+     * Tests random, duplicate-heavy, presorted, reversed, organ-pipe and constant inputs.
+     */
+    @Test
+    void testSortPatterns() {
+        Random random = new Random(5);
+        int size = 30_000;
+        List<List<Integer>> inputs = new ArrayList<>();
+        List<Integer> randomValues = new ArrayList<>();
+        List<Integer> fewValues = new ArrayList<>();
+        List<Integer> ascending = new ArrayList<>();
+        List<Integer> organPipe = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            randomValues.add(random.nextInt());
+            fewValues.add(random.nextInt(3));
+            ascending.add(i);
+            organPipe.add(i < size / 2 ? i : size - i);
+        }
+        List<Integer> descending = new ArrayList<>(ascending);
+        Collections.reverse(descending);
+        inputs.add(randomValues);
+        inputs.add(fewValues);
+        inputs.add(ascending);
+        inputs.add(descending);
+        inputs.add(organPipe);
+        inputs.add(Collections.nCopies(size, 7));
+
+        for (List<Integer> input : inputs) {
+            List<Integer> expected = new ArrayList<>(input);
+            Collections.sort(expected);
+            assertEquals(expected, sorter.sort(input, Comparator.naturalOrder()));
+        }
+    }
+
+    /**
+     * Tests that sortInPlace reorders the given list itself.
+     */
+    @Test
+    void testSortInPlace() {
+        List<Human> humans = new ArrayList<>(new HumanGenerator().generate(5_000));
+        List<Human> expected = new ArrayList<>(humans);
+        expected.sort(Comparator.naturalOrder());
+
+        new QuickSort<Human>().sortInPlace(humans, Comparator.naturalOrder());
+        for (int i = 1; i < humans.size(); i++) {
+            assertTrue(humans.get(i - 1).compareTo(humans.get(i)) <= 0, "List should be sorted in place");
+        }
+        assertEquals(expected.size(), humans.size());
+        assertTrue(humans.containsAll(expected));
+    }
+
+    /**
+     * Tests that sortInPlace fails on unmodifiable lists.
+     */
+    @Test
+    void testSortInPlaceUnmodifiableThrows() {
+        List<Integer> list = List.of(3, 1, 2);
+        assertThrows(UnsupportedOperationException.class, () -> sorter.sortInPlace(list, Comparator.naturalOrder()));
+    }
+}
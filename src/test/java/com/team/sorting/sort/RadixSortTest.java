@@ -0,0 +1,111 @@
+package com.team.sorting.sort;
+
+import com.team.sorting.input.generator.AnimalGenerator;
+import com.team.sorting.input.generator.BarrelGenerator;
+import com.team.sorting.input.generator.HumanGenerator;
+import com.team.sorting.model.Animal;
+import com.team.sorting.model.Barrel;
+import com.team.sorting.model.Human;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link RadixSort} class.
+ * These tests verify ordering by key, handling of negative keys, tie-breaking
+ * with the comparator and the entity key factories.
+ */
+class RadixSortTest {
+
+    private final RadixSort<Long> sorter = new RadixSort<>(Long::longValue);
+
+    /**
+     * Tests that null, empty and single-element lists are returned as they are.
+     */
+    @Test
+    void testSortTrivialLists() {
+        List<Long> empty = Collections.emptyList();
+        List<Long> single = Collections.singletonList(42L);
+        assertNull(sorter.sort(null, Comparator.naturalOrder()));
+        assertSame(empty, sorter.sort(empty, Comparator.naturalOrder()));
+        assertSame(single, sorter.sort(single, Comparator.naturalOrder()));
+    }
+
+    /**
+     * Tests that a null comparator or key extractor is rejected.
+     */
+    @Test
+    void testNullArgumentsThrow() {
+        assertThrows(IllegalArgumentException.class, () -> sorter.sort(Arrays.asList(2L, 1L), null));
+        assertThrows(IllegalArgumentException.class, () -> new RadixSort<Long>(null));
+    }
+
+    /**
+     * Tests sorting random keys, including negative and extreme values, without modifying the input.
+     */
+    @Test
+    void testSortRandomSignedKeys() {
+        Random random = new Random(3);
+        List<Long> list = new ArrayList<>(List.of(Long.MIN_VALUE, Long.MAX_VALUE, 0L, -1L));
+        for (int i = 0; i < 20_000; i++) {
+            list.add(random.nextLong());
+        }
+        List<Long> original = new ArrayList<>(list);
+        List<Long> expected = new ArrayList<>(list);
+        Collections.sort(expected);
+
+        assertEquals(expected, sorter.sort(list, Comparator.naturalOrder()));
+        assertEquals(original, list, "Original list must remain unchanged");
+    }
+
+    /**
+     * Tests that the key defines the order and the comparator only breaks ties between equal keys.
+     */
+    @Test
+    void testComparatorBreaksTies() {
+        RadixSort<String> byLength = new RadixSort<>(String::length);
+        List<String> list = Arrays.asList("ccc", "b", "aa", "a", "bbb", "ab");
+
+        assertEquals(Arrays.asList("a", "b", "aa", "ab", "bbb", "ccc"),
+                byLength.sort(list, Comparator.naturalOrder()));
+        assertEquals(Arrays.asList("b", "a", "ab", "aa", "ccc", "bbb"),
+                byLength.sort(list, Comparator.reverseOrder()));
+    }
+
+    /**
+     * Tests that the animal and barrel keys reproduce the natural ordering.
+     */
+    @Test
+    void testEntityKeysMatchNaturalOrder() {
+        List<Animal> animals = new AnimalGenerator().generate(5_000);
+        List<Animal> expectedAnimals = new ArrayList<>(animals);
+        expectedAnimals.sort(Comparator.naturalOrder());
+        assertEquals(expectedAnimals, RadixSort.forAnimals().sort(animals, Comparator.naturalOrder()));
+
+        List<Barrel> barrels = new BarrelGenerator().generate(5_000);
+        List<Barrel> expectedBarrels = new ArrayList<>(barrels);
+        expectedBarrels.sort(Comparator.naturalOrder());
+        assertEquals(expectedBarrels, RadixSort.forBarrels().sort(barrels, Comparator.naturalOrder()));
+    }
+
+    /**
+     * Tests that humans are ordered by age and then by the given comparator.
+     */
+    @Test
+    void testHumansByAge() {
+        List<Human> humans = new HumanGenerator().generate(5_000);
+        Comparator<Human> byAgeThenNatural = Comparator.comparingInt(Human::getAge)
+                .thenComparing(Comparator.naturalOrder());
+        List<Human> expected = new ArrayList<>(humans);
+        expected.sort(byAgeThenNatural);
+
+        assertEquals(expected, RadixSort.forHumansByAge().sort(humans, Comparator.naturalOrder()));
+    }
+}
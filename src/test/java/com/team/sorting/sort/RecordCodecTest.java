@@ -0,0 +1,93 @@
+package com.team.sorting.sort;
+
+import com.team.sorting.input.generator.AnimalGenerator;
+import com.team.sorting.input.generator.BarrelGenerator;
+import com.team.sorting.input.generator.HumanGenerator;
+import com.team.sorting.model.Animal;
+import com.team.sorting.model.Barrel;
+import com.team.sorting.model.Human;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the entity codecs of {@link RecordCodec}.
+ */
+class RecordCodecTest {
+
+    /**
+     * Tests that generated animals survive a write/read roundtrip.
+     */
+    @Test
+    void testAnimalRoundtrip() throws IOException {
+        List<Animal> animals = new AnimalGenerator().generate(200);
+        List<Animal> decoded = roundtrip(RecordCodec.animal(), animals);
+        for (int i = 0; i < animals.size(); i++) {
+            assertEquals(0, animals.get(i).compareTo(decoded.get(i)), "Animal " + i + " should be unchanged");
+            assertEquals(animals.get(i).getEatsBun(), decoded.get(i).getEatsBun());
+        }
+    }
+
+    /**
+     * Tests that generated barrels survive a write/read roundtrip.
+     */
+    @Test
+    void testBarrelRoundtrip() throws IOException {
+        List<Barrel> barrels = new BarrelGenerator().generate(200);
+        List<Barrel> decoded = roundtrip(RecordCodec.barrel(), barrels);
+        for (int i = 0; i < barrels.size(); i++) {
+            assertEquals(0, barrels.get(i).compareTo(decoded.get(i)), "Barrel " + i + " should be unchanged");
+        }
+    }
+
+    /**
+     * Tests that humans survive a write/read roundtrip, including null fields.
+     */
+    @Test
+    void testHumanRoundtripWithNulls() throws IOException {
+        List<Human> humans = new ArrayList<>(new HumanGenerator().generate(200));
+        humans.add(new Human.Builder().age(7).build());
+        List<Human> decoded = roundtrip(RecordCodec.human(), humans);
+        for (int i = 0; i < humans.size(); i++) {
+            Human expected = humans.get(i);
+            Human actual = decoded.get(i);
+            assertEquals(expected.getLastName(), actual.getLastName());
+            assertEquals(expected.getGender(), actual.getGender());
+            assertEquals(expected.getAge(), actual.getAge());
+        }
+    }
+
+    /**
+     * Tests that an out-of-range enum code is reported as an I/O error.
+     */
+    @Test
+    void testInvalidEnumCodeThrows() {
+        byte[] data = {100, 0, 0, 0};
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(data));
+        assertThrows(IOException.class, () -> RecordCodec.animal().read(input));
+    }
+
+    private static <E> List<E> roundtrip(RecordCodec<E> codec, List<E> elements) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            for (E element : elements) {
+                codec.write(output, element);
+            }
+        }
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        List<E> decoded = new ArrayList<>();
+        for (int i = 0; i < elements.size(); i++) {
+            decoded.add(codec.read(input));
+        }
+        assertEquals(0, input.available(), "All written bytes should be read back");
+        return decoded;
+    }
+}
@@ -0,0 +1,111 @@
+package com.team.sorting.sort;
+
+import com.team.sorting.input.generator.AnimalGenerator;
+import com.team.sorting.model.Animal;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link SampleSort} class.
+ */
+class SampleSortTest {
+
+    private final SampleSort<Integer> sorter = new SampleSort<>();
+
+    /**
+     * Tests that null, empty and single-element lists are returned as they are.
+     */
+    @Test
+    void testSortTrivialLists() {
+        List<Integer> empty = Collections.emptyList();
+        List<Integer> single = Collections.singletonList(42);
+        assertNull(sorter.sort(null, Comparator.naturalOrder()));
+        assertSame(empty, sorter.sort(empty, Comparator.naturalOrder()));
+        assertSame(single, sorter.sort(single, Comparator.naturalOrder()));
+    }
+
+    /**
+     * Tests that a null comparator or pool is rejected.
+     */
+    @Test
+    void testNullArgumentsThrow() {
+        assertThrows(IllegalArgumentException.class, () -> sorter.sort(Arrays.asList(2, 1), null));
+        assertThrows(IllegalArgumentException.class, () -> new SampleSort<Integer>(null));
+    }
+
+    /**
+     * Tests sorting small lists, which are handled sequentially.
+     */
+    @Test
+    void testSortSmallList() {
+        List<Integer> list = Arrays.asList(5, 2, 9, 1, 7);
+
+        assertEquals(Arrays.asList(1, 2, 5, 7, 9), sorter.sort(list, Comparator.naturalOrder()));
+        assertEquals(Arrays.asList(5, 2, 9, 1, 7), list, "Original list must remain unchanged");
+    }
+
+    /**
+     * Tests sorting large random and duplicate-heavy lists on a dedicated pool.
+     */
+    @Test
+    void testSortLargeLists() {
+        Random random = new Random(9);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            SampleSort<Integer> parallelSorter = new SampleSort<>(pool);
+            for (int bound : new int[]{Integer.MAX_VALUE, 1_000, 2}) {
+                List<Integer> list = new ArrayList<>();
+                for (int i = 0; i < 200_000; i++) {
+                    list.add(random.nextInt(bound));
+                }
+                List<Integer> expected = new ArrayList<>(list);
+                Collections.sort(expected);
+
+                assertEquals(expected, parallelSorter.sort(list, Comparator.naturalOrder()));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Tests that animals equal by natural ordering keep their input order.
+     */
+    @Test
+    void testSortIsStable() {
+        List<Animal> animals = distinctAnimals(100_000);
+        List<Animal> sorted = new SampleSort<Animal>().sort(animals, Comparator.naturalOrder());
+
+        List<Animal> expected = new ArrayList<>(animals);
+        expected.sort(Comparator.naturalOrder());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), sorted.get(i), "Equal animals must keep their input order");
+        }
+    }
+
+    /**
+     * Generates animals and rebuilds each one, so that equal animals are distinct objects: the generator
+     * returns one shared instance per value, which would make identity checks of stability vacuous.
+     */
+    private static List<Animal> distinctAnimals(int size) {
+        List<Animal> animals = new ArrayList<>(size);
+        for (Animal animal : new AnimalGenerator().generate(size)) {
+            animals.add(new Animal.Builder()
+                    .species(animal.getSpecies())
+                    .eyeColor(animal.getEyeColor())
+                    .fur(animal.getFur())
+                    .eatsBun(animal.getEatsBun())
+                    .build());
+        }
+        return animals;
+    }
+}
@@ -0,0 +1,80 @@
+package com.team.sorting.sort;
+
+import com.team.sorting.input.generator.BarrelGenerator;
+import com.team.sorting.model.Barrel;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Manual benchmark comparing the sorting engines of this package on generated {@link Barrel} lists.
+ * <p>
+ * Not part of the unit test run. After {@code mvn test-compile} start it with
+ * {@code java -cp target/classes:target/test-classes com.team.sorting.sort.SortBenchmark [size]}.
+ * {@link InsertionSort} is quadratic, so it only runs on inputs of up to {@code INSERTION_SORT_LIMIT} elements.
+ */
+public final class SortBenchmark {
+
+    /** Largest input that {@link InsertionSort} is measured on. */
+    private static final int INSERTION_SORT_LIMIT = 50_000;
+
+    /** Number of unmeasured runs that let the JIT compile the engines. */
+    private static final int WARMUP_RUNS = 3;
+
+    /** Number of measured runs; the best one is reported. */
+    private static final int MEASURED_RUNS = 5;
+
+    private SortBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args optional input size, {@code 1_000_000} by default
+     */
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        List<Barrel> barrels = new BarrelGenerator().generate(size);
+        List<Barrel> presorted = new ArrayList<>(barrels);
+        presorted.sort(Comparator.naturalOrder());
+
+        Map<String, Sort<Barrel>> engines = new LinkedHashMap<>();
+        if (size <= INSERTION_SORT_LIMIT) {
+            engines.put("InsertionSort", new InsertionSort<>());
+        }
+        engines.put("TimSort", new TimSort<>());
+        engines.put("QuickSort", new QuickSort<>());
+        engines.put("ParallelMergeSort", new ParallelMergeSort<>());
+        engines.put("SampleSort", new SampleSort<>());
+        engines.put("RadixSort", RadixSort.forBarrels());
+
+        System.out.printf("%d barrels, %d processors%n", size, Runtime.getRuntime().availableProcessors());
+        System.out.printf("%-20s %12s %12s%n", "engine", "random, ms", "sorted, ms");
+        for (Map.Entry<String, Sort<Barrel>> engine : engines.entrySet()) {
+            System.out.printf("%-20s %12.1f %12.1f%n", engine.getKey(),
+                    bestTimeMillis(engine.getValue(), barrels), bestTimeMillis(engine.getValue(), presorted));
+        }
+    }
+
+    /**
+     * Returns the best wall-clock time of several sorts of the same input, in milliseconds.
+     */
+    private static double bestTimeMillis(Sort<Barrel> engine, List<Barrel> input) {
+        long best = Long.MAX_VALUE;
+        for (int run = 0; run < WARMUP_RUNS + MEASURED_RUNS; run++) {
+            long start = System.nanoTime();
+            List<Barrel> sorted = engine.sort(input, Comparator.naturalOrder());
+            long elapsed = System.nanoTime() - start;
+            if (sorted.size() != input.size()) {
+                throw new IllegalStateException("Engine lost elements");
+            }
+            if (run >= WARMUP_RUNS) {
+                best = Math.min(best, elapsed);
+            }
+        }
+        return best / 1_000_000.0;
+    }
+}
@@ -0,0 +1,67 @@
+package com.team.sorting.sort;
+
+import com.team.sorting.model.Animal;
+import com.team.sorting.model.Barrel;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link SortKey} interface.
+ */
+class SortKeyTest {
+
+    /**
+     * Tests that a single-word key is extracted into a row-by-row array.
+     */
+    @Test
+    void testExtractAllSingleWord() {
+        SortKey<String> length = String::length;
+        assertEquals(1, length.words());
+        assertArrayEquals(new long[]{3, 0, 5}, length.extractAll(List.of("abc", "", "hello")));
+    }
+
+    /**
+     * Tests that a composite key concatenates the words of its parts, most significant first.
+     */
+    @Test
+    void testCompositeKey() {
+        SortKey<String> length = String::length;
+        SortKey<String> firstChar = s -> s.isEmpty() ? -1 : s.charAt(0);
+        SortKey<String> composite = SortKey.composite(length, firstChar);
+
+        assertEquals(2, composite.words());
+        assertEquals(2, composite.extract("ab"), "Single-word extraction returns the most significant word");
+        assertArrayEquals(new long[]{2, 'a', 0, -1}, composite.extractAll(List.of("ab", "")));
+    }
+
+    /**
+     * Tests that a composite key without parts is rejected.
+     */
+    @Test
+    void testEmptyCompositeThrows() {
+        assertThrows(IllegalArgumentException.class, SortKey::composite);
+    }
+
+    /**
+     * Tests that entity keys order entities like their natural ordering.
+     */
+    @Test
+    void testEntityKeysFollowNaturalOrder() {
+        Animal cat = new Animal.Builder().species(Animal.Species.CAT).eyeColor(Animal.EyeColor.YELLOW)
+                .fur(Animal.Fur.NONE).eatsBun(true).build();
+        Animal dog = new Animal.Builder().species(Animal.Species.DOG).eyeColor(Animal.EyeColor.BLUE)
+                .fur(Animal.Fur.SHORT).eatsBun(false).build();
+        assertTrue(cat.compareTo(dog) < 0);
+        assertTrue(SortKey.animal().extract(cat) < SortKey.animal().extract(dog));
+
+        Barrel small = new Barrel.Builder().volume(-5).storedMaterial(Barrel.StoredMaterial.WINE)
+                .material(Barrel.Material.WOOD).build();
+        Barrel large = new Barrel.Builder().volume(10).storedMaterial(Barrel.StoredMaterial.BEER)
+                .material(Barrel.Material.METAL).build();
+        assertTrue(small.compareTo(large) < 0);
+        assertTrue(SortKey.barrel().extract(small) < SortKey.barrel().extract(large));
+    }
+}
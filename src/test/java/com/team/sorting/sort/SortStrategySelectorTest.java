@@ -0,0 +1,165 @@
+package com.team.sorting.sort;
+
+import com.team.sorting.input.generator.AnimalGenerator;
+import com.team.sorting.input.generator.HumanGenerator;
+import com.team.sorting.model.Animal;
+import com.team.sorting.model.Human;
+import com.team.sorting.sort.SortStrategySelector.Strategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link SortStrategySelector} class.
+ */
+class SortStrategySelectorTest {
+
+    /**
+     * Tests the sort contract for trivial lists, a null comparator and a null key.
+     */
+    @Test
+    void testSortContract() {
+        SortStrategySelector<Integer> selector = new SortStrategySelector<>();
+        List<Integer> single = Collections.singletonList(1);
+        assertNull(selector.sort(null, Comparator.naturalOrder()));
+        assertSame(single, selector.sort(single, Comparator.naturalOrder()));
+        assertThrows(IllegalArgumentException.class, () -> selector.sort(Arrays.asList(2, 1), null));
+        assertThrows(IllegalArgumentException.class, () -> new SortStrategySelector<Integer>(null));
+    }
+
+    /**
+     * Tests that tiny lists are sorted with insertion sort.
+     */
+    @Test
+    void testSelectsInsertionForTinyLists() {
+        SortStrategySelector<Integer> selector = new SortStrategySelector<>(null, 8);
+        List<Integer> list = randomIntegers(SortStrategySelector.INSERTION_THRESHOLD - 1, 1);
+        assertEquals(Strategy.INSERTION, selector.select(list, Comparator.naturalOrder()));
+    }
+
+    /**
+     * Tests that nearly sorted and nearly reverse-sorted lists of any size are sorted with the adaptive merge sort.
+     */
+    @Test
+    void testSelectsAdaptiveMergeForPresortedLists() {
+        SortStrategySelector<Integer> selector = new SortStrategySelector<>(Integer::longValue, 8);
+        List<Integer> sorted = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+        Collections.swap(sorted, 10, 20);
+        List<Integer> reversed = new ArrayList<>(sorted);
+        Collections.reverse(reversed);
+
+        assertEquals(Strategy.ADAPTIVE_MERGE, selector.select(sorted, Comparator.naturalOrder()));
+        assertEquals(Strategy.ADAPTIVE_MERGE, selector.select(reversed, Comparator.reverseOrder()));
+        assertEquals(Strategy.ADAPTIVE_MERGE, selector.select(new LinkedList<>(sorted), Comparator.naturalOrder()));
+        assertEquals(Strategy.ADAPTIVE_MERGE, selector.select(reversed, Comparator.naturalOrder()),
+                "Reverse-sorted input should be reversed by the adaptive merge sort");
+    }
+
+    /**
+     * Tests that radix sort is chosen for random entities with a natural key, but only for natural ordering.
+     */
+    @Test
+    void testSelectsRadixOnlyForNaturalOrderWithKey() {
+        SortStrategySelector<Animal> selector = new SortStrategySelector<>(SortKey.animal(), 1);
+        List<Animal> animals = new AnimalGenerator().generate(1_000);
+
+        assertEquals(Strategy.RADIX, selector.select(animals, Comparator.naturalOrder()));
+        assertEquals(Strategy.ADAPTIVE_MERGE,
+                selector.select(animals, Comparator.comparing(Animal::getFur)),
+                "A key of the natural ordering must not be used for another comparator");
+    }
+
+    /**
+     * Tests that large random lists without a key are sorted in parallel only when there are several processors.
+     */
+    @Test
+    void testSelectsParallelMergeByProcessors() {
+        List<Human> humans = new HumanGenerator().generate(SortStrategySelector.PARALLEL_THRESHOLD);
+
+        assertEquals(Strategy.PARALLEL_MERGE,
+                new SortStrategySelector<Human>(null, 4).select(humans, Comparator.naturalOrder()));
+        assertEquals(Strategy.ADAPTIVE_MERGE,
+                new SortStrategySelector<Human>(null, 1).select(humans, Comparator.naturalOrder()));
+    }
+
+    /**
+     * Tests that every strategy sorts correctly and that the selections are counted.
+     */
+    @Test
+    void testSortsCorrectlyAndCountsSelections() {
+        SortStrategySelector<Integer> selector = new SortStrategySelector<>(Integer::longValue, 4);
+        List<List<Integer>> inputs = List.of(
+                randomIntegers(10, 1),
+                IntStream.range(0, 5_000).boxed().collect(Collectors.toList()),
+                randomIntegers(5_000, 2),
+                randomIntegers(SortStrategySelector.PARALLEL_THRESHOLD, 3));
+
+        for (List<Integer> input : inputs) {
+            List<Integer> expected = new ArrayList<>(input);
+            expected.sort(Comparator.naturalOrder());
+            assertEquals(expected, selector.sort(input, Comparator.naturalOrder()));
+        }
+        assertEquals(Map.of(Strategy.INSERTION, 1L, Strategy.ADAPTIVE_MERGE, 1L, Strategy.RADIX, 2L,
+                Strategy.PARALLEL_MERGE, 0L), selector.selectionCounts());
+
+        List<Integer> large = randomIntegers(SortStrategySelector.PARALLEL_THRESHOLD, 4);
+        Comparator<Integer> descending = Comparator.reverseOrder();
+        List<Integer> expected = new ArrayList<>(large);
+        expected.sort(descending);
+        assertEquals(expected, selector.sort(large, descending));
+        assertEquals(1L, selector.selectionCounts().get(Strategy.PARALLEL_MERGE));
+    }
+
+    /**
+     * Tests that decisions are logged at FINE level.
+     */
+    @Test
+    void testDecisionsAreLogged() {
+        Logger logger = Logger.getLogger(SortStrategySelector.class.getName());
+        List<String> messages = new ArrayList<>();
+        Handler handler = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                messages.add(record.getMessage());
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        Level previous = logger.getLevel();
+        logger.setLevel(Level.FINE);
+        logger.addHandler(handler);
+        try {
+            new SortStrategySelector<Integer>().sort(randomIntegers(10, 5), Comparator.naturalOrder());
+        } finally {
+            logger.removeHandler(handler);
+            logger.setLevel(previous);
+        }
+        assertEquals(1, messages.size());
+        assertTrue(messages.get(0).contains("INSERTION"), "The chosen strategy should be logged");
+    }
+
+    private static List<Integer> randomIntegers(int size, long seed) {
+        return new Random(seed).ints(size, -10_000, 10_000).boxed().collect(Collectors.toList());
+    }
+}
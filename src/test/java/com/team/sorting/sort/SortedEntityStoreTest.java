@@ -0,0 +1,221 @@
+package com.team.sorting.sort;
+
+import com.team.sorting.input.generator.AnimalGenerator;
+import com.team.sorting.model.Animal;
+import com.team.sorting.search.BinarySearch;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link SortedEntityStore} class.
+ */
+class SortedEntityStoreTest {
+
+    /**
+     * Tests that a null comparator is rejected and that an empty store behaves as an empty list.
+     */
+    @Test
+    void testEmptyStore() {
+        assertThrows(IllegalArgumentException.class, () -> new SortedEntityStore<Integer>(null));
+        SortedEntityStore<Integer> store = SortedEntityStore.naturalOrder();
+        assertTrue(store.isEmpty());
+        assertEquals(List.of(), store);
+        assertThrows(IndexOutOfBoundsException.class, () -> store.get(0));
+        assertFalse(store.remove(Integer.valueOf(1)));
+        assertEquals(0, store.lowerBound(5));
+    }
+
+    /**
+     * Tests random inserts and deletes against a list that is re-sorted after every change.
+     */
+    @Test
+    void testMatchesResortedList() {
+        Random random = new Random(17);
+        SortedEntityStore<Integer> store = SortedEntityStore.naturalOrder();
+        List<Integer> reference = new ArrayList<>();
+
+        for (int step = 0; step < 20_000; step++) {
+            int operation = random.nextInt(10);
+            if (operation < 6 || reference.isEmpty()) {
+                int value = random.nextInt(500);
+                store.add(value);
+                reference.add(value);
+                reference.sort(Comparator.naturalOrder());
+            } else if (operation < 8) {
+                int index = random.nextInt(reference.size());
+                assertEquals(reference.remove(index), store.remove(index));
+            } else {
+                Integer value = random.nextInt(500);
+                assertEquals(reference.remove(value), store.remove(value));
+            }
+            if (step % 1_000 == 0) {
+                assertEquals(reference, store.snapshot(), "Store should match the sorted reference at step " + step);
+            }
+        }
+        assertEquals(reference.size(), store.size());
+        for (int i = 0; i < reference.size(); i++) {
+            assertEquals(reference.get(i), store.get(i), "Element at index " + i);
+        }
+        for (int value = -1; value <= 500; value += 7) {
+            assertEquals(reference.indexOf(value), store.indexOf(value), "Index of " + value);
+        }
+    }
+
+    /**
+     * Tests that the store can be handed to {@link BinarySearch} without re-sorting.
+     */
+    @Test
+    void testBinarySearchOnStore() {
+        List<Animal> animals = new AnimalGenerator().generate(300);
+        SortedEntityStore<Animal> store = SortedEntityStore.naturalOrder();
+        store.addAll(animals);
+
+        BinarySearch<Animal> search = new BinarySearch<>();
+        for (Animal animal : animals) {
+            int index = search.search(store, animal);
+            assertTrue(index >= 0, "Every stored animal should be found");
+            assertEquals(0, store.get(index).compareTo(animal));
+        }
+        for (int i = 1; i < store.size(); i++) {
+            assertTrue(store.get(i - 1).compareTo(store.get(i)) <= 0, "Store must stay sorted");
+        }
+    }
+
+    /**
+     * Tests that equal elements keep their insertion order and are removed by identity when they do not define equals.
+     */
+    @Test
+    void testEqualElementsKeepInsertionOrder() {
+        SortedEntityStore<int[]> store = new SortedEntityStore<>(Comparator.comparingInt(pair -> pair[0]));
+        int[] first = {1, 0};
+        int[] second = {1, 1};
+        int[] third = {1, 2};
+        int[] smaller = {0, 3};
+        store.add(first);
+        store.add(second);
+        store.add(smaller);
+        store.add(third);
+
+        assertEquals(List.of(smaller, first, second, third), store.snapshot());
+        assertEquals(2, store.indexOf(second));
+        assertEquals(1, store.lowerBound(new int[]{1, 9}));
+        assertTrue(store.remove(second));
+        assertFalse(store.contains(second));
+        assertEquals(List.of(smaller, first, third), store.snapshot());
+    }
+
+    /**
+     * Tests that positional changes are rejected and that iterators work on a read-only snapshot.
+     */
+    @Test
+    void testUnsupportedOperations() {
+        SortedEntityStore<Integer> store = SortedEntityStore.naturalOrder();
+        store.addAll(List.of(3, 1, 2));
+
+        assertThrows(UnsupportedOperationException.class, () -> store.add(0, 5));
+        assertThrows(UnsupportedOperationException.class, () -> store.set(0, 5));
+        Iterator<Integer> iterator = store.iterator();
+        store.add(0);
+        assertEquals(1, iterator.next(), "The iterator should not see later changes");
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+        store.clear();
+        assertTrue(store.isEmpty());
+    }
+
+    /**
+     * Tests that bulk removals delete the matching elements and keep the rest sorted.
+     */
+    @Test
+    void testBulkRemovals() {
+        SortedEntityStore<Integer> store = SortedEntityStore.naturalOrder();
+        store.addAll(List.of(5, 3, 8, 1, 3, 9, 2, 3));
+
+        assertTrue(store.removeIf(value -> value % 2 == 0));
+        assertEquals(List.of(1, 3, 3, 3, 5, 9), store.snapshot());
+        assertFalse(store.removeIf(value -> value > 100));
+
+        assertTrue(store.removeAll(List.of(3, 9, 42)));
+        assertEquals(List.of(1, 5), store.snapshot());
+        assertFalse(store.removeAll(List.of(7)));
+
+        store.addAll(List.of(4, 6, 5));
+        assertTrue(store.retainAll(List.of(5, 6)));
+        assertEquals(List.of(5, 5, 6), store.snapshot());
+        assertEquals(5, store.get(0));
+        assertEquals(3, store.size());
+
+        assertTrue(store.retainAll(List.of()));
+        assertTrue(store.isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> store.removeIf(null));
+        assertThrows(IllegalArgumentException.class, () -> store.removeAll(null));
+        assertThrows(IllegalArgumentException.class, () -> store.retainAll(null));
+    }
+
+    /**
+     * Tests that bulk removals of random elements match a plain list.
+     */
+    @Test
+    void testRemoveIfMatchesList() {
+        Random random = new Random(23);
+        SortedEntityStore<Integer> store = SortedEntityStore.naturalOrder();
+        List<Integer> reference = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            int value = random.nextInt(1_000);
+            store.add(value);
+            reference.add(value);
+        }
+        reference.sort(Comparator.naturalOrder());
+
+        store.removeIf(value -> value % 3 == 0);
+        reference.removeIf(value -> value % 3 == 0);
+        assertEquals(reference, store.snapshot());
+        for (int i = 0; i < reference.size(); i += 97) {
+            assertEquals(reference.get(i), store.get(i), "Element at index " + i);
+        }
+        store.add(0);
+        assertEquals(0, store.get(0));
+    }
+
+    /**
+     * Tests concurrent inserts from several threads.
+     */
+    @Test
+    void testConcurrentAdds() throws Exception {
+        SortedEntityStore<Integer> store = SortedEntityStore.naturalOrder();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int seed = t;
+                futures.add(executor.submit(() -> {
+                    Random random = new Random(seed);
+                    for (int i = 0; i < 5_000; i++) {
+                        store.add(random.nextInt(1_000));
+                        store.get(random.nextInt(store.size()));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        List<Integer> snapshot = store.snapshot();
+        assertEquals(20_000, snapshot.size());
+        List<Integer> sorted = new ArrayList<>(snapshot);
+        sorted.sort(Comparator.naturalOrder());
+        assertEquals(sorted, snapshot);
+    }
+}
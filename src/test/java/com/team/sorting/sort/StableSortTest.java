@@ -0,0 +1,205 @@
+package com.team.sorting.sort;
+
+import com.team.sorting.input.generator.HumanGenerator;
+import com.team.sorting.model.Human;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Property-based tests of the {@link StableSort} engines.
+ * Every engine is checked against generated datasets of several shapes, sizes and seeds: the result
+ * must be a permutation of the input, ordered by the comparator, with equal elements in input order,
+ * both for {@link Sort#sort(List, Comparator)} and for the in-place {@link Sort#sortArray(Object[], Comparator)}.
+ */
+class StableSortTest {
+
+    /** Seeds of the generated datasets; fixed so failures can be reproduced. */
+    private static final long[] SEEDS = {1L, 42L, 20_240_601L};
+
+    /** Dataset sizes every engine is checked with. */
+    private static final int[] SIZES = {2, 17, 300, 5_000, 60_000};
+
+    /** Largest dataset the quadratic {@link InsertionSort} is checked with. */
+    private static final int INSERTION_SORT_LIMIT = 5_000;
+
+    /** Size of the large dataset; sorting speed is measured by {@link SortBenchmark}, not checked here. */
+    private static final int LARGE_SIZE = 500_000;
+
+    /** Orders items by key only, so items with equal keys are equal for the sort. */
+    private static final Comparator<Item> BY_KEY = Comparator.comparingInt(Item::key);
+
+    /**
+     * Element of the generated datasets: a sort key and the position in the input.
+     */
+    private record Item(int key, int position) {
+    }
+
+    /**
+     * A named engine under test.
+     */
+    private record Engine(String name, Supplier<StableSort<Item>> factory, int maxSize) {
+    }
+
+    /**
+     * A named generator of keys for a given size and seed.
+     */
+    private record Shape(String name, KeyGenerator generator) {
+    }
+
+    /**
+     * Generates the key of every position of a dataset.
+     */
+    @FunctionalInterface
+    private interface KeyGenerator {
+        int key(int position, int size, SplittableRandom random);
+    }
+
+    private static List<Engine> engines() {
+        return List.of(
+                new Engine("InsertionSort", InsertionSort::new, INSERTION_SORT_LIMIT),
+                new Engine("TimSort", TimSort::new, Integer.MAX_VALUE),
+                new Engine("ParallelMergeSort", ParallelMergeSort::new, Integer.MAX_VALUE),
+                new Engine("SampleSort", SampleSort::new, Integer.MAX_VALUE),
+                new Engine("RadixSort", () -> new RadixSort<>(Item::key), Integer.MAX_VALUE),
+                new Engine("IntKeySort", () -> new IntKeySort<>(Item::key), Integer.MAX_VALUE));
+    }
+
+    private static List<Shape> shapes() {
+        return List.of(
+                new Shape("all equal", (i, size, random) -> 7),
+                new Shape("two keys", (i, size, random) -> random.nextInt(2)),
+                new Shape("few keys", (i, size, random) -> random.nextInt(16)),
+                new Shape("many keys", (i, size, random) -> random.nextInt(Math.max(1, size / 4))),
+                new Shape("negative keys", (i, size, random) -> random.nextInt(-1_000, 1_000)),
+                new Shape("ascending", (i, size, random) -> i / 3),
+                new Shape("descending", (i, size, random) -> (size - i) / 3),
+                new Shape("sawtooth", (i, size, random) -> i % 50),
+                new Shape("sorted with noise", (i, size, random) -> random.nextInt(100) == 0 ? random.nextInt(size) : i));
+    }
+
+    /**
+     * Checks stability and ordering of every engine on every dataset shape, size and seed.
+     */
+    @TestFactory
+    Stream<DynamicTest> testStabilityProperty() {
+        List<DynamicTest> tests = new ArrayList<>();
+        for (Engine engine : engines()) {
+            for (Shape shape : shapes()) {
+                for (int size : SIZES) {
+                    if (size > engine.maxSize()) {
+                        continue;
+                    }
+                    tests.add(DynamicTest.dynamicTest(engine.name() + ", " + shape.name() + ", n=" + size, () -> {
+                        StableSort<Item> sorter = engine.factory().get();
+                        for (long seed : SEEDS) {
+                            List<Item> input = generate(shape, size, seed);
+                            assertStablySorted(input, sorter.sort(input, BY_KEY),
+                                    engine.name() + " on " + shape.name() + " (seed " + seed + ")");
+                            Item[] array = input.toArray(new Item[0]);
+                            sorter.sortArray(array, BY_KEY);
+                            assertStablySorted(input, Arrays.asList(array),
+                                    engine.name() + " in place on " + shape.name() + " (seed " + seed + ")");
+                        }
+                    }));
+                }
+            }
+        }
+        return tests.stream();
+    }
+
+    /**
+     * Checks that every engine able to handle it sorts a large dataset stably.
+     */
+    @TestFactory
+    Stream<DynamicTest> testLargeDatasetStable() {
+        List<Item> input = generate(shapes().get(3), LARGE_SIZE, SEEDS[1]);
+        return engines().stream()
+                .filter(engine -> engine.maxSize() >= LARGE_SIZE)
+                .map(engine -> DynamicTest.dynamicTest(engine.name() + ", n=" + LARGE_SIZE, () -> {
+                    StableSort<Item> sorter = engine.factory().get();
+                    List<Item> sorted = sorter.sort(input, BY_KEY);
+                    assertStablySorted(input, sorted, engine.name());
+                }));
+    }
+
+    /**
+     * Tests the guarantee the reports rely on: humans with equal last names keep their input order.
+     */
+    @Test
+    void testHumansWithEqualLastNamesKeepInputOrder() {
+        List<Human> humans = new HumanGenerator().generate(20_000);
+        Map<Human, Integer> position = new IdentityHashMap<>();
+        for (int i = 0; i < humans.size(); i++) {
+            position.put(humans.get(i), i);
+        }
+        Comparator<Human> byLastName = Comparator.comparing(Human::getLastName,
+                Comparator.nullsFirst(Comparator.naturalOrder()));
+
+        List<StableSort<Human>> sorters = List.of(new TimSort<>(), new ParallelMergeSort<>(), new SampleSort<>());
+        for (StableSort<Human> sorter : sorters) {
+            String name = sorter.getClass().getSimpleName();
+            List<Human> sorted = sorter.sort(humans, byLastName);
+            for (int i = 1; i < sorted.size(); i++) {
+                Human previous = sorted.get(i - 1);
+                Human current = sorted.get(i);
+                int order = byLastName.compare(previous, current);
+                assertTrue(order < 0 || order == 0 && position.get(previous) < position.get(current),
+                        name + " must keep equal humans in input order at index " + i);
+            }
+        }
+    }
+
+    /**
+     * Tests that the engines are marked as stable, and that the unstable {@link QuickSort} is not.
+     */
+    @Test
+    void testStableSortMarker() {
+        for (Engine engine : engines()) {
+            assertInstanceOf(StableSort.class, engine.factory().get(), engine.name() + " should be stable");
+        }
+        Sort<Item> quickSort = new QuickSort<>();
+        assertFalse(quickSort instanceof StableSort, "QuickSort must not claim to be stable");
+    }
+
+    private static List<Item> generate(Shape shape, int size, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Item> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(new Item(shape.generator().key(i, size, random), i));
+        }
+        return items;
+    }
+
+    /**
+     * Asserts that {@code sorted} is a permutation of {@code input}, ordered by key, with equal keys in input order.
+     */
+    private static void assertStablySorted(List<Item> input, List<Item> sorted, String message) {
+        assertEquals(input.size(), sorted.size(), message + ": size must not change");
+        boolean[] seen = new boolean[input.size()];
+        for (int i = 0; i < sorted.size(); i++) {
+            Item item = sorted.get(i);
+            assertSame(input.get(item.position()), item, message + ": unknown element at index " + i);
+            assertFalse(seen[item.position()], message + ": duplicated element at index " + i);
+            seen[item.position()] = true;
+            if (i > 0) {
+                Item previous = sorted.get(i - 1);
+                assertTrue(previous.key() <= item.key(), message + ": out of order at index " + i);
+                assertTrue(previous.key() < item.key() || previous.position() < item.position(),
+                        message + ": equal elements swapped at index " + i);
+            }
+        }
+    }
+}
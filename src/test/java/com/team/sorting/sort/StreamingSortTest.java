@@ -0,0 +1,141 @@
+package com.team.sorting.sort;
+
+import com.team.sorting.input.generator.HumanGenerator;
+import com.team.sorting.model.Human;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link StreamingSort} class.
+ */
+class StreamingSortTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Tests that invalid configurations and null arguments are rejected.
+     */
+    @Test
+    void testInvalidArgumentsThrow() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new StreamingSort<Integer>(null, 10, ForkJoinPool.commonPool()));
+        assertThrows(IllegalArgumentException.class,
+                () -> new StreamingSort<Integer>(new TimSort<>(), 0, ForkJoinPool.commonPool()));
+        assertThrows(IllegalArgumentException.class, () -> new StreamingSort<Integer>(new TimSort<>(), 10, null));
+
+        StreamingSort<Integer> sorter = new StreamingSort<>();
+        assertThrows(IllegalArgumentException.class, () -> sorter.sort((Stream<Integer>) null, Comparator.naturalOrder()));
+        assertThrows(IllegalArgumentException.class, () -> sorter.sort(Stream.of(1), null));
+        assertThrows(IllegalArgumentException.class, () -> sorter.sort(List.of(1).iterator(), null));
+    }
+
+    /**
+     * Tests sorting an empty and a single-chunk input.
+     */
+    @Test
+    void testEmptyAndSingleChunk() {
+        StreamingSort<Integer> sorter = new StreamingSort<>(new TimSort<>(), 100, ForkJoinPool.commonPool());
+        assertFalse(sorter.sort(List.<Integer>of().iterator(), Comparator.naturalOrder()).hasNext());
+        assertEquals(List.of(1, 2, 3), sorter.sort(Stream.of(3, 1, 2), Comparator.naturalOrder()).toList());
+    }
+
+    /**
+     * Tests that an input spanning many chunks, including a partial last chunk, is fully sorted.
+     */
+    @Test
+    void testManyChunks() {
+        List<Integer> input = new Random(3).ints(10_007, -500, 500).boxed().collect(Collectors.toList());
+        List<Integer> expected = new ArrayList<>(input);
+        expected.sort(Comparator.reverseOrder());
+        StreamingSort<Integer> sorter = new StreamingSort<>(new ParallelMergeSort<>(), 100, ForkJoinPool.commonPool());
+
+        assertEquals(expected, sorter.sort(input.stream(), Comparator.reverseOrder()).toList());
+    }
+
+    /**
+     * Tests that humans with equal ages keep their generated order across chunks.
+     */
+    @Test
+    void testStableAcrossChunks() {
+        List<Human> humans = new HumanGenerator().generate(5_000);
+        Comparator<Human> byAge = Comparator.comparingInt(Human::getAge);
+        List<Human> expected = new TimSort<Human>().sort(humans, byAge);
+        StreamingSort<Human> sorter = new StreamingSort<>(new TimSort<>(), 64, ForkJoinPool.commonPool());
+
+        List<Human> sorted = sorter.sort(humans.stream(), byAge).toList();
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), sorted.get(i), "Equal humans should keep their input order at index " + i);
+        }
+    }
+
+    /**
+     * Tests that the returned stream is lazy and closes the input stream when closed.
+     */
+    @Test
+    void testStreamIsLazyAndClosesInput() {
+        AtomicInteger pulled = new AtomicInteger();
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<Integer> input = IntStream.range(0, 1_000).map(i -> 999 - i).boxed()
+                .peek(i -> pulled.incrementAndGet())
+                .onClose(() -> closed.set(true));
+        StreamingSort<Integer> sorter = new StreamingSort<>(new TimSort<>(), 100, ForkJoinPool.commonPool());
+
+        try (Stream<Integer> sorted = sorter.sort(input, Comparator.naturalOrder())) {
+            assertEquals(0, pulled.get(), "Nothing should be consumed before the terminal operation");
+            assertEquals(List.of(0, 1, 2), sorted.limit(3).toList());
+        }
+        assertEquals(1_000, pulled.get());
+        assertTrue(closed.get(), "Closing the sorted stream should close the input");
+    }
+
+    /**
+     * Tests that merging is lazy: the first element is returned without merging the remaining elements.
+     */
+    @Test
+    void testFirstResultWithoutFullMerge() {
+        AtomicInteger comparisons = new AtomicInteger();
+        Comparator<Integer> counting = (a, b) -> {
+            comparisons.incrementAndGet();
+            return Integer.compare(a, b);
+        };
+        List<Integer> input = new Random(5).ints(8_000).boxed().collect(Collectors.toList());
+        StreamingSort<Integer> sorter = new StreamingSort<>(new TimSort<>(), 1_000, ForkJoinPool.commonPool());
+
+        Iterator<Integer> sorted = sorter.sort(input.iterator(), counting);
+        int afterChunks = comparisons.get();
+        assertEquals(input.stream().min(Comparator.naturalOrder()).orElseThrow(), sorted.next());
+        assertTrue(comparisons.get() - afterChunks < 100,
+                "The first element should only cost a few heap comparisons");
+    }
+
+    /**
+     * Tests writing the sorted stream to a file.
+     */
+    @Test
+    void testSortToFile() throws IOException {
+        Path file = tempDir.resolve("sorted.txt");
+        StreamingSort<Integer> sorter = new StreamingSort<>(new TimSort<>(), 2, ForkJoinPool.commonPool());
+
+        sorter.sortToFile(Stream.of(5, 3, 4, 1, 2), Comparator.naturalOrder(), file.toString());
+
+        assertEquals(List.of("1", "2", "3", "4", "5", ""), Files.readAllLines(file));
+    }
+}
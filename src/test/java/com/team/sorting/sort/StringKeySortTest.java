@@ -0,0 +1,100 @@
+package com.team.sorting.sort;
+
+import com.team.sorting.input.generator.HumanGenerator;
+import com.team.sorting.model.Human;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link StringKeySort} class.
+ */
+class StringKeySortTest {
+
+    /**
+     * Tests the sort contract for trivial lists and null arguments.
+     */
+    @Test
+    void testSortContract() {
+        StringKeySort<String> sorter = new StringKeySort<>(Function.identity());
+        List<String> single = Collections.singletonList("a");
+        assertNull(sorter.sort(null, Comparator.naturalOrder()));
+        assertSame(single, sorter.sort(single, Comparator.naturalOrder()));
+        assertThrows(IllegalArgumentException.class, () -> sorter.sort(Arrays.asList("b", "a"), null));
+        assertThrows(IllegalArgumentException.class, () -> new StringKeySort<String>(null));
+    }
+
+    /**
+     * Tests strings with long shared prefixes, prefixes of each other, empty strings and non-ASCII characters.
+     */
+    @Test
+    void testSortStringsLikeCompareTo() {
+        Random random = new Random(21);
+        String[] prefixes = {"", "Mac", "McDonald", "Smith", "Smithson", "Ångström", "Zz"};
+        List<String> input = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder name = new StringBuilder(prefixes[random.nextInt(prefixes.length)]);
+            int suffix = random.nextInt(4);
+            for (int c = 0; c < suffix; c++) {
+                name.append((char) ('a' + random.nextInt(3)));
+            }
+            input.add(name.toString());
+        }
+        List<String> copy = new ArrayList<>(input);
+        List<String> expected = new ArrayList<>(input);
+        expected.sort(Comparator.naturalOrder());
+
+        assertEquals(expected, new StringKeySort<String>(Function.identity()).sort(input, Comparator.naturalOrder()));
+        assertEquals(copy, input, "Original list must remain unchanged");
+    }
+
+    /**
+     * Tests that humans end up in natural order, with null last names first and equal humans in input order.
+     */
+    @Test
+    void testHumansInNaturalOrderAndStable() {
+        List<Human> humans = new ArrayList<>(new HumanGenerator().generate(10_000));
+        humans.add(new Human.Builder().gender(Human.Gender.MALE).age(30).build());
+        humans.add(0, new Human.Builder().gender(Human.Gender.MALE).age(30).build());
+
+        List<Human> expected = new TimSort<Human>().sort(humans, Comparator.naturalOrder());
+        List<Human> sorted = StringKeySort.forHumansByLastName().sort(humans, Comparator.naturalOrder());
+
+        assertNull(sorted.get(0).getLastName(), "Null last names should come first");
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), sorted.get(i), "Human at index " + i);
+        }
+    }
+
+    /**
+     * Tests that the comparator is only used to order humans with the same last name.
+     */
+    @Test
+    void testComparatorOnlyBreaksTies() {
+        List<Human> humans = new HumanGenerator().generate(10_000);
+        AtomicInteger comparisons = new AtomicInteger();
+        Comparator<Human> counting = (a, b) -> {
+            comparisons.incrementAndGet();
+            assertEquals(a.getLastName(), b.getLastName(), "Only humans with equal last names may be compared");
+            return Integer.compare(a.getAge(), b.getAge());
+        };
+
+        List<Human> sorted = StringKeySort.forHumansByLastName().sort(humans, counting);
+
+        for (int i = 1; i < sorted.size(); i++) {
+            int byName = sorted.get(i - 1).getLastName().compareTo(sorted.get(i).getLastName());
+            assertTrue(byName < 0 || byName == 0 && sorted.get(i - 1).getAge() <= sorted.get(i).getAge(),
+                    "Humans should be ordered by last name, then age, at index " + i);
+        }
+        assertTrue(comparisons.get() > 0);
+    }
+}
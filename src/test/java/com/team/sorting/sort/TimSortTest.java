@@ -0,0 +1,150 @@
+package com.team.sorting.sort;
+
+import com.team.sorting.input.generator.AnimalGenerator;
+import com.team.sorting.model.Animal;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link TimSort} class.
+ * These tests verify sorting of random and presorted input, stability,
+ * immutability of the input list and exception handling.
+ */
+class TimSortTest {
+
+    private final TimSort<Integer> sorter = new TimSort<>();
+
+    /**
+     * Tests that null, empty and single-element lists are returned as they are.
+     */
+    @Test
+    void testSortTrivialLists() {
+        List<Integer> empty = Collections.emptyList();
+        List<Integer> single = Collections.singletonList(42);
+        assertNull(sorter.sort(null, Comparator.naturalOrder()));
+        assertSame(empty, sorter.sort(empty, Comparator.naturalOrder()));
+        assertSame(single, sorter.sort(single, Comparator.naturalOrder()));
+    }
+
+    /**
+     * Tests that sorting with a null comparator throws IllegalArgumentException.
+     */
+    @Test
+    void testSortNullComparatorThrows() {
+        List<Integer> list = Arrays.asList(3, 1, 2);
+        assertThrows(IllegalArgumentException.class, () -> sorter.sort(list, null));
+    }
+
+    /**
+     * Tests sorting a small list without modifying the input.
+     */
+    @Test
+    void testSortSmallList() {
+        List<Integer> list = Arrays.asList(5, 2, 9, 1, 7);
+
+        assertEquals(Arrays.asList(1, 2, 5, 7, 9), sorter.sort(list, Comparator.naturalOrder()));
+        assertEquals(Arrays.asList(5, 2, 9, 1, 7), list, "Original list must remain unchanged");
+    }
+
+    /**
+     * Tests sorting large random lists with many duplicates, which exercises run merging and galloping.
+     */
+    @Test
+    void testSortLargeRandomList() {
+        Random random = new Random(7);
+        for (int bound : new int[]{10, 1_000, Integer.MAX_VALUE}) {
+            List<Integer> list = new ArrayList<>();
+            for (int i = 0; i < 50_000; i++) {
+                list.add(random.nextInt(bound));
+            }
+            List<Integer> expected = new ArrayList<>(list);
+            Collections.sort(expected);
+
+            assertEquals(expected, sorter.sort(list, Comparator.naturalOrder()));
+        }
+    }
+
+    /**
+     * Tests that presorted and reverse-sorted input is handled in a single pass of n - 1 comparisons.
+     */
+    @Test
+    void testPresortedInputIsLinear() {
+        List<Integer> ascending = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ascending.add(i);
+        }
+        List<Integer> descending = new ArrayList<>(ascending);
+        Collections.reverse(descending);
+
+        AtomicInteger comparisons = new AtomicInteger();
+        Comparator<Integer> counting = (a, b) -> {
+            comparisons.incrementAndGet();
+            return Integer.compare(a, b);
+        };
+
+        assertEquals(ascending, sorter.sort(ascending, counting));
+        assertEquals(ascending.size() - 1, comparisons.get());
+
+        comparisons.set(0);
+        assertEquals(ascending, sorter.sort(descending, counting));
+        assertEquals(ascending.size() - 1, comparisons.get());
+    }
+
+    /**
+     * Tests sorting input made of several presorted blocks, as produced by appended loader files.
+     */
+    @Test
+    void testSortConcatenatedRuns() {
+        List<Integer> list = new ArrayList<>();
+        for (int block = 0; block < 20; block++) {
+            for (int i = 0; i < 1_000; i++) {
+                list.add(block % 2 == 0 ? i * 3 + block : 5_000 - i);
+            }
+        }
+        List<Integer> expected = new ArrayList<>(list);
+        Collections.sort(expected);
+
+        assertEquals(expected, sorter.sort(list, Comparator.naturalOrder()));
+    }
+
+    /**
+     * Tests that animals equal by natural ordering keep their input order.
+     */
+    @Test
+    void testSortIsStable() {
+        List<Animal> animals = distinctAnimals(10_000);
+        List<Animal> sorted = new TimSort<Animal>().sort(animals, Comparator.naturalOrder());
+
+        List<Animal> expected = new ArrayList<>(animals);
+        expected.sort(Comparator.naturalOrder());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), sorted.get(i), "Equal animals must keep their input order");
+        }
+    }
+
+    /**
+     * Generates animals and rebuilds each one, so that equal animals are distinct objects: the generator
+     * returns one shared instance per value, which would make identity checks of stability vacuous.
+     */
+    private static List<Animal> distinctAnimals(int size) {
+        List<Animal> animals = new ArrayList<>(size);
+        for (Animal animal : new AnimalGenerator().generate(size)) {
+            animals.add(new Animal.Builder()
+                    .species(animal.getSpecies())
+                    .eyeColor(animal.getEyeColor())
+                    .fur(animal.getFur())
+                    .eatsBun(animal.getEatsBun())
+                    .build());
+        }
+        return animals;
+    }
+}
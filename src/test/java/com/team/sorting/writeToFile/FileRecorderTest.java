@@ -75,4 +75,18 @@ class FileRecorderTest {
         assertEquals(List.of(""), lines,
                 "File should contain only a blank line for an empty collection");
     }
+
+    /**
+     * Tests that writing an iterator appends its remaining elements in the same format as a collection.
+     */
+    @Test
+    void testWriteIteratorToFile() throws IOException {
+        Path file = tempDir.resolve("iterator.txt");
+
+        FileRecorder.writeIteratorToFile(List.of("A", "B", "C").iterator(), file.toString());
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(List.of("A", "B", "C", ""), lines,
+                "File should contain all values followed by a blank line");
+    }
 }